@@ -0,0 +1,61 @@
+package com.auth.benchmark;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.auth.api.model.Tokens;
+import com.auth.api.model.User;
+import com.auth.core.service.AuthService;
+import com.auth.core.store.InMemoryRefreshTokenStore;
+import com.auth.support.jwt.JwtTokenService;
+
+/** {@link AuthService} login/refresh 처리량을 측정합니다. SPI는 메모리 구현을 사용합니다. */
+@State(Scope.Benchmark)
+public class AuthServiceBenchmark {
+
+	@Param({"1", "8", "32"})
+	public int authorityCount;
+
+	private AuthService authService;
+
+	@Setup
+	public void setUp() {
+		User user = new User("user-1", "admin", "hashed", BenchmarkFixtures.authorities(authorityCount));
+		authService = new AuthService(
+			username -> "admin".equals(username) ? Optional.of(user) : Optional.empty(),
+			(rawPassword, storedHash) -> "hashed".equals(storedHash),
+			new JwtTokenService(BenchmarkFixtures.SECRET, 3600, 7200),
+			new InMemoryRefreshTokenStore(),
+			Duration.ofDays(14)
+		);
+	}
+
+	@Benchmark
+	public Tokens login() {
+		return authService.login("admin", "plain-password");
+	}
+
+	/** 스레드마다 자신이 마지막으로 받은 refresh token으로 계속 회전합니다. */
+	@State(Scope.Thread)
+	public static class RefreshState {
+		private String refreshToken;
+
+		@Setup
+		public void setUp(AuthServiceBenchmark benchmark) {
+			refreshToken = benchmark.authService.login("admin", "plain-password").getRefreshToken();
+		}
+	}
+
+	@Benchmark
+	public Tokens refresh(RefreshState state) {
+		Tokens tokens = authService.refresh(state.refreshToken);
+		state.refreshToken = tokens.getRefreshToken();
+		return tokens;
+	}
+}
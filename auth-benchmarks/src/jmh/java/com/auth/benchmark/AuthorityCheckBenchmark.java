@@ -0,0 +1,55 @@
+package com.auth.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.auth.api.model.AuthoritySet;
+import com.auth.api.model.Principal;
+
+/** 권한 목록 {@code contains}와 bitset 권한 확인을 비교합니다. 확인하는 권한은 목록의 마지막 항목입니다. */
+@State(Scope.Benchmark)
+public class AuthorityCheckBenchmark {
+
+	@Param({"4", "32"})
+	public int authorityCount;
+
+	private Principal principal;
+	private List<String> authorities;
+	private String lastAuthority;
+	private AuthoritySet required;
+
+	@Setup
+	public void setUp() {
+		principal = BenchmarkFixtures.principal("user-1", authorityCount, 0, 1);
+		authorities = principal.getAuthorities();
+		// 토큰에서 읽은 문자열처럼 목록의 인스턴스와 다른 문자열로 확인합니다.
+		lastAuthority = new String("ROLE_" + (authorityCount - 1));
+		required = AuthoritySet.of("ROLE_0", lastAuthority);
+		principal.getAuthoritySet();
+	}
+
+	@Benchmark
+	public boolean listContains() {
+		return authorities.contains(lastAuthority);
+	}
+
+	@Benchmark
+	public boolean hasAuthority() {
+		return principal.hasAuthority(lastAuthority);
+	}
+
+	@Benchmark
+	public boolean listContainsAll() {
+		return authorities.contains("ROLE_0") && authorities.contains(lastAuthority);
+	}
+
+	@Benchmark
+	public boolean hasAllAuthorities() {
+		return principal.hasAllAuthorities(required);
+	}
+}
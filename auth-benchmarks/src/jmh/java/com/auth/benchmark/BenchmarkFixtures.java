@@ -0,0 +1,41 @@
+package com.auth.benchmark;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.auth.api.model.Principal;
+
+/** 벤치마크 공통 입력 데이터입니다. */
+final class BenchmarkFixtures {
+
+	static final String SECRET = "01234567890123456789012345678901";
+
+	private BenchmarkFixtures() {}
+
+	static List<String> authorities(int count) {
+		List<String> authorities = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			authorities.add("ROLE_" + i);
+		}
+		return authorities;
+	}
+
+	/**
+	 * @param attributeCount 부가 속성 수
+	 * @param valueLength 속성 값 길이. 토큰 크기를 조절합니다.
+	 */
+	static Map<String, Object> attributes(int attributeCount, int valueLength) {
+		Map<String, Object> attributes = new LinkedHashMap<>();
+		String value = "v".repeat(Math.max(1, valueLength));
+		for (int i = 0; i < attributeCount; i++) {
+			attributes.put("attr_" + i, value);
+		}
+		return attributes;
+	}
+
+	static Principal principal(String userId, int authorityCount, int attributeCount, int valueLength) {
+		return new Principal(userId, authorities(authorityCount), attributes(attributeCount, valueLength));
+	}
+}
@@ -0,0 +1,67 @@
+package com.auth.benchmark;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.auth.api.model.Principal;
+import com.auth.hybrid.DefaultHybridAuthenticationProvider;
+import com.auth.hybrid.HybridAuthenticationContext;
+import com.auth.hybrid.HybridAuthenticationProvider;
+import com.auth.session.DefaultSessionAuthenticationProvider;
+import com.auth.session.IdentitySessionPrincipalMapper;
+import com.auth.session.SessionStore;
+import com.auth.session.SimpleSessionStore;
+import com.auth.support.jwt.JwtTokenService;
+
+/** JWT 경로와 세션 경로의 하이브리드 인증 처리량을 비교합니다. */
+@State(Scope.Benchmark)
+public class HybridAuthenticationBenchmark {
+
+	public enum Path {
+		/** 유효한 access token으로 인증 */
+		JWT,
+		/** access token 없이 세션으로 인증 */
+		SESSION,
+		/** 잘못된 access token 검증에 실패한 뒤 세션으로 폴백 */
+		JWT_FALLBACK_TO_SESSION
+	}
+
+	@Param({"JWT", "SESSION", "JWT_FALLBACK_TO_SESSION"})
+	public Path path;
+
+	@Param({"1", "8"})
+	public int authorityCount;
+
+	private HybridAuthenticationProvider provider;
+	private HybridAuthenticationContext context;
+
+	@Setup
+	public void setUp() {
+		JwtTokenService tokenService = new JwtTokenService(BenchmarkFixtures.SECRET, 3600, 7200);
+		SessionStore store = new SimpleSessionStore();
+		provider = new DefaultHybridAuthenticationProvider(
+			tokenService,
+			new DefaultSessionAuthenticationProvider(store, new IdentitySessionPrincipalMapper())
+		);
+
+		Principal principal = BenchmarkFixtures.principal("user-1", authorityCount, 2, 16);
+		store.save("session-1", principal);
+		String accessToken = tokenService.issueAccessToken(principal);
+
+		switch (path) {
+			case JWT -> context = HybridAuthenticationContext.of(accessToken, null);
+			case SESSION -> context = HybridAuthenticationContext.of(null, "session-1");
+			case JWT_FALLBACK_TO_SESSION -> context = HybridAuthenticationContext.of(accessToken + "x", "session-1");
+		}
+	}
+
+	@Benchmark
+	public Optional<Principal> authenticate() {
+		return provider.authenticate(context);
+	}
+}
@@ -0,0 +1,73 @@
+package com.auth.benchmark;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.auth.api.model.Principal;
+import com.auth.support.jwt.JwtKeyRing;
+import com.auth.support.jwt.JwtSigningKey;
+import com.auth.support.jwt.JwtTokenService;
+
+/** 서명 알고리즘별 access token 발급/검증 처리량을 비교합니다. 검증 측은 공개키만 가진 키 묶음을 사용합니다. */
+@State(Scope.Benchmark)
+public class JwtSigningAlgorithmBenchmark {
+
+	@Param({"HS256", "RS256", "ES256"})
+	public String algorithm;
+
+	private JwtTokenService issuer;
+	private JwtTokenService verifier;
+	private Principal principal;
+	private String accessToken;
+
+	@Setup
+	public void setUp() throws Exception {
+		JwtSigningKey signingKey;
+		JwtKeyRing verificationKeys;
+		switch (algorithm) {
+			case "HS256":
+				signingKey = JwtSigningKey.hmac("hs-1", BenchmarkFixtures.SECRET);
+				verificationKeys = new JwtKeyRing().add(signingKey);
+				break;
+			case "RS256": {
+				KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+				generator.initialize(2048);
+				KeyPair keyPair = generator.generateKeyPair();
+				signingKey = JwtSigningKey.rsa("rsa-1", keyPair);
+				verificationKeys = new JwtKeyRing().add(JwtSigningKey.verificationOnly("rsa-1", signingKey.algorithm(), keyPair.getPublic()));
+				break;
+			}
+			case "ES256": {
+				KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+				generator.initialize(256);
+				KeyPair keyPair = generator.generateKeyPair();
+				signingKey = JwtSigningKey.ec("ec-1", keyPair);
+				verificationKeys = new JwtKeyRing().add(JwtSigningKey.verificationOnly("ec-1", signingKey.algorithm(), keyPair.getPublic()));
+				break;
+			}
+			default:
+				throw new IllegalArgumentException("unknown algorithm: " + algorithm);
+		}
+
+		issuer = JwtTokenService.builder(JwtKeyRing.of(signingKey)).accessSeconds(3600).build();
+		verifier = JwtTokenService.builder(verificationKeys).accessSeconds(3600).build();
+		principal = BenchmarkFixtures.principal("user-1", 8, 4, 16);
+		accessToken = issuer.issueAccessToken(principal);
+	}
+
+	@Benchmark
+	public String issueAccessToken() {
+		return issuer.issueAccessToken(principal);
+	}
+
+	@Benchmark
+	public Principal verifyAccessToken() {
+		return verifier.verifyAccessToken(accessToken);
+	}
+}
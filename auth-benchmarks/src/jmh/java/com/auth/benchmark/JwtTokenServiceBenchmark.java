@@ -0,0 +1,70 @@
+package com.auth.benchmark;
+
+import java.time.Duration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.auth.api.model.Principal;
+import com.auth.support.jwt.CachingTokenService;
+import com.auth.support.jwt.JwtTokenService;
+
+/** JWT 발급/검증 hot path 처리량과 할당량(B/op, -prof gc)을 측정합니다. */
+@State(Scope.Benchmark)
+public class JwtTokenServiceBenchmark {
+
+	@Param({"1", "8", "32"})
+	public int authorityCount;
+
+	@Param({"0", "4", "16"})
+	public int attributeCount;
+
+	/** 속성 값 길이로 토큰 크기를 조절합니다. */
+	@Param({"16", "256"})
+	public int attributeValueLength;
+
+	private JwtTokenService tokenService;
+	private JwtTokenService jjwtTokenService;
+	private CachingTokenService cachingTokenService;
+	private Principal principal;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		tokenService = JwtTokenService.builder(BenchmarkFixtures.SECRET).accessSeconds(3600).hs256FastPath(true).build();
+		jjwtTokenService = JwtTokenService.builder(BenchmarkFixtures.SECRET).accessSeconds(3600).build();
+		cachingTokenService = CachingTokenService.builder(tokenService).ttl(Duration.ofMinutes(5)).build();
+		principal = BenchmarkFixtures.principal("user-1", authorityCount, attributeCount, attributeValueLength);
+		accessToken = tokenService.issueAccessToken(principal);
+	}
+
+	@Benchmark
+	public String issueAccessToken() {
+		return tokenService.issueAccessToken(principal);
+	}
+
+	/** 직접 쓰는 HS256 경로를 끈 jjwt builder 발급. {@link #issueAccessToken}과 비교합니다. */
+	@Benchmark
+	public String issueAccessTokenJjwt() {
+		return jjwtTokenService.issueAccessToken(principal);
+	}
+
+	@Benchmark
+	public Principal verifyAccessToken() {
+		return tokenService.verifyAccessToken(accessToken);
+	}
+
+	/** 직접 읽는 HS256 경로를 끈 jjwt parser 검증. {@link #verifyAccessToken}과 비교합니다. */
+	@Benchmark
+	public Principal verifyAccessTokenJjwt() {
+		return jjwtTokenService.verifyAccessToken(accessToken);
+	}
+
+	@Benchmark
+	public Principal verifyAccessTokenCached() {
+		return cachingTokenService.verifyAccessToken(accessToken);
+	}
+}
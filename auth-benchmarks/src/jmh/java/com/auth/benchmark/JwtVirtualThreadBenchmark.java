@@ -0,0 +1,73 @@
+package com.auth.benchmark;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.auth.api.model.Principal;
+import com.auth.core.service.AuthExecution;
+import com.auth.support.jwt.JwtTokenService;
+
+/**
+ * 요청마다 새 스레드에서 JWT를 발급/검증할 때의 처리량과 할당량(B/op, -prof gc)을 측정합니다.
+ * <p>호출마다 {@link AuthExecution#ioExecutor()}의 새 작업으로 실행하므로 Java 21 이상에서는 작업마다 새 virtual thread입니다.
+ * 스레드별 캐시가 재사용되지 않는 조건에서 직접 쓰고 읽는 HS256 경로({@code direct})와 jjwt 경로({@code jjwt})를 비교합니다.
+ * {@code -PjmhJavaVersion=21}로 실행합니다.</p>
+ */
+@State(Scope.Benchmark)
+public class JwtVirtualThreadBenchmark {
+
+	private static final int CALLERS = 1_000;
+
+	@Param({"direct", "jjwt"})
+	public String path;
+
+	private AuthExecution execution;
+	private JwtTokenService tokenService;
+	private Principal principal;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		execution = AuthExecution.create();
+		tokenService = JwtTokenService.builder(BenchmarkFixtures.SECRET)
+			.accessSeconds(3600)
+			.hs256FastPath("direct".equals(path))
+			.build();
+		principal = BenchmarkFixtures.principal("user-1", 8, 4, 16);
+		accessToken = tokenService.issueAccessToken(principal);
+	}
+
+	@TearDown
+	public void tearDown() {
+		execution.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CALLERS)
+	public int issueAccessToken() {
+		CompletableFuture<?>[] calls = new CompletableFuture<?>[CALLERS];
+		for (int i = 0; i < CALLERS; i++) {
+			calls[i] = CompletableFuture.supplyAsync(() -> tokenService.issueAccessToken(principal), execution.ioExecutor());
+		}
+		CompletableFuture.allOf(calls).join();
+		return calls.length;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CALLERS)
+	public int verifyAccessToken() {
+		CompletableFuture<?>[] calls = new CompletableFuture<?>[CALLERS];
+		for (int i = 0; i < CALLERS; i++) {
+			calls[i] = CompletableFuture.supplyAsync(() -> tokenService.verifyAccessToken(accessToken), execution.ioExecutor());
+		}
+		CompletableFuture.allOf(calls).join();
+		return calls.length;
+	}
+}
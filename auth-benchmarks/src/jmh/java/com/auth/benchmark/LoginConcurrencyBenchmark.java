@@ -0,0 +1,162 @@
+package com.auth.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.auth.api.model.User;
+import com.auth.core.service.AuthExecution;
+import com.auth.core.service.AuthService;
+import com.auth.core.store.InMemoryRefreshTokenStore;
+import com.auth.spi.PasswordVerifier;
+import com.auth.spi.RefreshTokenStore;
+import com.auth.spi.UserFinder;
+import com.auth.support.jwt.JwtTokenService;
+
+/**
+ * 동시 호출자 10,000명이 한꺼번에 login할 때의 처리량을 실행 모드별로 비교합니다.
+ * <ul>
+ * <li>{@code blocking}: 지금처럼 고정 크기 platform worker pool에서 {@link AuthService}를 호출합니다.</li>
+ * <li>{@code execution}: 호출마다 {@link AuthExecution#ioExecutor()}(Java 21 이상에서는 virtual thread)에서 호출하고,
+ * 비밀번호 검증만 코어 수 크기의 CPU executor로 넘깁니다.</li>
+ * </ul>
+ * <p>사용자 조회와 refresh token 저장은 {@code ioMillis}만큼 대기하고, 비밀번호 검증은 SHA-256을 {@code hashRounds}번
+ * 반복해 해시 계산 비용을 흉내 냅니다. Java 17에서 실행하면 {@code execution}은 256개로 고정한 platform thread 풀로
+ * 대신하므로, virtual thread 효과를 보려면 {@code -PjmhJavaVersion=21}로 Java 21 이상 JVM에서 실행합니다.</p>
+ */
+@State(Scope.Benchmark)
+public class LoginConcurrencyBenchmark {
+
+	private static final int CALLERS = 10_000;
+
+	@Param({"blocking", "execution"})
+	public String mode;
+
+	/** 블로킹 모델의 worker 스레드 수 */
+	@Param({"200"})
+	public int workerThreads;
+
+	@Param({"2"})
+	public int ioMillis;
+
+	@Param({"1000"})
+	public int hashRounds;
+
+	private ExecutorService callers;
+	private AuthExecution execution;
+	private AuthService authService;
+
+	@Setup
+	public void setUp() {
+		User user = new User("user-1", "admin", "hashed", BenchmarkFixtures.authorities(8));
+		UserFinder userFinder = username -> {
+			sleep(ioMillis);
+			return "admin".equals(username) ? Optional.of(user) : Optional.empty();
+		};
+		PasswordVerifier passwordVerifier = (rawPassword, storedHash) -> hash(rawPassword, hashRounds) != null;
+		RefreshTokenStore store = new SlowRefreshTokenStore(new InMemoryRefreshTokenStore(), ioMillis);
+		JwtTokenService tokenService = new JwtTokenService(BenchmarkFixtures.SECRET, 3600, 7200);
+
+		if ("blocking".equals(mode)) {
+			callers = Executors.newFixedThreadPool(workerThreads);
+			authService = new AuthService(userFinder, passwordVerifier, tokenService, store, Duration.ofDays(14));
+		} else {
+			execution = AuthExecution.create();
+			authService = execution.authService(userFinder, passwordVerifier, tokenService, store, Duration.ofDays(14));
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws InterruptedException {
+		if (callers != null) {
+			callers.shutdown();
+			callers.awaitTermination(10, TimeUnit.SECONDS);
+		}
+		if (execution != null) execution.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CALLERS)
+	public int login() {
+		CompletableFuture<?>[] logins = new CompletableFuture<?>[CALLERS];
+		for (int i = 0; i < CALLERS; i++) {
+			logins[i] = callers != null
+				? CompletableFuture.supplyAsync(() -> authService.login("admin", "plain-password"), callers)
+				: CompletableFuture.supplyAsync(() -> authService.login("admin", "plain-password"), execution.ioExecutor());
+		}
+		CompletableFuture.allOf(logins).join();
+		return logins.length;
+	}
+
+	private static byte[] hash(String rawPassword, int rounds) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			byte[] value = rawPassword.getBytes(StandardCharsets.UTF_8);
+			for (int i = 0; i < rounds; i++) {
+				value = digest.digest(value);
+			}
+			return value;
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void sleep(int millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/** 원격 저장소 왕복을 흉내 내기 위해 쓰기/회전마다 대기합니다. */
+	private static final class SlowRefreshTokenStore implements RefreshTokenStore {
+		private final RefreshTokenStore delegate;
+		private final int ioMillis;
+
+		private SlowRefreshTokenStore(RefreshTokenStore delegate, int ioMillis) {
+			this.delegate = delegate;
+			this.ioMillis = ioMillis;
+		}
+
+		@Override
+		public void save(String userId, String refreshToken, Instant expiresAt) {
+			sleep(ioMillis);
+			delegate.save(userId, refreshToken, expiresAt);
+		}
+
+		@Override
+		public void save(String userId, String familyId, String refreshToken, Instant expiresAt) {
+			sleep(ioMillis);
+			delegate.save(userId, familyId, refreshToken, expiresAt);
+		}
+
+		@Override
+		public boolean exists(String userId, String refreshToken) {
+			sleep(ioMillis);
+			return delegate.exists(userId, refreshToken);
+		}
+
+		@Override
+		public void revoke(String userId, String refreshToken) {
+			sleep(ioMillis);
+			delegate.revoke(userId, refreshToken);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.auth.benchmark;
+
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.auth.api.model.Principal;
+import com.auth.session.SecureRandomSessionIdGenerator;
+import com.auth.session.SessionIdGenerator;
+import com.auth.session.SessionStore;
+import com.auth.session.SimpleSessionStore;
+
+/** 세션 저장소 조회 처리량을 측정합니다. */
+@State(Scope.Benchmark)
+public class SessionStoreBenchmark {
+
+	@Param({"1000", "100000"})
+	public int sessionCount;
+
+	@Param({"1", "8"})
+	public int authorityCount;
+
+	private SessionStore store;
+	private String[] sessionIds;
+
+	@Setup
+	public void setUp() {
+		store = new SimpleSessionStore();
+		SessionIdGenerator generator = new SecureRandomSessionIdGenerator();
+		sessionIds = new String[sessionCount];
+		for (int i = 0; i < sessionCount; i++) {
+			sessionIds[i] = generator.generate();
+			store.save(sessionIds[i], BenchmarkFixtures.principal("user-" + i, authorityCount, 2, 16));
+		}
+	}
+
+	/** 스레드별로 조회할 세션 위치를 순환합니다. */
+	@State(Scope.Thread)
+	public static class Cursor {
+		private int next;
+	}
+
+	@Benchmark
+	public Optional<Principal> find(Cursor cursor) {
+		int index = cursor.next++;
+		if (cursor.next == sessionIds.length) cursor.next = 0;
+		return store.find(sessionIds[index]);
+	}
+}
@@ -13,5 +13,7 @@ public enum AuthFailureReason {
 	INVALID_CREDENTIALS,
 	INVALID_TOKEN,
 	REVOKED_TOKEN,
+	OVERLOADED,
+	RATE_LIMITED,
 	INTERNAL
 }
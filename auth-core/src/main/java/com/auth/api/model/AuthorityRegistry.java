@@ -0,0 +1,89 @@
+package com.auth.api.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.auth.common.utils.Strings;
+
+/**
+ * 권한 이름을 작은 정수 id로 바꾸는 프로세스 전역 테이블입니다.
+ * <p>{@link AuthoritySet}과 {@link Principal}의 권한 확인은 이 id로 만든 bitset을 씁니다. id는 처음 등록한 순서대로 0부터 배정하고
+ * 바뀌지 않습니다. 프로세스 안에서만 의미가 있으므로 토큰이나 세션에 기록하지 않습니다.
+ * (토큰에 기록하는 고정 bit 위치는 auth-jwt의 {@code AuthorityDictionary}가 따로 관리합니다.)</p>
+ * <p>등록된 이름 조회는 잠금 없이 맵 조회 한 번으로 끝나고, 새 이름 등록만 잠급니다.
+ * 등록 수가 상한에 닿으면 더 등록하지 않고 -1을 반환하며, 그 이름은 {@link AuthoritySet}이 문자열로 따로 보관합니다.</p>
+ */
+public final class AuthorityRegistry {
+
+	/** 공유 테이블에 등록할 수 있는 최대 권한 수 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+	private static final AuthorityRegistry SHARED = new AuthorityRegistry(DEFAULT_MAXIMUM_SIZE);
+
+	private final int maximumSize;
+	private final ConcurrentHashMap<String, Integer> ids = new ConcurrentHashMap<>();
+	/** id 순서의 이름. 등록 시 배열 원소를 먼저 쓰고 {@link #ids}에 넣으므로 id를 읽은 스레드는 이름도 볼 수 있습니다. */
+	private volatile String[] names = new String[64];
+	private int size;
+
+	AuthorityRegistry(int maximumSize) {
+		if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive");
+		this.maximumSize = maximumSize;
+	}
+
+	/** {@link Principal}과 {@link AuthoritySet}이 쓰는 공유 테이블 */
+	public static AuthorityRegistry shared() {
+		return SHARED;
+	}
+
+	/**
+	 * 권한 이름의 id를 반환합니다. 처음 보는 이름이면 다음 id를 배정합니다.
+	 * @return id, 상한에 닿아 등록할 수 없으면 -1
+	 */
+	public int intern(String authority) {
+		Strings.requireNonNull(authority, "authority");
+		Integer id = ids.get(authority);
+		return id != null ? id : register(authority);
+	}
+
+	/**
+	 * 등록된 이름의 id를 반환합니다. 등록하지 않습니다.
+	 * @return id, 등록되지 않은 이름이면 -1
+	 */
+	public int idOf(String authority) {
+		if (authority == null) return -1;
+		Integer id = ids.get(authority);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * id에 해당하는 권한 이름을 반환합니다.
+	 * @throws IllegalArgumentException 배정되지 않은 id인 경우
+	 */
+	public String nameOf(int id) {
+		String[] current = names;
+		String name = id >= 0 && id < current.length ? current[id] : null;
+		if (name == null) throw new IllegalArgumentException("unknown authority id: " + id);
+		return name;
+	}
+
+	/** 등록된 권한 수 */
+	public int size() {
+		return ids.size();
+	}
+
+	private synchronized int register(String authority) {
+		Integer existing = ids.get(authority);
+		if (existing != null) return existing;
+		if (size >= maximumSize) return -1;
+
+		String[] current = names;
+		if (size == current.length) current = Arrays.copyOf(current, Math.min(current.length * 2, maximumSize));
+		int id = size;
+		current[id] = authority;
+		names = current;
+		ids.put(authority, id);
+		size++;
+		return id;
+	}
+}
@@ -0,0 +1,115 @@
+package com.auth.api.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import com.auth.common.utils.Strings;
+
+/**
+ * {@link AuthorityRegistry} id로 만든 불변 권한 bitset입니다.
+ * <p>이름 하나는 맵 조회 한 번과 bit 확인으로, 집합끼리는 64개 단위 word 비교로 확인합니다.
+ * 자주 쓰는 검사 조건은 {@link #of}로 한 번 만들어 두고 {@link Principal#hasAnyAuthority(AuthoritySet)} 등에 넘깁니다.</p>
+ * <p>id는 프로세스 안에서만 유효하므로 직렬화하지 않습니다.</p>
+ */
+public final class AuthoritySet {
+
+	private static final long[] NO_WORDS = new long[0];
+	private static final String[] NO_NAMES = new String[0];
+
+	/** 빈 집합 */
+	public static final AuthoritySet EMPTY = new AuthoritySet(NO_WORDS, NO_NAMES);
+
+	private final long[] words;
+	/** 등록 상한 때문에 id를 받지 못한 이름. 보통 비어 있습니다. */
+	private final String[] unregistered;
+
+	private AuthoritySet(long[] words, String[] unregistered) {
+		this.words = words;
+		this.unregistered = unregistered;
+	}
+
+	/** 주어진 권한들의 집합을 만듭니다. 처음 보는 이름은 공유 테이블에 등록합니다. */
+	public static AuthoritySet of(String... authorities) {
+		Strings.requireNonNull(authorities, "authorities");
+		return of(Arrays.asList(authorities));
+	}
+
+	/** 주어진 권한들의 집합을 만듭니다. null 원소는 건너뜁니다. */
+	public static AuthoritySet of(Collection<String> authorities) {
+		Strings.requireNonNull(authorities, "authorities");
+		if (authorities.isEmpty()) return EMPTY;
+
+		AuthorityRegistry registry = AuthorityRegistry.shared();
+		long[] words = NO_WORDS;
+		List<String> unregistered = null;
+		for (String authority : authorities) {
+			if (authority == null) continue;
+			int id = registry.intern(authority);
+			if (id < 0) {
+				if (unregistered == null) unregistered = new ArrayList<>();
+				if (!unregistered.contains(authority)) unregistered.add(authority);
+				continue;
+			}
+			int word = id >>> 6;
+			if (word >= words.length) words = Arrays.copyOf(words, word + 1);
+			words[word] |= 1L << id;
+		}
+		return new AuthoritySet(words, unregistered == null ? NO_NAMES : unregistered.toArray(NO_NAMES));
+	}
+
+	/** 권한을 가지고 있으면 true. 공유 테이블에 없는 이름을 등록하지 않습니다. */
+	public boolean contains(String authority) {
+		if (authority == null) return false;
+		int id = AuthorityRegistry.shared().idOf(authority);
+		if (id >= 0) {
+			int word = id >>> 6;
+			return word < words.length && (words[word] & (1L << id)) != 0;
+		}
+		return containsUnregistered(authority);
+	}
+
+	/** other의 권한을 하나라도 가지고 있으면 true. other가 비어 있으면 false */
+	public boolean containsAny(AuthoritySet other) {
+		Strings.requireNonNull(other, "other");
+		for (int i = 0, size = Math.min(words.length, other.words.length); i < size; i++) {
+			if ((words[i] & other.words[i]) != 0) return true;
+		}
+		for (String name : other.unregistered) {
+			if (containsUnregistered(name)) return true;
+		}
+		return false;
+	}
+
+	/** other의 권한을 모두 가지고 있으면 true. other가 비어 있으면 true */
+	public boolean containsAll(AuthoritySet other) {
+		Strings.requireNonNull(other, "other");
+		for (int i = 0; i < other.words.length; i++) {
+			long mine = i < words.length ? words[i] : 0L;
+			if ((other.words[i] & ~mine) != 0) return false;
+		}
+		for (String name : other.unregistered) {
+			if (!containsUnregistered(name)) return false;
+		}
+		return true;
+	}
+
+	/** 권한 수 */
+	public int size() {
+		int count = unregistered.length;
+		for (long word : words) count += Long.bitCount(word);
+		return count;
+	}
+
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	private boolean containsUnregistered(String authority) {
+		for (String name : unregistered) {
+			if (name.equals(authority)) return true;
+		}
+		return false;
+	}
+}
@@ -3,6 +3,7 @@ package com.auth.api.model;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import com.auth.api.exception.AuthException;
 import com.auth.api.exception.AuthFailureReason;
@@ -10,6 +11,10 @@ import com.auth.common.utils.Strings;
 
 /**
  * Principal은 인증된 주체의 신원을 표현하며, 권한 및 부가 속성을 전달합니다.
+ * <p>{@link #withLazyAttributes}로 만든 Principal은 부가 속성을 처음 읽을 때 한 번만 만듭니다.
+ * 사용자 ID와 권한만 쓰는 요청은 토큰의 나머지 클레임을 풀지 않습니다.</p>
+ * <p>권한 확인({@link #hasAuthority} 등)은 처음 호출할 때 {@link AuthoritySet} bitset을 만들어 목록을 다시 훑지 않습니다.
+ * {@link #getAuthorities()}는 호환을 위해 그대로 목록을 반환합니다.</p>
  */
 public final class Principal implements Serializable {
 
@@ -17,7 +22,12 @@ public final class Principal implements Serializable {
 
 	private final String userId;
 	private final List<String> authorities;
+	/** 생성 시점에 받은 부가 속성. 지연 생성하는 경우 null */
 	private final Map<String, Object> attributes;
+	/** 지연 생성하는 부가 속성. 생성 시점에 받은 경우 null */
+	private final transient LazyAttributes lazyAttributes;
+	/** 처음 권한을 확인할 때 만듭니다. id가 프로세스 안에서만 유효하므로 직렬화하지 않습니다. */
+	private transient volatile AuthoritySet authoritySet;
 
 	public Principal(String userId) {
 		this(userId, List.of(), Map.of());
@@ -31,6 +41,14 @@ public final class Principal implements Serializable {
 		this(userId, List.of(), attributes);
 	}
 
+	/**
+	 * 생성자
+	 * <p>roles/attributes는 불변 복사본으로 보관합니다. 이미 {@code List.of}/{@code Map.of} 계열의 불변 컬렉션이면
+	 * {@code copyOf}가 같은 인스턴스를 그대로 돌려주므로 추가 복사가 일어나지 않습니다.</p>
+	 * @param userId 사용자 식별자
+	 * @param roles 권한(authority) 문자열 목록
+	 * @param attributes 부가 속성
+	 */
 	public Principal(String userId, List<String> roles, Map<String, Object> attributes) {
 		if (Strings.isBlank(userId)) {
 			throw new AuthException(AuthFailureReason.INVALID_INPUT, "userId must not be blank");
@@ -38,6 +56,32 @@ public final class Principal implements Serializable {
 		this.userId = userId;
 		this.authorities = roles == null ? List.of() : List.copyOf(roles);
 		this.attributes = attributes == null ? Map.of() : Map.copyOf(attributes);
+		this.lazyAttributes = null;
+	}
+
+	private Principal(String userId, List<String> authorities, Supplier<? extends Map<String, ?>> attributeLoader) {
+		if (Strings.isBlank(userId)) {
+			throw new AuthException(AuthFailureReason.INVALID_INPUT, "userId must not be blank");
+		}
+		this.userId = userId;
+		this.authorities = authorities == null ? List.of() : List.copyOf(authorities);
+		this.attributes = null;
+		this.lazyAttributes = new LazyAttributes(attributeLoader);
+	}
+
+	/**
+	 * 부가 속성을 처음 읽을 때 만드는 Principal을 생성합니다.
+	 * <p>{@code attributes}는 {@link #getAttributes()}/{@link #getAttribute(String)}를 처음 호출할 때 한 번만 호출하고,
+	 * 결과는 불변 복사본으로 보관합니다. 여러 스레드가 동시에 읽어도 한 번만 호출합니다.
+	 * 호출이 예외로 끝나면 그 예외를 그대로 던지고, 다음에 읽을 때 다시 호출합니다.</p>
+	 * <p>직렬화하면 부가 속성을 먼저 만들어 일반 Principal과 같은 형태로 기록합니다.</p>
+	 * @param userId 사용자 식별자
+	 * @param authorities 권한(authority) 문자열 목록
+	 * @param attributes 부가 속성을 만드는 함수. null을 반환하면 빈 맵으로 봅니다.
+	 */
+	public static Principal withLazyAttributes(String userId, List<String> authorities, Supplier<? extends Map<String, ?>> attributes) {
+		Strings.requireNonNull(attributes, "attributes");
+		return new Principal(userId, authorities, attributes);
 	}
 
 	public String getUserId() {
@@ -48,6 +92,51 @@ public final class Principal implements Serializable {
 		return authorities;
 	}
 
+	/** 권한 bitset. 같은 Principal에서는 한 번만 만듭니다. */
+	public AuthoritySet getAuthoritySet() {
+		AuthoritySet current = authoritySet;
+		if (current == null) {
+			current = AuthoritySet.of(authorities);
+			authoritySet = current;
+		}
+		return current;
+	}
+
+	/** 권한을 가지고 있으면 true */
+	public boolean hasAuthority(String authority) {
+		return getAuthoritySet().contains(authority);
+	}
+
+	/** 주어진 권한 중 하나라도 가지고 있으면 true */
+	public boolean hasAnyAuthority(String... authorities) {
+		Strings.requireNonNull(authorities, "authorities");
+		AuthoritySet granted = getAuthoritySet();
+		for (String authority : authorities) {
+			if (granted.contains(authority)) return true;
+		}
+		return false;
+	}
+
+	/** 미리 만든 집합의 권한 중 하나라도 가지고 있으면 true */
+	public boolean hasAnyAuthority(AuthoritySet authorities) {
+		return getAuthoritySet().containsAny(authorities);
+	}
+
+	/** 주어진 권한을 모두 가지고 있으면 true */
+	public boolean hasAllAuthorities(String... authorities) {
+		Strings.requireNonNull(authorities, "authorities");
+		AuthoritySet granted = getAuthoritySet();
+		for (String authority : authorities) {
+			if (!granted.contains(authority)) return false;
+		}
+		return true;
+	}
+
+	/** 미리 만든 집합의 권한을 모두 가지고 있으면 true */
+	public boolean hasAllAuthorities(AuthoritySet authorities) {
+		return getAuthoritySet().containsAll(authorities);
+	}
+
 	/**
 	 * @deprecated 역할(roles) 기반 API는 유지하되 authorities와 같은 리스트를 그대로 반환합니다.
 	 */
@@ -57,15 +146,50 @@ public final class Principal implements Serializable {
 	}
 
 	public Map<String, Object> getAttributes() {
-		return attributes;
+		return lazyAttributes == null ? attributes : lazyAttributes.get();
 	}
 
 	public Object getAttribute(String key) {
-		return attributes.get(key);
+		return getAttributes().get(key);
+	}
+
+	/** 지연 속성 Principal은 속성을 만들어 일반 Principal로 기록합니다. */
+	private Object writeReplace() {
+		return lazyAttributes == null ? this : new Principal(userId, authorities, lazyAttributes.get());
 	}
 
+	/** 아직 만들지 않은 지연 속성은 만들지 않고 표시만 합니다. */
 	@Override
 	public String toString() {
-		return "Principal(userId=" + userId + ", authorities=" + authorities + ", attributes=" + attributes.keySet() + ")";
+		Map<String, Object> current = lazyAttributes == null ? attributes : lazyAttributes.loaded;
+		return "Principal(userId=" + userId + ", authorities=" + authorities
+			+ ", attributes=" + (current == null ? "<not loaded>" : current.keySet()) + ")";
+	}
+
+	/** 처음 읽을 때 한 번만 부가 속성을 만드는 보관소 */
+	private static final class LazyAttributes {
+
+		private volatile Map<String, Object> loaded;
+		/** 부가 속성을 만들고 나면 null로 비워 원본(토큰 페이로드 등)을 놓아 줍니다. */
+		private Supplier<? extends Map<String, ?>> loader;
+
+		private LazyAttributes(Supplier<? extends Map<String, ?>> loader) {
+			this.loader = loader;
+		}
+
+		private Map<String, Object> get() {
+			Map<String, Object> current = loaded;
+			return current != null ? current : load();
+		}
+
+		private synchronized Map<String, Object> load() {
+			Map<String, Object> current = loaded;
+			if (current != null) return current;
+			Map<String, ?> result = loader.get();
+			current = result == null ? Map.of() : Map.copyOf(result);
+			loaded = current;
+			loader = null;
+			return current;
+		}
 	}
 }
@@ -0,0 +1,11 @@
+package com.auth.common.cache;
+
+/** 캐시 조회/제거 횟수 스냅샷입니다. */
+public record CacheStats(long hitCount, long missCount, long evictionCount) {
+
+	/** 전체 조회 중 hit 비율을 반환합니다. 조회가 없었다면 1.0 입니다. */
+	public double hitRate() {
+		long requests = hitCount + missCount;
+		return requests == 0 ? 1.0 : (double) hitCount / requests;
+	}
+}
@@ -0,0 +1,171 @@
+package com.auth.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.auth.common.utils.Strings;
+
+/**
+ * 크기 상한과 항목별 만료 시각을 함께 갖는 LRU 캐시입니다.
+ * <p>키 해시로 나눈 segment마다 access-order {@link LinkedHashMap}을 두고 해당 segment만 잠급니다.
+ * LRU 순서와 크기 상한은 segment 단위로 관리되므로 전체 기준으로는 근사 LRU 입니다.</p>
+ * <p>만료 시각은 호출자가 넘기는 epoch millis 기준이며, 만료된 항목은 조회 시점에 제거되고 반환되지 않습니다.</p>
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+public final class ExpiringLruCache<K, V> {
+
+	private static final int MAX_SEGMENTS = 16;
+
+	private final Segment<K, V>[] segments;
+	private final int segmentMask;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * 생성자
+	 * @param maximumSize 캐시가 보관할 최대 항목 수 (1 이상)
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public ExpiringLruCache(int maximumSize) {
+		if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize must be positive");
+		int segmentCount = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+		int perSegment = (maximumSize + segmentCount - 1) / segmentCount;
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			segments[i] = new Segment<>(perSegment, evictions);
+		}
+		this.segmentMask = segmentCount - 1;
+	}
+
+	/**
+	 * 키에 해당하는 값을 반환합니다.
+	 * @param nowMillis 현재 시각 (epoch millis). 만료 시각이 이 값 이하인 항목은 제거하고 null을 반환합니다.
+	 * @return 캐시된 값, 없거나 만료되었으면 null
+	 */
+	public V get(K key, long nowMillis) {
+		Segment<K, V> segment = segmentFor(key);
+		V value;
+		synchronized (segment) {
+			Entry<V> entry = segment.get(key);
+			if (entry == null) {
+				value = null;
+			} else if (entry.expiresAtMillis <= nowMillis) {
+				segment.remove(key);
+				evictions.increment();
+				value = null;
+			} else {
+				value = entry.value;
+			}
+		}
+		if (value == null) {
+			misses.increment();
+		} else {
+			hits.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * 값을 저장합니다. 같은 키가 있으면 덮어씁니다.
+	 * @param expiresAtMillis 항목 만료 시각 (epoch millis)
+	 */
+	public void put(K key, V value, long expiresAtMillis) {
+		Strings.requireNonNull(key, "key");
+		Strings.requireNonNull(value, "value");
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			segment.put(key, new Entry<>(value, expiresAtMillis));
+		}
+	}
+
+	/** 키에 해당하는 항목을 제거합니다. */
+	public void invalidate(K key) {
+		Segment<K, V> segment = segmentFor(key);
+		synchronized (segment) {
+			segment.remove(key);
+		}
+	}
+
+	/** 모든 항목을 제거합니다. */
+	public void invalidateAll() {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+	/**
+	 * 만료 시각이 지난 항목을 모두 제거합니다.
+	 * <p>조회되지 않는 만료 항목도 메모리에서 정리하고 싶을 때 주기적으로 호출합니다.</p>
+	 */
+	public void purgeExpired(long nowMillis) {
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				Iterator<Entry<V>> it = segment.values().iterator();
+				while (it.hasNext()) {
+					if (it.next().expiresAtMillis <= nowMillis) {
+						it.remove();
+						evictions.increment();
+					}
+				}
+			}
+		}
+	}
+
+	/** 현재 보관 중인 항목 수입니다. 만료되었지만 아직 정리되지 않은 항목도 포함합니다. */
+	public int size() {
+		int size = 0;
+		for (Segment<K, V> segment : segments) {
+			synchronized (segment) {
+				size += segment.size();
+			}
+		}
+		return size;
+	}
+
+	/** 누적 hit/miss/eviction 횟수를 반환합니다. */
+	public CacheStats stats() {
+		return new CacheStats(hits.sum(), misses.sum(), evictions.sum());
+	}
+
+	private Segment<K, V> segmentFor(Object key) {
+		int h = key.hashCode();
+		return segments[(h ^ (h >>> 16)) & segmentMask];
+	}
+
+	private static final class Entry<V> {
+		private final V value;
+		private final long expiresAtMillis;
+
+		private Entry(V value, long expiresAtMillis) {
+			this.value = value;
+			this.expiresAtMillis = expiresAtMillis;
+		}
+	}
+
+	private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int capacity;
+		private final transient LongAdder evictions;
+
+		private Segment(int capacity, LongAdder evictions) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+			this.evictions = evictions;
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+			if (size() <= capacity) return false;
+			evictions.increment();
+			return true;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.auth.common.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰 원문 대신 캐시/저장소 키로 쓰는 SHA-256 digest 값 객체입니다.
+ * <p>JWT 문자열 전체를 들고 있지 않도록 32바이트 digest를 long 4개로 보관합니다.</p>
+ */
+public final class TokenDigest {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(TokenDigest::newSha256);
+
+	private final long w0;
+	private final long w1;
+	private final long w2;
+	private final long w3;
+
+	private TokenDigest(long w0, long w1, long w2, long w3) {
+		this.w0 = w0;
+		this.w1 = w1;
+		this.w2 = w2;
+		this.w3 = w3;
+	}
+
+	/** 토큰 문자열의 UTF-8 바이트에 대한 SHA-256 digest를 계산합니다. */
+	public static TokenDigest of(String token) {
+		Strings.requireNonNull(token, "token");
+		byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+		ByteBuffer buffer = ByteBuffer.wrap(hash);
+		return new TokenDigest(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+	}
+
+	private static MessageDigest newSha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (!(o instanceof TokenDigest)) return false;
+		TokenDigest other = (TokenDigest) o;
+		return w0 == other.w0 && w1 == other.w1 && w2 == other.w2 && w3 == other.w3;
+	}
+
+	@Override
+	public int hashCode() {
+		// SHA-256 출력은 이미 고르게 분포하므로 첫 word만으로 충분합니다.
+		return Long.hashCode(w0);
+	}
+
+	@Override
+	public String toString() {
+		return "TokenDigest(" + Long.toHexString(w0) + "...)";
+	}
+}
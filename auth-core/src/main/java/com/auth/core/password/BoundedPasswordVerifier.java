@@ -0,0 +1,131 @@
+package com.auth.core.password;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+import com.auth.common.utils.Strings;
+import com.auth.spi.PasswordVerifier;
+
+/**
+ * 동시에 실행되는 비밀번호 검증 수를 제한하는 {@link PasswordVerifier} 데코레이터입니다.
+ * <p>로그인이 몰려도 해시 계산이 모든 코어를 차지하지 않도록 허용 수({@code maxConcurrent})만큼만 위임하고,
+ * 나머지는 최대 {@code maxWaiting}개까지 {@code acquireTimeout} 동안 기다립니다.
+ * 대기열이 가득 찼거나 제한 시간 안에 자리가 나지 않으면 해시 계산 없이 바로 {@code OVERLOADED}로 실패하므로,
+ * 로그인 폭주가 이미 로그인한 사용자의 토큰 검증까지 밀어내지 않습니다.</p>
+ * <p>자리가 있으면 잠금 대기 없이 바로 위임합니다. 현재 대기 수와 거절 횟수는 {@link #stats()}로 확인합니다.</p>
+ */
+public final class BoundedPasswordVerifier implements PasswordVerifier {
+
+	private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofMillis(200);
+
+	private final PasswordVerifier delegate;
+	private final Semaphore permits;
+	private final int maxConcurrent;
+	private final int maxWaiting;
+	private final long acquireTimeoutNanos;
+
+	private final AtomicInteger waiting = new AtomicInteger();
+	private final AtomicInteger peakWaiting = new AtomicInteger();
+	private final LongAdder admitted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder timedOut = new LongAdder();
+
+	/**
+	 * 대기열은 허용 수의 4배, 대기 시간은 200ms를 사용합니다.
+	 * @param delegate 실제 검증을 수행할 PasswordVerifier
+	 * @param maxConcurrent 동시에 실행할 검증 수 (0 이하이면 코어 수의 절반, 최소 1)
+	 */
+	public BoundedPasswordVerifier(PasswordVerifier delegate, int maxConcurrent) {
+		this(delegate, maxConcurrent, -1, DEFAULT_ACQUIRE_TIMEOUT);
+	}
+
+	/**
+	 * 생성자
+	 * @param delegate 실제 검증을 수행할 PasswordVerifier
+	 * @param maxConcurrent 동시에 실행할 검증 수 (0 이하이면 코어 수의 절반, 최소 1)
+	 * @param maxWaiting 자리를 기다릴 수 있는 호출 수. 0이면 기다리지 않고, 음수이면 허용 수의 4배
+	 * @param acquireTimeout 자리를 기다리는 최대 시간 (null 또는 음수이면 기본값 200ms)
+	 */
+	public BoundedPasswordVerifier(PasswordVerifier delegate, int maxConcurrent, int maxWaiting, Duration acquireTimeout) {
+		this.delegate = Strings.requireNonNull(delegate, "delegate");
+		this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		this.maxWaiting = maxWaiting >= 0 ? maxWaiting : this.maxConcurrent * 4;
+		this.acquireTimeoutNanos = (acquireTimeout == null || acquireTimeout.isNegative())
+			? DEFAULT_ACQUIRE_TIMEOUT.toNanos() : acquireTimeout.toNanos();
+		this.permits = new Semaphore(this.maxConcurrent);
+	}
+
+	/**
+	 * @throws AuthException 대기열이 가득 찼거나 제한 시간 안에 자리가 나지 않은 경우 ({@code OVERLOADED})
+	 */
+	@Override
+	public boolean matches(String rawPassword, String storedHash) {
+		if (!permits.tryAcquire()) awaitPermit();
+		admitted.increment();
+		try {
+			return delegate.matches(rawPassword, storedHash);
+		} finally {
+			permits.release();
+		}
+	}
+
+	@Override
+	public String dummyHash() {
+		return delegate.dummyHash();
+	}
+
+	private void awaitPermit() {
+		int depth = waiting.incrementAndGet();
+		try {
+			if (depth > maxWaiting) {
+				rejected.increment();
+				throw new AuthException(AuthFailureReason.OVERLOADED, "password verification queue is full");
+			}
+			peakWaiting.accumulateAndGet(depth, Math::max);
+			if (!permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS)) {
+				timedOut.increment();
+				throw new AuthException(AuthFailureReason.OVERLOADED, "password verification timed out waiting for capacity");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			rejected.increment();
+			throw new AuthException(AuthFailureReason.OVERLOADED, "interrupted while waiting for password verification", e);
+		} finally {
+			waiting.decrementAndGet();
+		}
+	}
+
+	/** 현재 실행/대기 수와 누적 통과/거절 횟수를 반환합니다. */
+	public Stats stats() {
+		return new Stats(
+			maxConcurrent - permits.availablePermits(),
+			waiting.get(),
+			peakWaiting.get(),
+			admitted.sum(),
+			rejected.sum(),
+			timedOut.sum()
+		);
+	}
+
+	/**
+	 * 동시 처리 제한 상태 스냅샷입니다.
+	 * @param inFlight 현재 실행 중인 검증 수
+	 * @param waiting 현재 자리를 기다리는 호출 수 (대기열 깊이)
+	 * @param peakWaiting 지금까지 가장 깊었던 대기열 깊이
+	 * @param admitted 위임까지 간 누적 호출 수
+	 * @param rejected 대기열이 가득 차 바로 거절한 누적 호출 수
+	 * @param timedOut 기다리다 제한 시간을 넘긴 누적 호출 수
+	 */
+	public record Stats(int inFlight, int waiting, int peakWaiting, long admitted, long rejected, long timedOut) {
+
+		/** 거절과 시간 초과를 합친 누적 실패 수 */
+		public long shed() {
+			return rejected + timedOut;
+		}
+	}
+}
@@ -0,0 +1,259 @@
+package com.auth.core.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+import com.auth.api.model.Principal;
+import com.auth.api.model.Tokens;
+import com.auth.api.model.User;
+import com.auth.common.utils.MoreObjects;
+import com.auth.common.utils.Strings;
+import com.auth.spi.AsyncPasswordVerifier;
+import com.auth.spi.AsyncRefreshTokenStore;
+import com.auth.spi.AsyncUserFinder;
+import com.auth.spi.LoginThrottle;
+import com.auth.spi.TokenService;
+
+/**
+ * <h2>AsyncAuthService</h2>
+ * <p>{@link AuthService}와 같은 인증 유즈케이스를 {@link CompletionStage}로 제공합니다.</p>
+ * <p>사용자 조회, 비밀번호 검증, refresh token 저장은 비동기 SPI로 이어 붙이므로 호출 스레드가 I/O를 기다리지 않습니다.
+ * 토큰 발급과 검증은 짧은 CPU 작업이므로 {@link TokenService}를 그대로 호출합니다.</p>
+ * <p>저장소 쓰기가 진행되는 동안 access token을 발급해 두 작업을 겹칩니다. 저장이 실패하거나 회전이 거부되면
+ * 미리 발급한 access token은 반환하지 않습니다.</p>
+ * <p>실패는 예외를 던지지 않고 예외로 완료된 stage로 전달합니다. 인증 실패 사유는 {@link AuthException}으로,
+ * 이어 붙인 단계에서 난 실패는 {@link java.util.concurrent.CompletionException}에 감싸여 전달될 수 있습니다.</p>
+ * <p>없는 사용자에 대한 검증 균등화는 {@link AuthService}와 같습니다.</p>
+ */
+public final class AsyncAuthService {
+
+	private final AsyncUserFinder userFinder;
+	private final AsyncPasswordVerifier passwordVerifier;
+	private final TokenService tokenService;
+	private final AsyncRefreshTokenStore refreshTokenStore;
+	private final Duration refreshTtl;
+	private final Clock clock;
+	private final LoginThrottle loginThrottle;
+	/** 없는 사용자 경로에서 검증할 해시. 생성 시 verifier에서 한 번 읽습니다. */
+	private final String dummyHash;
+	/** dummy 해시가 없을 때 대신 쓰는 마지막으로 조회된 실제 해시 */
+	private volatile String lastSeenHash;
+
+	/**
+	 * AsyncAuthService를 생성합니다.
+	 * @param userFinder 사용자 정보를 조회하기 위한 비동기 인터페이스
+	 * @param passwordVerifier 비밀번호 일치 여부 확인 비동기 인터페이스
+	 * @param tokenService 토큰(JWT 등) 생성 및 검증 인터페이스
+	 * @param refreshTokenStore 리프레시 토큰 저장소 비동기 인터페이스
+	 * @param refreshTtl 리프레시 토큰의 유효 기간 (null 또는 0 이하일 경우 기본값 14일)
+	 * @param clock 시간 계산을 위한 클럭 (테스트 시 모킹 가능)
+	 * @throws IllegalArgumentException 필수 인자가 null일 경우 발생
+	 */
+	public AsyncAuthService(
+		AsyncUserFinder userFinder,
+		AsyncPasswordVerifier passwordVerifier,
+		TokenService tokenService,
+		AsyncRefreshTokenStore refreshTokenStore,
+		Duration refreshTtl,
+		Clock clock
+	) {
+		this(userFinder, passwordVerifier, tokenService, refreshTokenStore, refreshTtl, clock, null);
+	}
+
+	/**
+	 * 로그인 시도 제한을 적용하는 AsyncAuthService를 생성합니다.
+	 * @param loginThrottle 사용자 조회 전에 로그인 시도를 허용할지 결정하는 정책 (null이면 제한하지 않음)
+	 * @see #AsyncAuthService(AsyncUserFinder, AsyncPasswordVerifier, TokenService, AsyncRefreshTokenStore, Duration, Clock)
+	 */
+	public AsyncAuthService(
+		AsyncUserFinder userFinder,
+		AsyncPasswordVerifier passwordVerifier,
+		TokenService tokenService,
+		AsyncRefreshTokenStore refreshTokenStore,
+		Duration refreshTtl,
+		Clock clock,
+		LoginThrottle loginThrottle
+	) {
+		this.userFinder = Strings.requireNonNull(userFinder, "userFinder");
+		this.passwordVerifier = Strings.requireNonNull(passwordVerifier, "passwordVerifier");
+		this.tokenService = Strings.requireNonNull(tokenService, "tokenService");
+		this.refreshTokenStore = Strings.requireNonNull(refreshTokenStore, "refreshTokenStore");
+		this.refreshTtl = (refreshTtl == null || refreshTtl.isNegative() || refreshTtl.isZero()) ? Duration.ofDays(14) : refreshTtl;
+		this.clock = MoreObjects.defaultIfNull(clock, Clock.systemUTC());
+		this.loginThrottle = loginThrottle;
+		this.dummyHash = passwordVerifier.dummyHash();
+	}
+
+	/** 시스템 기본 시계(UTC)를 사용하여 서비스를 생성합니다 */
+	public AsyncAuthService(
+		AsyncUserFinder userFinder,
+		AsyncPasswordVerifier passwordVerifier,
+		TokenService tokenService,
+		AsyncRefreshTokenStore refreshTokenStore,
+		Duration refreshTtl
+	) {
+		this(userFinder, passwordVerifier, tokenService, refreshTokenStore, refreshTtl, Clock.systemUTC());
+	}
+
+	/**
+	 * 사용자의 자격 증명을 확인하고 새로운 토큰 세트를 발급합니다.
+	 * @param username 사용자 계정명
+	 * @param password 평문 비밀번호
+	 * @return 발급된 Access Token과 Refresh Token 쌍. 실패 사유는 {@link AuthService#login(String, String)}과 같습니다.
+	 */
+	public CompletionStage<Tokens> login(String username, String password) {
+		return login(username, password, null);
+	}
+
+	/**
+	 * 요청 출처를 함께 넘겨 로그인합니다. 한도 확인은 {@link AuthService#login(String, String, String)}과 같습니다.
+	 * @param sourceKey 요청 출처 식별자 (IP, 디바이스 ID 등). 없으면 null
+	 */
+	public CompletionStage<Tokens> login(String username, String password, String sourceKey) {
+		if (Strings.isBlank(username)) return failed(new AuthException(AuthFailureReason.INVALID_INPUT, "username must not be blank"));
+		if (Strings.isBlank(password)) return failed(new AuthException(AuthFailureReason.INVALID_INPUT, "password must not be blank"));
+		if (loginThrottle != null && !loginThrottle.tryAcquire(username, sourceKey)) {
+			return failed(new AuthException(AuthFailureReason.RATE_LIMITED, "too many login attempts"));
+		}
+
+		CompletionStage<Optional<User>> found;
+		try {
+			found = userFinder.findByUsername(username);
+		} catch (RuntimeException e) {
+			// executor가 종료되어 제출이 거절된 경우처럼 SPI가 stage 대신 예외를 던져도 실패한 stage로 전달합니다.
+			return failed(e);
+		}
+		return found
+			.thenCompose(result -> {
+				User user = result.orElse(null);
+				if (user == null) return rejectUnknownUser(password);
+				if (dummyHash == null) lastSeenHash = user.getPasswordHash();
+				return passwordVerifier.matches(password, user.getPasswordHash())
+					.thenCompose(ok -> {
+						if (!Boolean.TRUE.equals(ok)) return failed(new AuthException(AuthFailureReason.INVALID_CREDENTIALS, "invalid credentials"));
+						return login(new Principal(user.getUserId(), user.getAuthorities()));
+					});
+			});
+	}
+
+	/**
+	 * 이미 외부에서 인증이 끝난 사용자를 기준으로 새로운 토큰 세트를 발급합니다.
+	 * <p>refresh token 저장을 시작한 뒤 완료를 기다리는 동안 access token을 발급합니다.</p>
+	 * @param principal 내부 사용자 식별자와 권한을 담은 Principal
+	 * @return 발급된 Access Token과 Refresh Token 쌍
+	 */
+	public CompletionStage<Tokens> login(Principal principal) {
+		try {
+			Principal authenticatedPrincipal = Strings.requireNonNull(principal, "principal");
+
+			String familyId = RefreshTokenFamilies.newFamilyId();
+			String refresh = tokenService.issueRefreshToken(RefreshTokenFamilies.withFamily(authenticatedPrincipal, familyId));
+			Instant expiresAt = Instant.now(clock).plus(refreshTtl);
+
+			CompletionStage<Void> saved = refreshTokenStore.save(authenticatedPrincipal.getUserId(), familyId, refresh, expiresAt);
+			String access = tokenService.issueAccessToken(authenticatedPrincipal);
+
+			return saved.thenApply(ignored -> new Tokens(access, refresh));
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/**
+	 * 리프레시 토큰을 사용하여 새로운 토큰 쌍을 재발급합니다. (Token Rotation)
+	 * <p>회전 정책과 재사용 감지는 {@link AuthService#refresh(String)}와 같습니다.
+	 * 저장소 회전이 진행되는 동안 새 access token을 발급합니다.</p>
+	 * @param refreshToken 유효한 리프레시 토큰
+	 * @return 새로 발급된 Access Token과 Refresh Token 쌍
+	 */
+	public CompletionStage<Tokens> refresh(String refreshToken) {
+		if (Strings.isBlank(refreshToken)) return failed(new AuthException(AuthFailureReason.INVALID_INPUT, "refreshToken must not be blank"));
+
+		try {
+			Principal principal = verifyRefreshToken(refreshToken);
+
+			String familyId = RefreshTokenFamilies.familyIdOf(principal);
+			// family 도입 이전에 발급된 토큰은 이번 회전부터 새 family로 묶습니다.
+			String nextFamilyId = familyId != null ? familyId : RefreshTokenFamilies.newFamilyId();
+			String newRefresh = tokenService.issueRefreshToken(familyId != null ? principal : RefreshTokenFamilies.withFamily(principal, nextFamilyId));
+			Instant expiresAt = Instant.now(clock).plus(refreshTtl);
+
+			CompletionStage<Boolean> rotated = refreshTokenStore.rotate(principal.getUserId(), nextFamilyId, refreshToken, newRefresh, expiresAt);
+			String newAccess = tokenService.issueAccessToken(principal);
+
+			return rotated.thenCompose(ok -> {
+				if (Boolean.TRUE.equals(ok)) return CompletableFuture.completedFuture(new Tokens(newAccess, newRefresh));
+				AuthException revoked = new AuthException(AuthFailureReason.REVOKED_TOKEN, "refresh token revoked");
+				// 서명이 유효한데 저장소에 없는 토큰은 이미 회전된 토큰의 재사용으로 보고 family 전체를 폐기합니다.
+				if (familyId == null) return failed(revoked);
+				return refreshTokenStore.revokeFamily(principal.getUserId(), familyId).thenCompose(ignored -> failed(revoked));
+			});
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/**
+	 * 사용자를 로그아웃 처리하고 리프레시 토큰을 무효화합니다.
+	 * @param refreshToken 무효화할 리프레시 토큰
+	 */
+	public CompletionStage<Void> logout(String refreshToken) {
+		if (Strings.isBlank(refreshToken)) return failed(new AuthException(AuthFailureReason.INVALID_INPUT, "refreshToken must not be blank"));
+
+		try {
+			Principal principal = verifyRefreshToken(refreshToken);
+			return refreshTokenStore.revoke(principal.getUserId(), refreshToken);
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/**
+	 * 사용자가 가진 모든 토큰을 폐기합니다. (모든 기기에서 로그아웃)
+	 * <p>저장된 refresh token 폐기를 먼저 시작하고, 폐기 기준 시각은 호출 스레드에서 옮깁니다.</p>
+	 * @param userId 대상 사용자 식별자
+	 * @return 저장된 refresh token 폐기와 기준 시각 이동이 모두 이루어졌으면 true로 완료. 하나라도 지원되지 않으면 false
+	 * @see AuthService#logoutAll(String)
+	 */
+	public CompletionStage<Boolean> logoutAll(String userId) {
+		if (Strings.isBlank(userId)) return failed(new AuthException(AuthFailureReason.INVALID_INPUT, "userId must not be blank"));
+
+		try {
+			CompletionStage<Boolean> revoked = refreshTokenStore.revokeAll(userId);
+			boolean epochAdvanced = tokenService.revokeAllIssuedBefore(userId, Instant.now(clock));
+			return revoked.thenApply(refreshTokensRevoked -> refreshTokensRevoked && epochAdvanced);
+		} catch (RuntimeException e) {
+			return failed(e);
+		}
+	}
+
+	/** 실제 사용자와 같은 비용의 검증을 거친 뒤 USER_NOT_FOUND로 완료합니다. 검증 결과는 무시하고, 검증 실패(OVERLOADED 등)는 그대로 전달합니다. */
+	private CompletionStage<Tokens> rejectUnknownUser(String password) {
+		AuthException notFound = new AuthException(AuthFailureReason.USER_NOT_FOUND, "user not found");
+		String referenceHash = dummyHash != null ? dummyHash : lastSeenHash;
+		if (referenceHash == null) return failed(notFound);
+		return passwordVerifier.matches(password, referenceHash)
+			.thenCompose(ignored -> failed(notFound));
+	}
+
+	/** 검증 실패 사유가 이미 정해진 {@link AuthException}은 그대로 전달하고, 나머지는 INVALID_TOKEN으로 감쌉니다. */
+	private Principal verifyRefreshToken(String refreshToken) {
+		try {
+			return tokenService.verifyRefreshToken(refreshToken);
+		} catch (AuthException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid refresh token", e);
+		}
+	}
+
+	private static <T> CompletableFuture<T> failed(Throwable cause) {
+		return CompletableFuture.failedFuture(cause);
+	}
+}
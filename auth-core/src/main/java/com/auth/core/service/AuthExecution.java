@@ -0,0 +1,321 @@
+package com.auth.core.service;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+import com.auth.common.utils.Strings;
+import com.auth.spi.AsyncPasswordVerifier;
+import com.auth.spi.AsyncRefreshTokenStore;
+import com.auth.spi.AsyncUserFinder;
+import com.auth.spi.PasswordVerifier;
+import com.auth.spi.RefreshTokenStore;
+import com.auth.spi.TokenService;
+import com.auth.spi.UserFinder;
+
+/**
+ * I/O 대기 작업과 CPU 작업을 서로 다른 실행기로 나누는 인증 실행 모드입니다.
+ * <ul>
+ * <li>I/O executor: {@link UserFinder}, {@link RefreshTokenStore}처럼 대기가 긴 호출을 실행합니다.
+ * Java 21 이상에서는 작업마다 virtual thread를 쓰고, 그 이전 런타임에서는 {@code ioThreads}개(기본 256)로 크기가 고정된
+ * platform thread 풀로 대신합니다. 동시 호출이 그보다 많으면 스레드를 늘리지 않고 대기열에서 기다립니다.</li>
+ * <li>CPU executor: {@link PasswordVerifier}의 해시 계산을 정해진 수의 platform thread에서만 실행합니다.
+ * 실행 중인 작업과 대기열이 모두 차면 {@link #cpuExecutor()}는 제출을 기다리지 않고 {@link RejectedExecutionException}으로
+ * 거절하므로, 이벤트 루프에서 이어 붙인 제출도 호출 스레드를 막지 않습니다. {@link #offload}만 자리가 날 때까지
+ * 기다립니다(back-pressure).</li>
+ * </ul>
+ * <p>{@link #authService}는 호출 스레드(보통 virtual thread)에서 그대로 실행하되 비밀번호 검증만 CPU executor로 넘기고,
+ * {@link #asyncAuthService}는 모든 SPI 호출을 두 executor에 나눠 이어 붙입니다.</p>
+ * <p>직접 만든 executor만 {@link #close()}에서 종료합니다.</p>
+ */
+public final class AuthExecution implements AutoCloseable {
+
+	private final Executor ioExecutor;
+	private final ExecutorService ownedIoExecutor;
+	private final CpuExecutor cpuExecutor;
+	private final boolean virtualThreads;
+
+	private static final int DEFAULT_IO_THREADS = 256;
+
+	private AuthExecution(Builder builder) {
+		if (builder.ioExecutor != null) {
+			this.ioExecutor = builder.ioExecutor;
+			this.ownedIoExecutor = null;
+			this.virtualThreads = false;
+		} else {
+			ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+			this.ownedIoExecutor = virtual != null ? virtual : newPlatformIoExecutor(builder.ioThreads > 0 ? builder.ioThreads : DEFAULT_IO_THREADS);
+			this.ioExecutor = ownedIoExecutor;
+			this.virtualThreads = virtual != null;
+		}
+
+		int threads = builder.cpuThreads > 0 ? builder.cpuThreads : Runtime.getRuntime().availableProcessors();
+		int capacity = builder.cpuQueueCapacity > 0 ? builder.cpuQueueCapacity : threads * 16;
+		this.cpuExecutor = new CpuExecutor(threads, capacity);
+	}
+
+	/** 기본 설정으로 생성합니다. CPU 스레드 수는 사용 가능한 코어 수입니다. */
+	public static AuthExecution create() {
+		return builder().build();
+	}
+
+	/** 설정 빌더를 생성합니다. */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/** I/O 대기 작업용 executor */
+	public Executor ioExecutor() {
+		return ioExecutor;
+	}
+
+	/**
+	 * 크기가 고정된 CPU 작업용 executor
+	 * <p>자리가 없거나 종료된 뒤에 제출하면 기다리지 않고 {@link RejectedExecutionException}을 던집니다.</p>
+	 */
+	public Executor cpuExecutor() {
+		return cpuExecutor;
+	}
+
+	/** I/O executor가 virtual thread를 쓰는지 여부 */
+	public boolean usesVirtualThreads() {
+		return virtualThreads;
+	}
+
+	/**
+	 * 해시 계산을 CPU executor에서 실행하고 호출 스레드는 결과를 기다리는 {@link PasswordVerifier}를 반환합니다.
+	 * <p>CPU executor에 자리가 없으면 자리가 날 때까지 기다립니다. 호출 스레드가 virtual thread이면 기다리는 동안
+	 * carrier thread를 놓아줍니다. executor가 종료된 뒤에는 {@link RejectedExecutionException}을 던집니다.</p>
+	 */
+	public PasswordVerifier offload(PasswordVerifier passwordVerifier) {
+		Strings.requireNonNull(passwordVerifier, "passwordVerifier");
+		return new PasswordVerifier() {
+			@Override
+			public boolean matches(String rawPassword, String storedHash) {
+				try {
+					return CompletableFuture.supplyAsync(() -> passwordVerifier.matches(rawPassword, storedHash), cpuExecutor::executeWaiting).join();
+				} catch (CompletionException e) {
+					if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+					if (e.getCause() instanceof Error) throw (Error) e.getCause();
+					throw e;
+				}
+			}
+
+			@Override
+			public String dummyHash() {
+				return passwordVerifier.dummyHash();
+			}
+		};
+	}
+
+	/**
+	 * 해시 계산을 CPU executor에서 실행하는 {@link AsyncPasswordVerifier}를 반환합니다.
+	 * <p>CPU executor에 자리가 없으면 기다리지 않고 {@code OVERLOADED} {@link AuthException}으로 완료된 stage를 반환합니다.</p>
+	 */
+	private AsyncPasswordVerifier failFast(PasswordVerifier passwordVerifier) {
+		AsyncPasswordVerifier delegate = AsyncPasswordVerifier.of(passwordVerifier, cpuExecutor);
+		return new AsyncPasswordVerifier() {
+			@Override
+			public CompletionStage<Boolean> matches(String rawPassword, String storedHash) {
+				try {
+					return delegate.matches(rawPassword, storedHash);
+				} catch (RejectedExecutionException e) {
+					return CompletableFuture.failedFuture(new AuthException(AuthFailureReason.OVERLOADED, "password verification is overloaded", e));
+				}
+			}
+
+			@Override
+			public String dummyHash() {
+				return delegate.dummyHash();
+			}
+		};
+	}
+
+	/**
+	 * 비밀번호 검증만 CPU executor로 넘기는 {@link AuthService}를 생성합니다.
+	 * <p>I/O SPI 호출은 호출 스레드에서 실행되므로, 요청마다 virtual thread를 쓰는 서버나
+	 * {@link #ioExecutor()}에 제출한 작업에서 호출해야 이 모드의 이점이 있습니다.</p>
+	 */
+	public AuthService authService(
+		UserFinder userFinder,
+		PasswordVerifier passwordVerifier,
+		TokenService tokenService,
+		RefreshTokenStore refreshTokenStore,
+		Duration refreshTtl
+	) {
+		return new AuthService(userFinder, offload(passwordVerifier), tokenService, refreshTokenStore, refreshTtl);
+	}
+
+	/**
+	 * I/O SPI는 {@link #ioExecutor()}에서, 비밀번호 검증은 {@link #cpuExecutor()}에서 실행하는 {@link AsyncAuthService}를 생성합니다.
+	 * <p>CPU executor에 자리가 없으면 로그인은 기다리지 않고 {@code OVERLOADED}로 실패합니다.</p>
+	 */
+	public AsyncAuthService asyncAuthService(
+		UserFinder userFinder,
+		PasswordVerifier passwordVerifier,
+		TokenService tokenService,
+		RefreshTokenStore refreshTokenStore,
+		Duration refreshTtl
+	) {
+		return new AsyncAuthService(
+			AsyncUserFinder.of(userFinder, ioExecutor),
+			failFast(passwordVerifier),
+			tokenService,
+			AsyncRefreshTokenStore.of(refreshTokenStore, ioExecutor),
+			refreshTtl
+		);
+	}
+
+	/** 직접 만든 executor를 종료합니다. 이미 제출된 작업은 끝까지 실행됩니다. */
+	@Override
+	public void close() {
+		cpuExecutor.shutdown();
+		if (ownedIoExecutor != null) ownedIoExecutor.shutdown();
+	}
+
+	/** Java 21 이상이면 virtual thread executor, 아니면 null */
+	private static ExecutorService newVirtualThreadPerTaskExecutor() {
+		try {
+			Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+			return (ExecutorService) factory.invoke(null);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			return null;
+		}
+	}
+
+	/** virtual thread가 없는 런타임용 I/O 풀. 스레드 수를 고정하고 쉬는 스레드는 정리합니다. */
+	private static ExecutorService newPlatformIoExecutor(int threads) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(
+			threads, threads, 60L, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(),
+			daemonThreads("auth-io-")
+		);
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static ThreadFactory daemonThreads(String prefix) {
+		AtomicInteger sequence = new AtomicInteger();
+		return task -> {
+			Thread thread = new Thread(task, prefix + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * 실행 중인 작업과 대기 중인 작업 수를 semaphore로 제한하는 CPU executor입니다.
+	 * <p>자리 수는 스레드 수와 대기열 크기의 합이므로, 자리를 얻은 작업은 풀에서 거절되지 않습니다.
+	 * 종료된 뒤의 제출은 풀이 거절하고, 이때 얻은 자리는 바로 돌려줍니다.</p>
+	 */
+	private static final class CpuExecutor implements Executor {
+
+		private final ThreadPoolExecutor pool;
+		private final Semaphore slots;
+
+		private CpuExecutor(int threads, int queueCapacity) {
+			this.pool = new ThreadPoolExecutor(
+				threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity),
+				daemonThreads("auth-cpu-")
+			);
+			this.slots = new Semaphore(threads + queueCapacity);
+		}
+
+		/** 자리가 없으면 기다리지 않고 거절합니다. */
+		@Override
+		public void execute(Runnable task) {
+			if (pool.isShutdown()) throw new RejectedExecutionException("auth cpu executor is shut down");
+			if (!slots.tryAcquire()) throw new RejectedExecutionException("auth cpu executor is saturated");
+			submit(task);
+		}
+
+		/** 자리가 날 때까지 기다린 뒤 제출합니다. */
+		private void executeWaiting(Runnable task) {
+			if (pool.isShutdown()) throw new RejectedExecutionException("auth cpu executor is shut down");
+			try {
+				slots.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RejectedExecutionException("interrupted while waiting for auth cpu executor", e);
+			}
+			submit(task);
+		}
+
+		private void submit(Runnable task) {
+			try {
+				pool.execute(() -> {
+					try {
+						task.run();
+					} finally {
+						slots.release();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				slots.release();
+				throw e;
+			}
+		}
+
+		private void shutdown() {
+			pool.shutdown();
+		}
+	}
+
+	/** {@link AuthExecution} 설정 빌더입니다. */
+	public static final class Builder {
+
+		private Executor ioExecutor;
+		private int ioThreads;
+		private int cpuThreads;
+		private int cpuQueueCapacity;
+
+		private Builder() {}
+
+		/** I/O 작업용 executor를 직접 지정합니다. 지정하면 virtual thread를 만들지 않고, 종료도 호출자 책임입니다. */
+		public Builder ioExecutor(Executor ioExecutor) {
+			this.ioExecutor = ioExecutor;
+			return this;
+		}
+
+		/**
+		 * virtual thread가 없는 런타임(Java 21 미만)에서 직접 만드는 I/O 풀의 스레드 수. 0 이하이면 256
+		 * <p>{@link #ioExecutor}를 지정했거나 virtual thread를 쓰면 사용하지 않습니다.</p>
+		 */
+		public Builder ioThreads(int ioThreads) {
+			this.ioThreads = ioThreads;
+			return this;
+		}
+
+		/** CPU 작업 스레드 수. 0 이하이면 사용 가능한 코어 수 */
+		public Builder cpuThreads(int cpuThreads) {
+			this.cpuThreads = cpuThreads;
+			return this;
+		}
+
+		/** CPU 작업 대기열 크기. 가득 차면 {@link AuthExecution#offload}만 기다리고 나머지 제출은 거절합니다. 0 이하이면 CPU 스레드 수의 16배 */
+		public Builder cpuQueueCapacity(int cpuQueueCapacity) {
+			this.cpuQueueCapacity = cpuQueueCapacity;
+			return this;
+		}
+
+		public AuthExecution build() {
+			return new AuthExecution(this);
+		}
+	}
+}
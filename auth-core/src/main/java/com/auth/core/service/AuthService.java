@@ -10,6 +10,7 @@ import com.auth.api.model.Principal;
 import com.auth.api.model.Tokens;
 import com.auth.api.model.User;
 
+import com.auth.spi.LoginThrottle;
 import com.auth.spi.PasswordVerifier;
 import com.auth.spi.RefreshTokenStore;
 import com.auth.spi.TokenService;
@@ -29,6 +30,10 @@ import com.auth.common.utils.Strings;
  * <li>리프레시 토큰 회전 정책을 통한 토큰 재발급 (Refresh)</li>
  * <li>서버 측 세션 무효화 (Logout)</li>
  * </ul>
+ * <p>존재하지 않는 username으로 로그인하면 {@link PasswordVerifier#dummyHash()}로 한 번 더 검증한 뒤 실패합니다.
+ * 두 경로가 같은 비용의 해시 계산을 거치므로 응답 시간으로 사용자 존재 여부가 드러나지 않습니다.
+ * 검증 결과는 사용하지 않습니다. verifier가 dummy 해시를 주지 않으면 마지막으로 조회된 실제 사용자의 해시로 대신하며,
+ * 이 경우 기동 후 첫 사용자가 조회되기 전에는 검증을 건너뜁니다.</p>
  */
 public final class AuthService {
 
@@ -38,6 +43,11 @@ public final class AuthService {
 	private final RefreshTokenStore refreshTokenStore;
 	private final Duration refreshTtl;
 	private final Clock clock;
+	private final LoginThrottle loginThrottle;
+	/** 없는 사용자 경로에서 검증할 해시. 생성 시 verifier에서 한 번 읽습니다. */
+	private final String dummyHash;
+	/** dummy 해시가 없을 때 대신 쓰는 마지막으로 조회된 실제 해시 */
+	private volatile String lastSeenHash;
 
 	/**
 	 * AuthService를 생성합니다.
@@ -56,6 +66,23 @@ public final class AuthService {
 		RefreshTokenStore refreshTokenStore,
 		Duration refreshTtl,
 		Clock clock
+	) {
+		this(userFinder, passwordVerifier, tokenService, refreshTokenStore, refreshTtl, clock, null);
+	}
+
+	/**
+	 * 로그인 시도 제한을 적용하는 AuthService를 생성합니다.
+	 * @param loginThrottle 사용자 조회 전에 로그인 시도를 허용할지 결정하는 정책 (null이면 제한하지 않음)
+	 * @see #AuthService(UserFinder, PasswordVerifier, TokenService, RefreshTokenStore, Duration, Clock)
+	 */
+	public AuthService(
+		UserFinder userFinder,
+		PasswordVerifier passwordVerifier,
+		TokenService tokenService,
+		RefreshTokenStore refreshTokenStore,
+		Duration refreshTtl,
+		Clock clock,
+		LoginThrottle loginThrottle
 	) {
 		this.userFinder = Strings.requireNonNull(userFinder, "userFinder");
 		this.passwordVerifier = Strings.requireNonNull(passwordVerifier, "passwordVerifier");
@@ -63,6 +90,8 @@ public final class AuthService {
 		this.refreshTokenStore = Strings.requireNonNull(refreshTokenStore, "refreshTokenStore");
 		this.refreshTtl = (refreshTtl == null || refreshTtl.isNegative() || refreshTtl.isZero()) ? Duration.ofDays(14) : refreshTtl;
 		this.clock = MoreObjects.defaultIfNull(clock, Clock.systemUTC());
+		this.loginThrottle = loginThrottle;
+		this.dummyHash = passwordVerifier.dummyHash();
 	}
 
 	/** 시스템 기본 시계(UTC)를 사용하여 서비스를 생성합니다 */
@@ -90,10 +119,32 @@ public final class AuthService {
 	 * @throws AuthException 유저를 찾을 수 없거나 비밀번호가 틀린 경우 (USER_NOT_FOUND, INVALID_CREDENTIALS)
 	 */
 	public Tokens login(String username, String password) {
+		return login(username, password, null);
+	}
+
+	/**
+	 * 요청 출처를 함께 넘겨 로그인합니다.
+	 * <p>{@link LoginThrottle}이 설정되어 있으면 사용자 조회와 비밀번호 검증 전에 username과 sourceKey 기준 한도를 확인합니다.</p>
+	 * @param username 사용자 계정명
+	 * @param password 평문 비밀번호
+	 * @param sourceKey 요청 출처 식별자 (IP, 디바이스 ID 등). 없으면 null
+	 * @return 발급된 Access Token과 Refresh Token 쌍
+	 * @throws AuthException 한도를 넘은 경우 (RATE_LIMITED), 그 외는 {@link #login(String, String)}과 같음
+	 */
+	public Tokens login(String username, String password, String sourceKey) {
 		if (Strings.isBlank(username)) throw new AuthException(AuthFailureReason.INVALID_INPUT, "username must not be blank");
 		if (Strings.isBlank(password)) throw new AuthException(AuthFailureReason.INVALID_INPUT, "password must not be blank");
+		if (loginThrottle != null && !loginThrottle.tryAcquire(username, sourceKey)) {
+			throw new AuthException(AuthFailureReason.RATE_LIMITED, "too many login attempts");
+		}
 
-		User user = userFinder.findByUsername(username).orElseThrow(() -> new AuthException(AuthFailureReason.USER_NOT_FOUND, "user not found"));
+		User user = userFinder.findByUsername(username).orElse(null);
+		if (user == null) {
+			String referenceHash = dummyHash != null ? dummyHash : lastSeenHash;
+			if (referenceHash != null) passwordVerifier.matches(password, referenceHash);
+			throw new AuthException(AuthFailureReason.USER_NOT_FOUND, "user not found");
+		}
+		if (dummyHash == null) lastSeenHash = user.getPasswordHash();
 
 		boolean ok = passwordVerifier.matches(password, user.getPasswordHash());
 
@@ -111,12 +162,14 @@ public final class AuthService {
 	public Tokens login(Principal principal) {
 		Principal authenticatedPrincipal = Strings.requireNonNull(principal, "principal");
 
+		String familyId = RefreshTokenFamilies.newFamilyId();
+
 		String access = tokenService.issueAccessToken(authenticatedPrincipal);
-		String refresh = tokenService.issueRefreshToken(authenticatedPrincipal);
+		String refresh = tokenService.issueRefreshToken(RefreshTokenFamilies.withFamily(authenticatedPrincipal, familyId));
 
 		Instant expiresAt = Instant.now(clock).plus(refreshTtl);
 
-		refreshTokenStore.save(authenticatedPrincipal.getUserId(), refresh, expiresAt);
+		refreshTokenStore.save(authenticatedPrincipal.getUserId(), familyId, refresh, expiresAt);
 
 		return new Tokens(access, refresh);
 	}
@@ -125,6 +178,10 @@ public final class AuthService {
 	 * 리프레시 토큰을 사용하여 새로운 토큰 쌍을 재발급합니다. (Token Rotation)
 	 * <p>보안 강화를 위해 <b>Refresh Token Rotation</b> 정책을 사용합니다.
 	 * 새로운 토큰이 발급되면 기존의 리프레시 토큰은 즉시 폐기됩니다.</p>
+	 * <p>기존 토큰 폐기와 새 토큰 저장은 {@link RefreshTokenStore#rotate}로 한 번에 처리하므로,
+	 * 같은 리프레시 토큰으로 동시에 요청해도 한 요청만 성공합니다.</p>
+	 * <p>이미 회전되어 폐기된 토큰이 다시 들어오면 탈취를 의심해 같은 family의 토큰을 모두 폐기합니다.
+	 * 정상 사용자도 다시 로그인해야 하지만, 탈취된 토큰으로 얻은 세션도 함께 끊깁니다.</p>
 	 * @param refreshToken 유효한 리프레시 토큰
 	 * @return 새로 발급된 Access Token과 Refresh Token 쌍
 	 * @throws AuthException 토큰이 변조되었거나, 만료되었거나, 서버 저장소에 존재하지 않는 경우 (INVALID_TOKEN, REVOKED_TOKEN)
@@ -132,23 +189,22 @@ public final class AuthService {
 	public Tokens refresh(String refreshToken) {
 		if (Strings.isBlank(refreshToken)) throw new AuthException(AuthFailureReason.INVALID_INPUT, "refreshToken must not be blank");
 
-		Principal principal;
-		try {
-			principal = tokenService.verifyRefreshToken(refreshToken);
-		} catch (RuntimeException e) {
-			throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid refresh token", e);
-		}
+		Principal principal = verifyRefreshToken(refreshToken);
 
-		boolean exists = refreshTokenStore.exists(principal.getUserId(), refreshToken);
-		if (!exists) throw new AuthException(AuthFailureReason.REVOKED_TOKEN, "refresh token revoked");
+		String familyId = RefreshTokenFamilies.familyIdOf(principal);
+		// family 도입 이전에 발급된 토큰은 이번 회전부터 새 family로 묶습니다.
+		String nextFamilyId = familyId != null ? familyId : RefreshTokenFamilies.newFamilyId();
+		String newRefresh = tokenService.issueRefreshToken(familyId != null ? principal : RefreshTokenFamilies.withFamily(principal, nextFamilyId));
+		Instant expiresAt = Instant.now(clock).plus(refreshTtl);
 
-		refreshTokenStore.revoke(principal.getUserId(), refreshToken);
+		boolean rotated = refreshTokenStore.rotate(principal.getUserId(), nextFamilyId, refreshToken, newRefresh, expiresAt);
+		if (!rotated) {
+			// 서명이 유효한데 저장소에 없는 토큰은 이미 회전된 토큰의 재사용으로 보고 family 전체를 폐기합니다.
+			if (familyId != null) refreshTokenStore.revokeFamily(principal.getUserId(), familyId);
+			throw new AuthException(AuthFailureReason.REVOKED_TOKEN, "refresh token revoked");
+		}
 
 		String newAccess = tokenService.issueAccessToken(principal);
-		String newRefresh = tokenService.issueRefreshToken(principal);
-
-		Instant expiresAt = Instant.now(clock).plus(refreshTtl);
-		refreshTokenStore.save(principal.getUserId(), newRefresh, expiresAt);
 
 		return new Tokens(newAccess, newRefresh);
 	}
@@ -163,15 +219,39 @@ public final class AuthService {
 	public void logout(String refreshToken) {
 		if (Strings.isBlank(refreshToken)) throw new AuthException(AuthFailureReason.INVALID_INPUT, "refreshToken must not be blank");
 
-		Principal principal;
-		try {
-			principal = tokenService.verifyRefreshToken(refreshToken);
-		} catch (RuntimeException e) {
-			throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid refresh token", e);
-		}
+		Principal principal = verifyRefreshToken(refreshToken);
 
 		refreshTokenStore.revoke(principal.getUserId(), refreshToken);
 	}
 
+	/**
+	 * 사용자가 가진 모든 토큰을 폐기합니다. (모든 기기에서 로그아웃)
+	 * <p>비밀번호 변경이나 계정 잠금 시 사용합니다. {@link RefreshTokenStore#revokeAll}로 저장된 refresh token을 폐기하고,
+	 * {@link TokenService#revokeAllIssuedBefore}로 사용자별 폐기 기준 시각을 옮깁니다.
+	 * 기준 시각은 토큰 수와 관계없이 쓰기 한 번으로 끝나며, 이후 검증에서 그 전에 발급된 access/refresh token을 거부합니다.</p>
+	 * <p>둘 중 하나라도 지원되지 않으면 false를 반환합니다. 기준 시각을 옮기지 못했으면 이미 발급된 access token이
+	 * 만료 전까지 유효하고, refresh token 폐기를 지원하지 않는 저장소면 폐기와 같은 초에 발급된 refresh token이 남습니다.
+	 * 둘 다 지원되지 않으면 아무것도 폐기하지 않습니다.</p>
+	 * @param userId 대상 사용자 식별자
+	 * @return 저장된 refresh token 폐기와 기준 시각 이동이 모두 이루어졌으면 true
+	 * @throws AuthException userId가 비어 있는 경우 (INVALID_INPUT)
+	 */
+	public boolean logoutAll(String userId) {
+		if (Strings.isBlank(userId)) throw new AuthException(AuthFailureReason.INVALID_INPUT, "userId must not be blank");
+
+		boolean refreshTokensRevoked = refreshTokenStore.revokeAll(userId);
+		boolean epochAdvanced = tokenService.revokeAllIssuedBefore(userId, Instant.now(clock));
+		return refreshTokensRevoked && epochAdvanced;
+	}
 
+	/** 검증 실패 사유가 이미 정해진 {@link AuthException}은 그대로 전달하고, 나머지는 INVALID_TOKEN으로 감쌉니다. */
+	private Principal verifyRefreshToken(String refreshToken) {
+		try {
+			return tokenService.verifyRefreshToken(refreshToken);
+		} catch (AuthException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid refresh token", e);
+		}
+	}
 }
@@ -0,0 +1,31 @@
+package com.auth.core.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.auth.api.model.Principal;
+import com.auth.common.utils.Strings;
+import com.auth.spi.TokenService;
+
+/** {@link AuthService}와 {@link AsyncAuthService}가 함께 쓰는 refresh token family 보조 함수입니다. */
+final class RefreshTokenFamilies {
+
+	private RefreshTokenFamilies() {}
+
+	/** principal에 기록된 family, 없거나 비어 있으면 null */
+	static String familyIdOf(Principal principal) {
+		Object familyId = principal.getAttribute(TokenService.FAMILY_ID_ATTRIBUTE);
+		return familyId instanceof String && !Strings.isBlank((String) familyId) ? (String) familyId : null;
+	}
+
+	static String newFamilyId() {
+		return UUID.randomUUID().toString();
+	}
+
+	static Principal withFamily(Principal principal, String familyId) {
+		Map<String, Object> attributes = new HashMap<>(principal.getAttributes());
+		attributes.put(TokenService.FAMILY_ID_ATTRIBUTE, familyId);
+		return new Principal(principal.getUserId(), principal.getAuthorities(), attributes);
+	}
+}
@@ -0,0 +1,207 @@
+package com.auth.core.store;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.auth.common.utils.MoreObjects;
+import com.auth.common.utils.Strings;
+import com.auth.spi.AccessTokenDenylist;
+
+/**
+ * 토큰 만료 시각 구간별 Bloom filter로 나눈 단일 인스턴스용 메모리 {@link AccessTokenDenylist} 구현입니다.
+ * <p>토큰은 만료 시각({@code exp})이 속한 구간(partition)에 들어갑니다. 조회는 해당 구간의 Bloom filter 비트만 확인하고,
+ * 비트가 모두 켜진 경우에만 같은 구간의 정확한 jti 집합을 확인합니다. 폐기되지 않은 토큰 대부분은 비트 확인에서 끝나므로
+ * 음성 조회는 객체를 할당하지 않습니다.</p>
+ * <p>구간은 {@code maxTokenLifetime}을 덮는 고리 배열로 돌려 쓰며, 구간의 모든 토큰이 만료되면 구간 전체를 한 번에 버립니다.
+ * 따라서 항목별 만료 처리가 없고, 한 구간의 메모리는 그 구간이 다시 쓰이거나 {@link #purgeExpired()}가 호출될 때 회수됩니다.</p>
+ * <p>구간당 예상 폐기 수를 넘겨도 결과는 정확하며, 정확한 집합까지 내려가는 비율만 늘어납니다.</p>
+ */
+public final class BloomFilterAccessTokenDenylist implements AccessTokenDenylist {
+
+	private static final Duration DEFAULT_MAX_TOKEN_LIFETIME = Duration.ofMinutes(15);
+	private static final Duration DEFAULT_PARTITION_WIDTH = Duration.ofMinutes(1);
+	private static final int DEFAULT_EXPECTED_INSERTIONS = 10_000;
+	private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+	private final AtomicReferenceArray<Partition> partitions;
+	private final long partitionSeconds;
+	private final long maxLifetimeSeconds;
+	/** 구간당 비트 수 - 1. 비트 수는 2의 거듭제곱입니다. */
+	private final long bitMask;
+	private final int hashCount;
+	private final Clock clock;
+
+	/** 최대 토큰 유효 시간 15분, 구간 1분, 구간당 예상 폐기 10,000건, 오탐률 1%를 사용합니다. */
+	public BloomFilterAccessTokenDenylist() {
+		this(DEFAULT_MAX_TOKEN_LIFETIME);
+	}
+
+	/**
+	 * 생성자
+	 * @param maxTokenLifetime 폐기할 access token의 최대 유효 시간 (null 또는 0 이하이면 기본값 15분)
+	 */
+	public BloomFilterAccessTokenDenylist(Duration maxTokenLifetime) {
+		this(maxTokenLifetime, DEFAULT_PARTITION_WIDTH, DEFAULT_EXPECTED_INSERTIONS, DEFAULT_FALSE_POSITIVE_RATE, Clock.systemUTC());
+	}
+
+	/**
+	 * 생성자
+	 * @param maxTokenLifetime 폐기할 access token의 최대 유효 시간 (null 또는 0 이하이면 기본값 15분)
+	 * @param partitionWidth 구간 하나가 덮는 만료 시각 범위 (null 또는 1초 미만이면 기본값 1분)
+	 * @param expectedInsertionsPerPartition 구간당 예상 폐기 수 (0 이하이면 기본값 10,000)
+	 * @param falsePositiveRate 예상 폐기 수에서의 Bloom filter 오탐률 (0과 1 사이가 아니면 기본값 0.01)
+	 * @param clock 만료 판단에 사용할 시계 (null이면 UTC 시스템 시계)
+	 */
+	public BloomFilterAccessTokenDenylist(Duration maxTokenLifetime, Duration partitionWidth, int expectedInsertionsPerPartition,
+		double falsePositiveRate, Clock clock) {
+		long lifetime = (maxTokenLifetime == null || maxTokenLifetime.getSeconds() <= 0)
+			? DEFAULT_MAX_TOKEN_LIFETIME.getSeconds() : maxTokenLifetime.getSeconds();
+		long width = (partitionWidth == null || partitionWidth.getSeconds() <= 0)
+			? DEFAULT_PARTITION_WIDTH.getSeconds() : partitionWidth.getSeconds();
+		int expected = expectedInsertionsPerPartition <= 0 ? DEFAULT_EXPECTED_INSERTIONS : expectedInsertionsPerPartition;
+		double rate = (falsePositiveRate > 0 && falsePositiveRate < 1) ? falsePositiveRate : DEFAULT_FALSE_POSITIVE_RATE;
+
+		// 현재 구간부터 최대 유효 시간 끝 구간까지 겹치지 않게 담고, 막 만료된 구간 하나를 더 둡니다.
+		long count = (lifetime + width - 1) / width + 2;
+		if (count > (1 << 16)) throw new IllegalArgumentException("maxTokenLifetime / partitionWidth is too large");
+
+		// m = -n ln p / (ln 2)^2, k = (m / n) ln 2. m은 인덱스 계산을 마스크로 하기 위해 2의 거듭제곱(최소 64)으로 올립니다.
+		double optimalBits = -expected * Math.log(rate) / (Math.log(2) * Math.log(2));
+		long bits = Long.highestOneBit(Math.max(64L, (long) Math.ceil(optimalBits)) * 2 - 1);
+		if (bits > (1L << 36)) throw new IllegalArgumentException("expectedInsertionsPerPartition is too large");
+
+		this.partitions = new AtomicReferenceArray<>((int) count);
+		this.partitionSeconds = width;
+		this.maxLifetimeSeconds = lifetime;
+		this.bitMask = bits - 1;
+		this.hashCount = Math.max(1, (int) Math.round(optimalBits / expected * Math.log(2)));
+		this.clock = MoreObjects.defaultIfNull(clock, Clock.systemUTC());
+	}
+
+	/**
+	 * @throws IllegalArgumentException 만료 시각이 현재부터 {@code maxTokenLifetime}보다 뒤인 경우
+	 */
+	@Override
+	public void deny(String tokenId, long expiresAtEpochSecond) {
+		Strings.requireNonNull(tokenId, "tokenId");
+		long now = clock.millis() / 1000L;
+		if (expiresAtEpochSecond <= now) return;
+		if (expiresAtEpochSecond - now > maxLifetimeSeconds) {
+			throw new IllegalArgumentException("expiresAt exceeds maxTokenLifetime");
+		}
+
+		Partition partition = partitionFor(Math.floorDiv(expiresAtEpochSecond, partitionSeconds));
+		// 정확한 집합에 먼저 넣어야 비트를 본 조회가 집합에서 항목을 찾지 못하는 일이 없습니다.
+		partition.tokenIds.add(tokenId);
+		long h1 = hash(tokenId);
+		long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = (h1 + i * h2) & bitMask;
+			partition.bits.accumulateAndGet((int) (bit >>> 6), 1L << bit, (a, b) -> a | b);
+		}
+	}
+
+	/** 생성자에 지정한 {@code maxTokenLifetime} */
+	@Override
+	public long maxTokenLifetimeSeconds() {
+		return maxLifetimeSeconds;
+	}
+
+	@Override
+	public boolean isDenied(String tokenId, long expiresAtEpochSecond) {
+		if (tokenId == null) return false;
+		long window = Math.floorDiv(expiresAtEpochSecond, partitionSeconds);
+		Partition partition = partitions.get(slotOf(window));
+		if (partition == null || partition.window != window) return false;
+
+		long h1 = hash(tokenId);
+		long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = (h1 + i * h2) & bitMask;
+			if ((partition.bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+		}
+		return partition.tokenIds.contains(tokenId);
+	}
+
+	/**
+	 * 모든 토큰이 만료된 구간을 버립니다.
+	 * @return 제거한 폐기 항목 수
+	 */
+	public int purgeExpired() {
+		long currentWindow = Math.floorDiv(clock.millis() / 1000L, partitionSeconds);
+		int removed = 0;
+		for (int i = 0; i < partitions.length(); i++) {
+			Partition partition = partitions.get(i);
+			if (partition != null && partition.window < currentWindow && partitions.compareAndSet(i, partition, null)) {
+				removed += partition.tokenIds.size();
+			}
+		}
+		return removed;
+	}
+
+	/** 보관 중인 폐기 항목 수. 아직 버려지지 않은 만료 구간의 항목도 포함합니다. */
+	public int size() {
+		int size = 0;
+		for (int i = 0; i < partitions.length(); i++) {
+			Partition partition = partitions.get(i);
+			if (partition != null) size += partition.tokenIds.size();
+		}
+		return size;
+	}
+
+	/** window 구간을 반환합니다. 같은 칸에 지난 구간이 남아 있으면 새 구간으로 교체합니다. */
+	private Partition partitionFor(long window) {
+		int slot = slotOf(window);
+		while (true) {
+			Partition current = partitions.get(slot);
+			if (current != null && current.window == window) return current;
+			// 최대 유효 시간 확인을 통과했다면 칸에는 같은 구간이거나 더 이전 구간만 있습니다. 시계가 크게 되돌아간 경우에만 여기에 옵니다.
+			if (current != null && current.window > window) {
+				throw new IllegalArgumentException("expiresAt is behind the active partitions");
+			}
+			Partition created = new Partition(window, (int) ((bitMask + 1) >>> 6));
+			if (partitions.compareAndSet(slot, current, created)) return created;
+		}
+	}
+
+	private int slotOf(long window) {
+		return (int) Math.floorMod(window, (long) partitions.length());
+	}
+
+	/** 문자열을 할당 없이 64비트로 해시합니다. (FNV-1a 후 finalizer로 섞음) */
+	private static long hash(String value) {
+		long h = 0xCBF29CE484222325L;
+		for (int i = 0; i < value.length(); i++) {
+			h ^= value.charAt(i);
+			h *= 0x100000001B3L;
+		}
+		return mix(h);
+	}
+
+	/** MurmurHash3 fmix64 */
+	private static long mix(long h) {
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB9FE1A85EC53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/** 만료 시각이 같은 구간에 속한 폐기 항목 */
+	private static final class Partition {
+		/** exp / partitionSeconds */
+		private final long window;
+		private final AtomicLongArray bits;
+		private final Set<String> tokenIds = ConcurrentHashMap.newKeySet();
+
+		private Partition(long window, int words) {
+			this.window = window;
+			this.bits = new AtomicLongArray(words);
+		}
+	}
+}
@@ -0,0 +1,310 @@
+package com.auth.core.store;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.auth.common.utils.MoreObjects;
+import com.auth.common.utils.Strings;
+import com.auth.common.utils.TokenDigest;
+import com.auth.spi.RefreshTokenStore;
+
+/**
+ * 단일 인스턴스용 메모리 {@link RefreshTokenStore} 구현입니다.
+ * <p>userId → 토큰 digest → 만료 시각 구조로 보관하며, JWT 원문 대신 {@link TokenDigest}만 들고 있습니다.
+ * userId 해시로 나눈 stripe마다 잠금을 따로 두므로 서로 다른 stripe의 사용자는 같은 잠금을 기다리지 않습니다.</p>
+ * <p>만료 시각은 {@link #save}에 넘긴 {@code expiresAt} 기준입니다. 만료된 토큰은 조회 시 없는 것으로 취급하고,
+ * 해당 사용자의 가장 이른 만료 시각이 지나면 그 사용자 항목을 정리합니다. 한 번도 다시 조회되지 않는 사용자는
+ * 일정 횟수의 저장마다 stripe 하나씩 돌아가며 정리하고, {@link #purgeExpired()}로 즉시 정리할 수도 있습니다.</p>
+ * <p>토큰 family마다 현재 유효한 토큰 하나의 digest를 따로 색인하므로 {@link #revokeFamily}는 사용자 토큰 수와 관계없이
+ * 상수 시간에 끝납니다.</p>
+ */
+public final class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+	private static final int DEFAULT_STRIPES = 64;
+	private static final int SAVES_PER_STRIPE_PURGE = 256;
+
+	private final Stripe[] stripes;
+	private final int stripeMask;
+	private final Clock clock;
+	private final AtomicInteger saves = new AtomicInteger();
+
+	public InMemoryRefreshTokenStore() {
+		this(Clock.systemUTC());
+	}
+
+	public InMemoryRefreshTokenStore(Clock clock) {
+		this(clock, DEFAULT_STRIPES);
+	}
+
+	/**
+	 * 생성자
+	 * @param clock 만료 판단에 사용할 시계 (null이면 UTC 시스템 시계)
+	 * @param stripeCount 잠금 stripe 수. 2의 거듭제곱으로 올림하며, 0 이하이면 기본값 64
+	 */
+	public InMemoryRefreshTokenStore(Clock clock, int stripeCount) {
+		int count = stripeCount <= 0 ? DEFAULT_STRIPES : Integer.highestOneBit(Math.min(stripeCount, 1 << 16) * 2 - 1);
+		this.stripes = new Stripe[count];
+		for (int i = 0; i < count; i++) {
+			stripes[i] = new Stripe();
+		}
+		this.stripeMask = count - 1;
+		this.clock = MoreObjects.defaultIfNull(clock, Clock.systemUTC());
+	}
+
+	@Override
+	public void save(String userId, String refreshToken, Instant expiresAt) {
+		save(userId, null, refreshToken, expiresAt);
+	}
+
+	/** family가 주어지면 그 family의 이전 토큰은 새 토큰으로 대체됩니다. */
+	@Override
+	public void save(String userId, String familyId, String refreshToken, Instant expiresAt) {
+		Strings.requireNonNull(userId, "userId");
+		Strings.requireNonNull(refreshToken, "refreshToken");
+		Strings.requireNonNull(expiresAt, "expiresAt");
+		TokenDigest digest = TokenDigest.of(refreshToken);
+		long now = clock.millis();
+		long expiresAtMillis = expiresAt.toEpochMilli();
+
+		Stripe stripe = stripeFor(userId);
+		synchronized (stripe) {
+			UserTokens tokens = stripe.users.get(userId);
+			if (expiresAtMillis <= now) {
+				if (tokens != null) {
+					tokens.remove(digest);
+					stripe.removeIfEmpty(userId, tokens);
+				}
+			} else {
+				if (tokens == null) {
+					tokens = new UserTokens();
+					stripe.users.put(userId, tokens);
+				}
+				tokens.purgeIfDue(now);
+				tokens.put(digest, expiresAtMillis, familyId);
+			}
+		}
+
+		int saveCount = saves.incrementAndGet();
+		if ((saveCount & (SAVES_PER_STRIPE_PURGE - 1)) == 0) {
+			purgeStripe(stripes[(saveCount / SAVES_PER_STRIPE_PURGE) & stripeMask], now);
+		}
+	}
+
+	@Override
+	public boolean exists(String userId, String refreshToken) {
+		Strings.requireNonNull(userId, "userId");
+		Strings.requireNonNull(refreshToken, "refreshToken");
+		TokenDigest digest = TokenDigest.of(refreshToken);
+		long now = clock.millis();
+
+		Stripe stripe = stripeFor(userId);
+		synchronized (stripe) {
+			UserTokens tokens = stripe.users.get(userId);
+			if (tokens == null) return false;
+			Token token = tokens.byDigest.get(digest);
+			if (token == null) return false;
+			if (token.expiresAtMillis <= now) {
+				tokens.remove(digest);
+				stripe.removeIfEmpty(userId, tokens);
+				return false;
+			}
+			return true;
+		}
+	}
+
+	@Override
+	public void revoke(String userId, String refreshToken) {
+		Strings.requireNonNull(userId, "userId");
+		Strings.requireNonNull(refreshToken, "refreshToken");
+		TokenDigest digest = TokenDigest.of(refreshToken);
+
+		Stripe stripe = stripeFor(userId);
+		synchronized (stripe) {
+			UserTokens tokens = stripe.users.get(userId);
+			if (tokens == null) return;
+			tokens.remove(digest);
+			stripe.removeIfEmpty(userId, tokens);
+		}
+	}
+
+	/** 새 토큰은 기존 토큰의 family를 이어받습니다. */
+	@Override
+	public boolean rotate(String userId, String oldToken, String newToken, Instant expiresAt) {
+		return rotate(userId, null, oldToken, newToken, expiresAt);
+	}
+
+	/**
+	 * 확인, 폐기, 저장을 해당 사용자 stripe 잠금 한 번 안에서 처리합니다.
+	 * <p>familyId가 null이면 새 토큰은 기존 토큰의 family를 이어받습니다.</p>
+	 */
+	@Override
+	public boolean rotate(String userId, String familyId, String oldToken, String newToken, Instant expiresAt) {
+		Strings.requireNonNull(userId, "userId");
+		Strings.requireNonNull(oldToken, "oldToken");
+		Strings.requireNonNull(newToken, "newToken");
+		Strings.requireNonNull(expiresAt, "expiresAt");
+		TokenDigest oldDigest = TokenDigest.of(oldToken);
+		TokenDigest newDigest = TokenDigest.of(newToken);
+		long now = clock.millis();
+		long expiresAtMillis = expiresAt.toEpochMilli();
+
+		Stripe stripe = stripeFor(userId);
+		synchronized (stripe) {
+			UserTokens tokens = stripe.users.get(userId);
+			if (tokens == null) return false;
+			Token old = tokens.remove(oldDigest);
+			boolean rotated = old != null && old.expiresAtMillis > now;
+			if (rotated && expiresAtMillis > now) {
+				tokens.put(newDigest, expiresAtMillis, familyId != null ? familyId : old.familyId);
+			}
+			stripe.removeIfEmpty(userId, tokens);
+			return rotated;
+		}
+	}
+
+	@Override
+	public void revokeFamily(String userId, String familyId) {
+		Strings.requireNonNull(userId, "userId");
+		Strings.requireNonNull(familyId, "familyId");
+
+		Stripe stripe = stripeFor(userId);
+		synchronized (stripe) {
+			UserTokens tokens = stripe.users.get(userId);
+			if (tokens == null || tokens.byFamily == null) return;
+			TokenDigest current = tokens.byFamily.remove(familyId);
+			if (current != null) tokens.remove(current);
+			stripe.removeIfEmpty(userId, tokens);
+		}
+	}
+
+	@Override
+	public boolean revokeAll(String userId) {
+		Strings.requireNonNull(userId, "userId");
+
+		Stripe stripe = stripeFor(userId);
+		synchronized (stripe) {
+			stripe.users.remove(userId);
+		}
+		return true;
+	}
+
+	/**
+	 * 만료된 토큰을 모두 정리합니다.
+	 * @return 제거한 토큰 수
+	 */
+	public int purgeExpired() {
+		long now = clock.millis();
+		int removed = 0;
+		for (Stripe stripe : stripes) {
+			removed += purgeStripe(stripe, now);
+		}
+		return removed;
+	}
+
+	/** 보관 중인 토큰 수. 아직 정리되지 않은 만료 토큰도 포함합니다. */
+	public int size() {
+		int size = 0;
+		for (Stripe stripe : stripes) {
+			synchronized (stripe) {
+				for (UserTokens tokens : stripe.users.values()) {
+					size += tokens.byDigest.size();
+				}
+			}
+		}
+		return size;
+	}
+
+	private static int purgeStripe(Stripe stripe, long now) {
+		int removed = 0;
+		synchronized (stripe) {
+			Iterator<UserTokens> users = stripe.users.values().iterator();
+			while (users.hasNext()) {
+				UserTokens tokens = users.next();
+				removed += tokens.purgeIfDue(now);
+				if (tokens.byDigest.isEmpty()) users.remove();
+			}
+		}
+		return removed;
+	}
+
+	private Stripe stripeFor(String userId) {
+		int h = userId.hashCode();
+		return stripes[(h ^ (h >>> 16)) & stripeMask];
+	}
+
+	private static final class Stripe {
+		private final Map<String, UserTokens> users = new HashMap<>();
+
+		private void removeIfEmpty(String userId, UserTokens tokens) {
+			if (tokens.byDigest.isEmpty()) users.remove(userId);
+		}
+	}
+
+	private static final class Token {
+		private final long expiresAtMillis;
+		private final String familyId;
+
+		private Token(long expiresAtMillis, String familyId) {
+			this.expiresAtMillis = expiresAtMillis;
+			this.familyId = familyId;
+		}
+	}
+
+	/** 한 사용자의 토큰 목록. 소속 stripe의 잠금 아래에서만 접근합니다. */
+	private static final class UserTokens {
+		private final Map<TokenDigest, Token> byDigest = new HashMap<>(4);
+		/** family → 그 family의 현재 토큰. family를 쓰는 사용자에게만 만듭니다. */
+		private Map<String, TokenDigest> byFamily;
+		/** 보관 중인 토큰 중 가장 이른 만료 시각. 이 시각 전에는 정리할 것이 없습니다. */
+		private long earliestExpiryMillis = Long.MAX_VALUE;
+
+		private void put(TokenDigest digest, long expiresAtMillis, String familyId) {
+			Token previous = byDigest.put(digest, new Token(expiresAtMillis, familyId));
+			if (previous != null) unlinkFamily(digest, previous);
+			if (familyId != null) {
+				if (byFamily == null) byFamily = new HashMap<>(4);
+				TokenDigest replaced = byFamily.put(familyId, digest);
+				// family마다 유효한 토큰은 하나뿐이므로 이전 토큰은 함께 폐기합니다.
+				if (replaced != null && !replaced.equals(digest)) byDigest.remove(replaced);
+			}
+			earliestExpiryMillis = Math.min(earliestExpiryMillis, expiresAtMillis);
+		}
+
+		private Token remove(TokenDigest digest) {
+			Token removed = byDigest.remove(digest);
+			if (removed != null) unlinkFamily(digest, removed);
+			return removed;
+		}
+
+		private void unlinkFamily(TokenDigest digest, Token token) {
+			if (token.familyId != null && byFamily != null) {
+				byFamily.remove(token.familyId, digest);
+				if (byFamily.isEmpty()) byFamily = null;
+			}
+		}
+
+		private int purgeIfDue(long now) {
+			if (earliestExpiryMillis > now) return 0;
+			int removed = 0;
+			long earliest = Long.MAX_VALUE;
+			Iterator<Map.Entry<TokenDigest, Token>> iterator = byDigest.entrySet().iterator();
+			while (iterator.hasNext()) {
+				Map.Entry<TokenDigest, Token> entry = iterator.next();
+				Token token = entry.getValue();
+				if (token.expiresAtMillis <= now) {
+					iterator.remove();
+					unlinkFamily(entry.getKey(), token);
+					removed++;
+				} else {
+					earliest = Math.min(earliest, token.expiresAtMillis);
+				}
+			}
+			earliestExpiryMillis = earliest;
+			return removed;
+		}
+	}
+}
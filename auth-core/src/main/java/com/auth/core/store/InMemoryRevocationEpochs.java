@@ -0,0 +1,74 @@
+package com.auth.core.store;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.auth.common.utils.MoreObjects;
+import com.auth.common.utils.Strings;
+import com.auth.spi.RevocationEpochs;
+
+/**
+ * 단일 인스턴스용 메모리 {@link RevocationEpochs} 구현입니다.
+ * <p>userId → 기준 시각(epoch second) 하나만 보관하므로 조회는 맵 조회 한 번입니다.</p>
+ * <p>{@code retention}을 지정하면 기준 시각이 그만큼 지난 항목을 {@link #purgeExpired()}로 정리할 수 있습니다.
+ * 그 시점에는 기준 시각 이전에 발급된 토큰이 모두 만료되어 있어야 하므로, retention은 가장 긴 토큰 유효 시간
+ * (보통 refresh token TTL) 이상이어야 합니다.</p>
+ */
+public final class InMemoryRevocationEpochs implements RevocationEpochs {
+
+	private final Map<String, Long> epochs = new ConcurrentHashMap<>();
+	private final Duration retention;
+	private final Clock clock;
+
+	/** 항목을 정리하지 않고 계속 보관합니다. */
+	public InMemoryRevocationEpochs() {
+		this(null, Clock.systemUTC());
+	}
+
+	/**
+	 * 생성자
+	 * @param retention 기준 시각 보관 기간 (null 또는 0 이하이면 정리하지 않음)
+	 * @param clock 정리 시점 계산용 시계 (null이면 UTC 시스템 시계)
+	 */
+	public InMemoryRevocationEpochs(Duration retention, Clock clock) {
+		this.retention = (retention == null || retention.isNegative() || retention.isZero()) ? null : retention;
+		this.clock = MoreObjects.defaultIfNull(clock, Clock.systemUTC());
+	}
+
+	@Override
+	public void advance(String userId, Instant revokedAt) {
+		Strings.requireNonNull(userId, "userId");
+		Strings.requireNonNull(revokedAt, "revokedAt");
+		// 올림하면 폐기 직후 같은 초에 발급한 토큰(iat는 내림)이 발급되자마자 거부되므로 내림한 값을 기준으로 씁니다.
+		epochs.merge(userId, revokedAt.getEpochSecond(), Math::max);
+	}
+
+	@Override
+	public long notBeforeEpochSecond(String userId) {
+		Long notBefore = epochs.get(userId);
+		return notBefore == null ? NONE : notBefore;
+	}
+
+	/**
+	 * retention이 지난 기준 시각을 정리합니다.
+	 * @return 제거한 항목 수
+	 */
+	public int purgeExpired() {
+		if (retention == null) return 0;
+		long threshold = Instant.now(clock).minus(retention).getEpochSecond();
+		int removed = 0;
+		for (Map.Entry<String, Long> entry : epochs.entrySet()) {
+			// 읽은 값 그대로일 때만 지웁니다. 그 사이 advance로 앞당긴 기준 시각을 지우면 일괄 폐기가 취소됩니다.
+			if (entry.getValue() < threshold && epochs.remove(entry.getKey(), entry.getValue())) removed++;
+		}
+		return removed;
+	}
+
+	/** 보관 중인 기준 시각 수 */
+	public int size() {
+		return epochs.size();
+	}
+}
@@ -0,0 +1,162 @@
+package com.auth.core.throttle;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.auth.common.utils.MoreObjects;
+import com.auth.common.utils.Strings;
+
+/**
+ * 키별 token bucket과 같은 한도를 잠금 없이 적용하는 rate limiter입니다.
+ * <p>GCRA(Generic Cell Rate Algorithm)로 구현해 키마다 "다음 요청이 한도 안에 들어오는 이론상 시각(TAT)" 하나만
+ * {@link AtomicLong}으로 보관하고 CAS로 갱신합니다. {@code period} 동안 {@code permits}번까지 허용하며,
+ * 쉬고 있던 키는 {@code permits}번까지 한꺼번에 허용합니다.</p>
+ * <p>TAT가 지난 키는 가득 찬 bucket과 같으므로 지워도 결과가 달라지지 않습니다. 키 수가 {@code maxKeys}를 넘으면
+ * 이런 키를 정리하고, 그래도 자리가 없으면 일부 키를 훑어 TAT가 가장 이른(가득 찬 상태에 가장 가까운) 키를 내보냅니다.
+ * 무작위 키를 쏟아내 표를 채워도 처음 보는 키가 모두 거절되지 않으며, 내보낸 키는 다음 요청에서 가득 찬 bucket으로 다시 시작합니다.</p>
+ */
+public final class RateLimiter {
+
+	private static final int DEFAULT_MAX_KEYS = 100_000;
+	/** 자리가 없을 때 전체 정리를 다시 시도하기까지의 최소 간격 */
+	private static final long SWEEP_BACKOFF_NANOS = 1_000_000_000L;
+	/** 정리 후에도 자리가 없을 때 내보낼 키를 고르려고 훑는 키 수 */
+	private static final int EVICTION_SAMPLE = 16;
+
+	private final ConcurrentHashMap<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+	private final long intervalNanos;
+	private final long toleranceNanos;
+	private final int maxKeys;
+	private final Clock clock;
+	private final AtomicBoolean sweeping = new AtomicBoolean();
+	private volatile long nextSweepAt = Long.MIN_VALUE;
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder evicted = new LongAdder();
+
+	/**
+	 * 키 10만 개까지 보관합니다.
+	 * @param permits period 동안 허용할 요청 수 (1 이상)
+	 * @param period 한도 기간 (양수)
+	 */
+	public RateLimiter(int permits, Duration period) {
+		this(permits, period, DEFAULT_MAX_KEYS, Clock.systemUTC());
+	}
+
+	/**
+	 * 생성자
+	 * @param permits period 동안 허용할 요청 수 (1 이상)
+	 * @param period 한도 기간 (양수)
+	 * @param maxKeys 보관할 최대 키 수 (0 이하이면 기본값 100,000)
+	 * @param clock 시간 계산용 시계 (null이면 UTC 시스템 시계)
+	 */
+	public RateLimiter(int permits, Duration period, int maxKeys, Clock clock) {
+		if (permits < 1) throw new IllegalArgumentException("permits must be at least 1");
+		Strings.requireNonNull(period, "period");
+		if (period.isNegative() || period.isZero()) throw new IllegalArgumentException("period must be positive");
+		this.intervalNanos = Math.max(1L, period.toNanos() / permits);
+		this.toleranceNanos = intervalNanos * (permits - 1);
+		this.maxKeys = maxKeys > 0 ? maxKeys : DEFAULT_MAX_KEYS;
+		this.clock = MoreObjects.defaultIfNull(clock, Clock.systemUTC());
+	}
+
+	/**
+	 * 요청 하나를 허용할지 결정하고, 허용하면 한도에 반영합니다.
+	 * @return 허용하면 true
+	 */
+	public boolean tryAcquire(String key) {
+		Strings.requireNonNull(key, "key");
+		long now = clock.millis() * 1_000_000L;
+
+		AtomicLong arrival = arrivals.get(key);
+		if (arrival == null) {
+			if (arrivals.size() >= maxKeys) makeRoom(now);
+			arrival = arrivals.computeIfAbsent(key, ignored -> new AtomicLong(Long.MIN_VALUE));
+		}
+
+		while (true) {
+			long tat = arrival.get();
+			long start = Math.max(tat, now);
+			if (start - now > toleranceNanos) {
+				rejected.increment();
+				return false;
+			}
+			if (arrival.compareAndSet(tat, start + intervalNanos)) return true;
+		}
+	}
+
+	/**
+	 * TAT가 지난(가득 찬 bucket과 같은) 키를 정리합니다.
+	 * @return 제거한 키 수
+	 */
+	public int purgeIdle() {
+		return purgeIdle(clock.millis() * 1_000_000L);
+	}
+
+	/** 보관 중인 키 수 */
+	public int size() {
+		return arrivals.size();
+	}
+
+	/** 누적 거절 횟수 */
+	public long rejectedCount() {
+		return rejected.sum();
+	}
+
+	/** 자리가 없어 활성 키를 내보낸 누적 횟수 */
+	public long evictedCount() {
+		return evicted.sum();
+	}
+
+	/**
+	 * 한 스레드만 정리하고, 나머지는 정리 결과를 기다리지 않고 현재 크기로 판단합니다.
+	 * <p>활성 키로 가득 찬 동안 새 키마다 전체를 훑지 않도록 정리는 일정 간격으로만 다시 시도하고,
+	 * 그 사이에는 {@link #evictOne()}으로 키 하나만 내보냅니다.</p>
+	 */
+	private void makeRoom(long now) {
+		if (now >= nextSweepAt && sweeping.compareAndSet(false, true)) {
+			try {
+				purgeIdle(now);
+				nextSweepAt = now + SWEEP_BACKOFF_NANOS;
+			} finally {
+				sweeping.set(false);
+			}
+		}
+		if (arrivals.size() >= maxKeys) evictOne();
+	}
+
+	/** 앞쪽 키 몇 개 중 TAT가 가장 이른 키를 내보냅니다. 내보낸 키는 다음 요청에서 가득 찬 bucket으로 다시 시작합니다. */
+	private void evictOne() {
+		String oldestKey = null;
+		AtomicLong oldest = null;
+		long oldestTat = Long.MAX_VALUE;
+		int sampled = 0;
+		for (Map.Entry<String, AtomicLong> entry : arrivals.entrySet()) {
+			long tat = entry.getValue().get();
+			if (tat < oldestTat) {
+				oldestKey = entry.getKey();
+				oldest = entry.getValue();
+				oldestTat = tat;
+			}
+			if (++sampled >= EVICTION_SAMPLE) break;
+		}
+		if (oldestKey != null && arrivals.remove(oldestKey, oldest)) evicted.increment();
+	}
+
+	private int purgeIdle(long now) {
+		// 제거와 동시에 갱신된 키는 요청 하나가 기록되지 않을 수 있지만, 가득 찬 bucket에서 들어온 요청이라 한도를 넘지는 않습니다.
+		int removed = 0;
+		for (Iterator<AtomicLong> iterator = arrivals.values().iterator(); iterator.hasNext(); ) {
+			if (iterator.next().get() <= now) {
+				iterator.remove();
+				removed++;
+			}
+		}
+		return removed;
+	}
+}
@@ -0,0 +1,38 @@
+package com.auth.core.throttle;
+
+import java.util.Locale;
+
+import com.auth.common.utils.Strings;
+import com.auth.spi.LoginThrottle;
+
+/**
+ * username별, 그리고 선택적으로 요청 출처별 {@link RateLimiter}로 로그인 시도를 제한하는 {@link LoginThrottle} 구현입니다.
+ * <p>username은 대소문자만 바꿔 한도를 피하지 못하도록 소문자로 맞춘 뒤 키로 씁니다.
+ * 출처 한도를 먼저 확인하므로, 출처에서 거절된 시도는 해당 username의 한도를 소모하지 않습니다.</p>
+ */
+public final class RateLimitingLoginThrottle implements LoginThrottle {
+
+	private final RateLimiter perUsername;
+	private final RateLimiter perSource;
+
+	/** username별 한도만 적용합니다. */
+	public RateLimitingLoginThrottle(RateLimiter perUsername) {
+		this(perUsername, null);
+	}
+
+	/**
+	 * 생성자
+	 * @param perUsername username별 한도
+	 * @param perSource 출처별 한도 (null이면 적용하지 않음). sourceKey가 없는 시도에는 적용하지 않습니다.
+	 */
+	public RateLimitingLoginThrottle(RateLimiter perUsername, RateLimiter perSource) {
+		this.perUsername = Strings.requireNonNull(perUsername, "perUsername");
+		this.perSource = perSource;
+	}
+
+	@Override
+	public boolean tryAcquire(String username, String sourceKey) {
+		if (perSource != null && sourceKey != null && !perSource.tryAcquire(sourceKey)) return false;
+		return perUsername.tryAcquire(username.toLowerCase(Locale.ROOT));
+	}
+}
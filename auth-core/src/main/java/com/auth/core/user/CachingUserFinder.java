@@ -0,0 +1,191 @@
+package com.auth.core.user;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.auth.api.model.User;
+import com.auth.common.cache.CacheStats;
+import com.auth.common.cache.ExpiringLruCache;
+import com.auth.common.utils.MoreObjects;
+import com.auth.common.utils.Strings;
+import com.auth.spi.UserFinder;
+
+/**
+ * 조회한 사용자를 잠시 보관하는 read-through {@link UserFinder} 데코레이터입니다.
+ * <p>찾은 사용자는 {@link ExpiringLruCache}에 {@code ttl} 동안 보관하고 {@code maximumSize}를 넘으면 오래 쓰지 않은 항목부터 버립니다.
+ * 같은 username을 동시에 조회하면 한 스레드만 위임하고 나머지는 그 결과를 함께 받습니다.
+ * 없는 사용자는 보관하지 않으므로, 필요하면 {@link NegativeCachingUserFinder}와 겹쳐 씁니다.</p>
+ * <p>비밀번호나 권한이 바뀌면 {@link #invalidate(String)}를 호출해야 합니다. 그렇지 않으면 최대 {@code ttl} 동안 이전 해시와 권한으로 로그인합니다.
+ * 조회 도중 무효화가 일어나면 그 조회 결과는 반환만 하고 보관하지 않습니다.</p>
+ */
+public final class CachingUserFinder implements UserFinder {
+
+	private static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+	private final UserFinder delegate;
+	private final ExpiringLruCache<String, User> cache;
+	private final ConcurrentHashMap<String, CompletableFuture<Optional<User>>> loading = new ConcurrentHashMap<>();
+	private final long ttlMillis;
+	private final Clock clock;
+	/** 무효화할 때마다 증가합니다. 조회 전후 값이 다르면 결과를 보관하지 않습니다. */
+	private final AtomicLong invalidations = new AtomicLong();
+
+	private final LongAdder loadCount = new LongAdder();
+	private final LongAdder loadFailureCount = new LongAdder();
+	private final LongAdder coalescedCount = new LongAdder();
+	private final LongAdder totalLoadNanos = new LongAdder();
+
+	/**
+	 * 사용자를 1분 동안 보관합니다.
+	 * @param delegate 실제 조회를 수행할 UserFinder
+	 * @param maximumSize 보관할 최대 사용자 수 (1 이상)
+	 */
+	public CachingUserFinder(UserFinder delegate, int maximumSize) {
+		this(delegate, maximumSize, DEFAULT_TTL, Clock.systemUTC());
+	}
+
+	/**
+	 * 생성자
+	 * @param delegate 실제 조회를 수행할 UserFinder
+	 * @param maximumSize 보관할 최대 사용자 수 (1 이상)
+	 * @param ttl 사용자를 보관할 시간 (null 또는 0 이하이면 기본값 1분)
+	 * @param clock 시간 계산용 시계 (null이면 UTC 시스템 시계)
+	 */
+	public CachingUserFinder(UserFinder delegate, int maximumSize, Duration ttl, Clock clock) {
+		this.delegate = Strings.requireNonNull(delegate, "delegate");
+		this.cache = new ExpiringLruCache<>(maximumSize);
+		this.ttlMillis = (ttl == null || ttl.isNegative() || ttl.isZero()) ? DEFAULT_TTL.toMillis() : ttl.toMillis();
+		this.clock = MoreObjects.defaultIfNull(clock, Clock.systemUTC());
+	}
+
+	@Override
+	public Optional<User> findByUsername(String username) {
+		long now = clock.millis();
+		User cached = cache.get(username, now);
+		if (cached != null) return Optional.of(cached);
+
+		CompletableFuture<Optional<User>> mine = new CompletableFuture<>();
+		CompletableFuture<Optional<User>> inFlight = loading.putIfAbsent(username, mine);
+		if (inFlight != null) {
+			coalescedCount.increment();
+			return await(inFlight);
+		}
+
+		try {
+			Optional<User> found = load(username, now);
+			mine.complete(found);
+			return found;
+		} catch (Throwable e) {
+			mine.completeExceptionally(e);
+			throw e;
+		} finally {
+			loading.remove(username, mine);
+		}
+	}
+
+	/**
+	 * 보관 중인 사용자를 버립니다. 비밀번호 변경, 권한 변경, 계정 잠금/삭제 시 호출합니다.
+	 * <p>진행 중인 조회는 결과를 보관하지 않고, 이후 조회는 새로 위임합니다.</p>
+	 */
+	public void invalidate(String username) {
+		invalidations.incrementAndGet();
+		cache.invalidate(username);
+		loading.remove(username);
+	}
+
+	/** 보관 중인 사용자를 모두 버립니다. */
+	public void invalidateAll() {
+		invalidations.incrementAndGet();
+		cache.invalidateAll();
+		loading.clear();
+	}
+
+	/** 만료된 항목을 정리합니다. */
+	public void purgeExpired() {
+		cache.purgeExpired(clock.millis());
+	}
+
+	/** 조회/위임 횟수와 위임에 쓴 시간을 반환합니다. */
+	public Stats stats() {
+		CacheStats cacheStats = cache.stats();
+		return new Stats(
+			cacheStats.hitCount(),
+			cacheStats.missCount(),
+			cacheStats.evictionCount(),
+			loadCount.sum(),
+			loadFailureCount.sum(),
+			coalescedCount.sum(),
+			totalLoadNanos.sum()
+		);
+	}
+
+	private Optional<User> load(String username, long now) {
+		long invalidationsBefore = invalidations.get();
+		long startedAt = System.nanoTime();
+		Optional<User> found;
+		try {
+			found = delegate.findByUsername(username);
+		} catch (RuntimeException e) {
+			loadFailureCount.increment();
+			throw e;
+		} finally {
+			totalLoadNanos.add(System.nanoTime() - startedAt);
+			loadCount.increment();
+		}
+
+		if (found.isPresent() && invalidations.get() == invalidationsBefore) {
+			cache.put(username, found.get(), now + ttlMillis);
+			// 확인과 저장 사이에 무효화가 끼어들었다면 방금 저장한 값을 되돌립니다.
+			if (invalidations.get() != invalidationsBefore) cache.invalidate(username);
+		}
+		return found;
+	}
+
+	private static Optional<User> await(CompletableFuture<Optional<User>> inFlight) {
+		try {
+			return inFlight.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) throw cause;
+			if (e.getCause() instanceof Error cause) throw cause;
+			throw e;
+		}
+	}
+
+	/**
+	 * 캐시 상태 스냅샷입니다.
+	 * @param hitCount 캐시에서 바로 반환한 횟수
+	 * @param missCount 캐시에 없어 위임하거나 진행 중인 조회를 기다린 횟수
+	 * @param evictionCount 크기 초과나 만료로 버린 항목 수
+	 * @param loadCount 위임한 횟수
+	 * @param loadFailureCount 위임이 예외로 끝난 횟수
+	 * @param coalescedCount 진행 중인 조회 결과를 함께 받은 횟수
+	 * @param totalLoadNanos 위임에 쓴 누적 시간
+	 */
+	public record Stats(
+		long hitCount,
+		long missCount,
+		long evictionCount,
+		long loadCount,
+		long loadFailureCount,
+		long coalescedCount,
+		long totalLoadNanos
+	) {
+
+		/** 전체 조회 중 hit 비율을 반환합니다. 조회가 없었다면 1.0 입니다. */
+		public double hitRate() {
+			long requests = hitCount + missCount;
+			return requests == 0 ? 1.0 : (double) hitCount / requests;
+		}
+
+		/** 위임 한 번에 걸린 평균 시간 (nanos). 위임이 없었다면 0 입니다. */
+		public double averageLoadNanos() {
+			return loadCount == 0 ? 0.0 : (double) totalLoadNanos / loadCount;
+		}
+	}
+}
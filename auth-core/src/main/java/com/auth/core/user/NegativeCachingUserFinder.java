@@ -0,0 +1,82 @@
+package com.auth.core.user;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+
+import com.auth.api.model.User;
+import com.auth.common.cache.CacheStats;
+import com.auth.common.cache.ExpiringLruCache;
+import com.auth.common.utils.MoreObjects;
+import com.auth.common.utils.Strings;
+import com.auth.spi.UserFinder;
+
+/**
+ * 조회 결과가 없던 username을 잠시 기억하는 {@link UserFinder} 데코레이터입니다.
+ * <p>존재하지 않는 username으로 반복해 로그인하면 매번 저장소까지 가지 않고 {@code ttl} 동안 바로 빈 결과를 반환합니다.
+ * 찾은 사용자는 캐시하지 않으므로 비밀번호 해시나 권한 변경은 바로 반영됩니다.</p>
+ * <p>캐시는 {@link ExpiringLruCache}로 크기를 제한하므로 무작위 username을 쏟아내도 메모리는 {@code maximumSize}를 넘지 않습니다.
+ * 가입 직후처럼 없던 사용자가 생기면 {@link #invalidate(String)}로 바로 반영하고, 그렇지 않으면 최대 {@code ttl} 동안 없는 사용자로 보입니다.</p>
+ */
+public final class NegativeCachingUserFinder implements UserFinder {
+
+	private static final Duration DEFAULT_TTL = Duration.ofSeconds(10);
+
+	private final UserFinder delegate;
+	private final ExpiringLruCache<String, Boolean> missing;
+	private final long ttlMillis;
+	private final Clock clock;
+
+	/**
+	 * 없는 username을 10초 동안 기억합니다.
+	 * @param delegate 실제 조회를 수행할 UserFinder
+	 * @param maximumSize 기억할 최대 username 수 (1 이상)
+	 */
+	public NegativeCachingUserFinder(UserFinder delegate, int maximumSize) {
+		this(delegate, maximumSize, DEFAULT_TTL, Clock.systemUTC());
+	}
+
+	/**
+	 * 생성자
+	 * @param delegate 실제 조회를 수행할 UserFinder
+	 * @param maximumSize 기억할 최대 username 수 (1 이상)
+	 * @param ttl 없는 username을 기억할 시간 (null 또는 0 이하이면 기본값 10초)
+	 * @param clock 시간 계산용 시계 (null이면 UTC 시스템 시계)
+	 */
+	public NegativeCachingUserFinder(UserFinder delegate, int maximumSize, Duration ttl, Clock clock) {
+		this.delegate = Strings.requireNonNull(delegate, "delegate");
+		this.missing = new ExpiringLruCache<>(maximumSize);
+		this.ttlMillis = (ttl == null || ttl.isNegative() || ttl.isZero()) ? DEFAULT_TTL.toMillis() : ttl.toMillis();
+		this.clock = MoreObjects.defaultIfNull(clock, Clock.systemUTC());
+	}
+
+	@Override
+	public Optional<User> findByUsername(String username) {
+		long now = clock.millis();
+		if (missing.get(username, now) != null) return Optional.empty();
+
+		Optional<User> found = delegate.findByUsername(username);
+		if (found.isEmpty()) missing.put(username, Boolean.TRUE, now + ttlMillis);
+		return found;
+	}
+
+	/** 가입 등으로 username이 새로 생겼을 때 호출합니다. */
+	public void invalidate(String username) {
+		missing.invalidate(username);
+	}
+
+	/** 기억한 username을 모두 지웁니다. */
+	public void invalidateAll() {
+		missing.invalidateAll();
+	}
+
+	/** 만료된 항목을 정리합니다. */
+	public void purgeExpired() {
+		missing.purgeExpired(clock.millis());
+	}
+
+	/** hit는 저장소 조회를 건너뛴 횟수, miss는 저장소까지 간 횟수입니다. */
+	public CacheStats stats() {
+		return missing.stats();
+	}
+}
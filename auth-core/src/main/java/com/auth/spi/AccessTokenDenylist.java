@@ -0,0 +1,35 @@
+package com.auth.spi;
+
+/**
+ * 만료 전에 폐기한 access token의 식별자(jti)를 보관하는 포트입니다.
+ * <p>access token 검증마다 조회하고 대부분의 조회 결과는 "폐기되지 않음"이므로,
+ * 구현체는 음성 조회를 메모리 조회 수준으로, 가능하면 객체 할당 없이 끝내야 합니다.
+ * 토큰 만료 시각이 지난 항목은 더 이상 보관할 필요가 없습니다.</p>
+ */
+public interface AccessTokenDenylist {
+
+	/**
+	 * 토큰 식별자를 폐기 목록에 추가한다.
+	 * - 만료 시각이 이미 지났으면 아무 일도 하지 않는다.
+	 * @param tokenId 토큰 식별자 (jti)
+	 * @param expiresAtEpochSecond 토큰 만료 시각 (exp, epoch second)
+	 * @throws IllegalArgumentException 만료까지 남은 시간이 {@link #maxTokenLifetimeSeconds()}보다 긴 경우
+	 */
+	void deny(String tokenId, long expiresAtEpochSecond);
+
+	/**
+	 * 토큰 식별자가 폐기되었는지 확인한다.
+	 * @param tokenId 토큰 식별자 (jti)
+	 * @param expiresAtEpochSecond 토큰 만료 시각 (exp, epoch second). 구현체가 보관 위치를 찾는 데 사용할 수 있다.
+	 */
+	boolean isDenied(String tokenId, long expiresAtEpochSecond);
+
+	/**
+	 * 폐기 목록에 올릴 수 있는 토큰의 최대 남은 유효 시간(초).
+	 * - 토큰 발급 측은 access token 유효 시간이 이 값을 넘지 않는지 확인한다.
+	 * - 기본 구현은 제한이 없다.
+	 */
+	default long maxTokenLifetimeSeconds() {
+		return Long.MAX_VALUE;
+	}
+}
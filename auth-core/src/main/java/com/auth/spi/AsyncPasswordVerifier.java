@@ -0,0 +1,39 @@
+package com.auth.spi;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import com.auth.common.utils.Strings;
+
+/** {@link PasswordVerifier}의 비동기 포트입니다. 해시 비교처럼 오래 걸리는 계산을 호출 스레드 밖에서 수행합니다. */
+public interface AsyncPasswordVerifier {
+
+	/** rawPassword가 storedHash와 매칭되는지 검증 */
+	CompletionStage<Boolean> matches(String rawPassword, String storedHash);
+
+	/** 없는 사용자로 로그인할 때 대신 검증할 해시. 규칙은 {@link PasswordVerifier#dummyHash()}와 같다. */
+	default String dummyHash() {
+		return null;
+	}
+
+	/**
+	 * 블로킹 {@link PasswordVerifier}를 executor에서 실행하도록 감싼다.
+	 * @param executor 해시 계산을 실행할 executor (CPU 코어 수에 맞춘 크기를 권장)
+	 */
+	static AsyncPasswordVerifier of(PasswordVerifier passwordVerifier, Executor executor) {
+		Strings.requireNonNull(passwordVerifier, "passwordVerifier");
+		Strings.requireNonNull(executor, "executor");
+		return new AsyncPasswordVerifier() {
+			@Override
+			public CompletionStage<Boolean> matches(String rawPassword, String storedHash) {
+				return CompletableFuture.supplyAsync(() -> passwordVerifier.matches(rawPassword, storedHash), executor);
+			}
+
+			@Override
+			public String dummyHash() {
+				return passwordVerifier.dummyHash();
+			}
+		};
+	}
+}
@@ -0,0 +1,90 @@
+package com.auth.spi;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import com.auth.common.utils.Strings;
+
+/**
+ * {@link RefreshTokenStore}의 비동기 포트입니다.
+ * <p>각 메서드의 의미는 같은 이름의 {@link RefreshTokenStore} 메서드와 같습니다. familyId는 null일 수 있습니다.</p>
+ */
+public interface AsyncRefreshTokenStore {
+
+	/** 토큰 family와 함께 refreshToken을 저장한다. */
+	CompletionStage<Void> save(String userId, String familyId, String refreshToken, Instant expiresAt);
+
+	/** refreshToken이 저장소 기준으로 유효한지 확인한다. */
+	CompletionStage<Boolean> exists(String userId, String refreshToken);
+
+	/** 로그아웃/강제 만료 시 폐기 */
+	CompletionStage<Void> revoke(String userId, String refreshToken);
+
+	/**
+	 * oldToken이 저장되어 있으면 폐기하고 newToken을 저장한다. (refresh token 회전)
+	 * - 구현체는 확인/폐기/저장을 하나의 원자적 연산으로 처리해야 한다.
+	 * @return oldToken이 저장되어 있었으면 true로 완료된다. false면 아무것도 저장하지 않는다.
+	 */
+	CompletionStage<Boolean> rotate(String userId, String familyId, String oldToken, String newToken, Instant expiresAt);
+
+	/**
+	 * family에 속한 토큰을 모두 폐기한다.
+	 * - 기본 구현은 family를 추적하지 않으므로 아무것도 하지 않는다.
+	 */
+	default CompletionStage<Void> revokeFamily(String userId, String familyId) {
+		return CompletableFuture.completedFuture(null);
+	}
+
+	/**
+	 * userId의 refresh token을 모두 폐기한다.
+	 * - 기본 구현은 아무것도 폐기하지 않고 false로 완료된다.
+	 * @return 저장된 refresh token을 모두 폐기했으면 true로 완료된다. 지원하지 않으면 false
+	 * @see RefreshTokenStore#revokeAll(String)
+	 */
+	default CompletionStage<Boolean> revokeAll(String userId) {
+		return CompletableFuture.completedFuture(false);
+	}
+
+	/**
+	 * 블로킹 {@link RefreshTokenStore}를 executor에서 실행하도록 감싼다.
+	 * - 원자성은 감싼 저장소의 {@link RefreshTokenStore#rotate}를 그대로 따른다.
+	 * @param executor 블로킹 호출을 실행할 executor (I/O 대기에 맞는 크기여야 한다)
+	 */
+	static AsyncRefreshTokenStore of(RefreshTokenStore store, Executor executor) {
+		Strings.requireNonNull(store, "store");
+		Strings.requireNonNull(executor, "executor");
+		return new AsyncRefreshTokenStore() {
+			@Override
+			public CompletionStage<Void> save(String userId, String familyId, String refreshToken, Instant expiresAt) {
+				return CompletableFuture.runAsync(() -> store.save(userId, familyId, refreshToken, expiresAt), executor);
+			}
+
+			@Override
+			public CompletionStage<Boolean> exists(String userId, String refreshToken) {
+				return CompletableFuture.supplyAsync(() -> store.exists(userId, refreshToken), executor);
+			}
+
+			@Override
+			public CompletionStage<Void> revoke(String userId, String refreshToken) {
+				return CompletableFuture.runAsync(() -> store.revoke(userId, refreshToken), executor);
+			}
+
+			@Override
+			public CompletionStage<Boolean> rotate(String userId, String familyId, String oldToken, String newToken, Instant expiresAt) {
+				return CompletableFuture.supplyAsync(() -> store.rotate(userId, familyId, oldToken, newToken, expiresAt), executor);
+			}
+
+			@Override
+			public CompletionStage<Void> revokeFamily(String userId, String familyId) {
+				return CompletableFuture.runAsync(() -> store.revokeFamily(userId, familyId), executor);
+			}
+
+			@Override
+			public CompletionStage<Boolean> revokeAll(String userId) {
+				return CompletableFuture.supplyAsync(() -> store.revokeAll(userId), executor);
+			}
+		};
+	}
+}
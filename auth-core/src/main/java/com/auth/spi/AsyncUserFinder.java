@@ -0,0 +1,30 @@
+package com.auth.spi;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import com.auth.api.model.User;
+import com.auth.common.utils.Strings;
+
+/** {@link UserFinder}의 비동기 포트입니다. 호출 스레드를 막지 않고 조회 결과를 돌려줍니다. */
+public interface AsyncUserFinder {
+
+	/**
+	 * username으로 유저를 조회한다.
+	 * @return 조회 결과. 유저가 없으면 Optional.empty()로 완료된다.
+	 */
+	CompletionStage<Optional<User>> findByUsername(String username);
+
+	/**
+	 * 블로킹 {@link UserFinder}를 executor에서 실행하도록 감싼다.
+	 * - 비동기 드라이버가 없는 저장소를 쓸 때 사용한다.
+	 * @param executor 블로킹 호출을 실행할 executor (I/O 대기에 맞는 크기여야 한다)
+	 */
+	static AsyncUserFinder of(UserFinder userFinder, Executor executor) {
+		Strings.requireNonNull(userFinder, "userFinder");
+		Strings.requireNonNull(executor, "executor");
+		return username -> CompletableFuture.supplyAsync(() -> userFinder.findByUsername(username), executor);
+	}
+}
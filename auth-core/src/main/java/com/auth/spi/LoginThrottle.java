@@ -0,0 +1,17 @@
+package com.auth.spi;
+
+/**
+ * 로그인 시도 허용 여부를 결정하는 포트입니다.
+ * <p>사용자 조회와 비밀번호 검증보다 먼저 호출되므로, 거절된 시도는 해시 계산 비용을 쓰지 않습니다.
+ * 모든 로그인 시도마다 호출되므로 구현체는 잠금 없이 메모리 조회 수준으로 빨라야 합니다.</p>
+ */
+public interface LoginThrottle {
+
+	/**
+	 * 로그인 시도 하나를 허용할지 결정하고, 허용하면 그 시도를 한도에 반영한다.
+	 * @param username 로그인 식별자
+	 * @param sourceKey 호출자가 넘긴 요청 출처 식별자 (IP, 디바이스 ID 등). 없으면 null
+	 * @return 허용하면 true
+	 */
+	boolean tryAcquire(String username, String sourceKey);
+}
@@ -6,4 +6,14 @@ package com.auth.spi;
 public interface PasswordVerifier {
 	/** rawPassword가 storedHash와 매칭되는지 검증 */
 	boolean matches(String rawPassword, String storedHash);
+
+	/**
+	 * 없는 사용자로 로그인할 때 대신 검증할 해시를 반환한다.
+	 * - 실제 사용자 해시와 같은 알고리즘/비용으로 만든, 어떤 비밀번호와도 맞지 않는 값이어야 한다.
+	 * - 서비스 생성 시 한 번 읽으므로 기동 시 미리 만들어 두고 같은 값을 반환한다.
+	 * - 기본 구현은 null을 반환하며, 이 경우 서비스는 마지막으로 조회된 실제 사용자의 해시로 대신한다.
+	 */
+	default String dummyHash() {
+		return null;
+	}
 }
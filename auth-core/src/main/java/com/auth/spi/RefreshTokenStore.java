@@ -14,6 +14,16 @@ public interface RefreshTokenStore {
 	 */
 	void save(String userId, String refreshToken, Instant expiresAt);
 
+	/**
+	 * 토큰 family와 함께 refreshToken을 저장한다.
+	 * - family는 한 번의 로그인에서 회전으로 이어지는 refresh token 묶음이다.
+	 * - family를 지원하는 구현체는 family별 현재 토큰을 색인해 {@link #revokeFamily}를 한 번에 처리한다.
+	 * - 기본 구현은 family를 무시하고 {@link #save(String, String, Instant)}로 위임한다.
+	 */
+	default void save(String userId, String familyId, String refreshToken, Instant expiresAt) {
+		save(userId, refreshToken, expiresAt);
+	}
+
 	/**
 	 * refreshToken이 저장소 기준으로 유효한지 확인한다.
 	 * - 토큰 자체의 서명/만료는 TokenService가 검증
@@ -25,4 +35,47 @@ public interface RefreshTokenStore {
 	 * 로그아웃/강제 만료 시 폐기
 	 */
 	void revoke(String userId, String refreshToken);
+
+	/**
+	 * oldToken이 저장되어 있으면 폐기하고 newToken을 저장한다. (refresh token 회전)
+	 * - 구현체는 확인/폐기/저장을 하나의 원자적 연산으로 처리해야 한다.
+	 *   같은 oldToken으로 동시에 호출되면 정확히 한 호출만 true를 받는다.
+	 * - 원격 저장소라면 한 번의 왕복(스크립트, 트랜잭션 등)으로 처리하는 것을 권장
+	 * - 기본 구현은 기존 구현체 호환용으로 exists → revoke → save를 차례로 호출하며 원자적이지 않다.
+	 * @return oldToken이 저장되어 있었으면 true. false면 아무것도 저장하지 않는다.
+	 */
+	default boolean rotate(String userId, String oldToken, String newToken, Instant expiresAt) {
+		if (!exists(userId, oldToken)) return false;
+		revoke(userId, oldToken);
+		save(userId, newToken, expiresAt);
+		return true;
+	}
+
+	/**
+	 * family를 지정해 회전한다. 새 토큰은 같은 family의 현재 토큰이 된다.
+	 * - 기본 구현은 family를 무시하고 {@link #rotate(String, String, String, Instant)}로 위임한다.
+	 */
+	default boolean rotate(String userId, String familyId, String oldToken, String newToken, Instant expiresAt) {
+		return rotate(userId, oldToken, newToken, expiresAt);
+	}
+
+	/**
+	 * family에 속한 토큰을 모두 폐기한다.
+	 * - 이미 회전되어 폐기된 토큰이 다시 쓰이면(탈취 의심) 그 family 전체를 끊는 용도
+	 * - 사용자 토큰 전체를 훑지 않고 한 번의 연산으로 처리하는 것을 권장
+	 * - 기본 구현은 family를 추적하지 않으므로 아무것도 하지 않는다.
+	 */
+	default void revokeFamily(String userId, String familyId) {
+	}
+
+	/**
+	 * userId의 refresh token을 모두 폐기한다.
+	 * - 비밀번호 변경/계정 잠금 시 {@link TokenService#revokeAllIssuedBefore}와 함께 호출된다.
+	 * - 기준 시각은 초 단위로 내림하므로, 폐기와 같은 초에 먼저 발급된 refresh token은 이 호출로 막는다.
+	 * - 기본 구현은 아무것도 폐기하지 않고 false를 반환한다. 사용자별 토큰을 찾을 수 있는 구현체는 재정의해야 한다.
+	 * @return 저장된 refresh token을 모두 폐기했으면 true, 지원하지 않으면 false
+	 */
+	default boolean revokeAll(String userId) {
+		return false;
+	}
 }
@@ -0,0 +1,31 @@
+package com.auth.spi;
+
+import java.time.Instant;
+
+/**
+ * 사용자별 토큰 폐기 기준 시각(not-before)을 보관하는 포트입니다.
+ * <p>기준 시각보다 먼저 발급된 토큰은 서명과 만료가 유효해도 폐기된 것으로 봅니다.
+ * 토큰 검증마다 조회하므로 구현체는 메모리 조회 수준으로 빨라야 합니다.
+ * 여러 인스턴스가 공유해야 하면 외부 저장소의 변경을 로컬 캐시에 반영해 읽는 방식을 권장합니다.</p>
+ */
+public interface RevocationEpochs {
+
+	/** 기준 시각이 없는 사용자에 대해 {@link #notBeforeEpochSecond(String)}가 반환하는 값 */
+	long NONE = Long.MIN_VALUE;
+
+	/**
+	 * userId의 기준 시각을 revokedAt 이후로 옮긴다.
+	 * - 기준 시각은 초 단위로 내림한다. revokedAt과 같은 초에 발급된 토큰은 폐기되지 않으므로
+	 *   폐기 직후 다시 발급한 토큰을 바로 쓸 수 있다.
+	 * - 같은 초에 폐기 전에 발급된 refresh token은 {@link RefreshTokenStore#revokeAll}이 막고,
+	 *   access token은 짧은 유효 시간으로 노출을 제한한다.
+	 * - 기준 시각은 뒤로 돌아가지 않는다.
+	 */
+	void advance(String userId, Instant revokedAt);
+
+	/**
+	 * iat(epoch second)가 이 값보다 작은 토큰은 폐기된 것이다.
+	 * @return 기준 시각(epoch second), 없으면 {@link #NONE}
+	 */
+	long notBeforeEpochSecond(String userId);
+}
@@ -1,5 +1,6 @@
 package com.auth.spi;
 
+import java.time.Instant;
 
 import com.auth.api.model.Principal;
 
@@ -8,6 +9,14 @@ import com.auth.api.model.Principal;
  */
 public interface TokenService {
 
+	/**
+	 * refresh token family 식별자를 담는 {@link Principal} 속성 이름입니다.
+	 * - 구현체는 refresh token 발급 시 이 속성 값을 토큰에 기록하고, 검증 시 같은 이름의 속성으로 돌려준다.
+	 * - 속성이 없으면 새 family를 만들어 기록한다.
+	 * - access token에는 기록하지 않는다.
+	 */
+	String FAMILY_ID_ATTRIBUTE = "fid";
+
 	/** Access Token 발급 */
 	String issueAccessToken(Principal principal);
 
@@ -25,4 +34,26 @@ public interface TokenService {
 
 	/** Refresh Token 검증 -> Principal 추출 */
 	Principal verifyRefreshToken(String token);
+
+	/**
+	 * userId에게 notBefore 이전에 발급된 access/refresh token을 모두 폐기한다. ("모든 기기에서 로그아웃")
+	 * - 토큰을 하나씩 찾지 않고 사용자별 기준 시각 하나만 옮기는 방식으로 구현하는 것을 권장
+	 * - 이후 verifyAccessToken/verifyRefreshToken은 해당 토큰을 거부해야 한다.
+	 * - 기본 구현은 지원하지 않으므로 아무것도 하지 않고 false를 반환한다.
+	 * @return 기준 시각을 옮겼으면 true, 구현체가 일괄 폐기를 지원하지 않으면 false
+	 */
+	default boolean revokeAllIssuedBefore(String userId, Instant notBefore) {
+		return false;
+	}
+
+	/**
+	 * access token 하나를 만료 전에 폐기한다.
+	 * - 이후 verifyAccessToken은 해당 토큰을 거부해야 한다.
+	 * - 이미 만료된 토큰은 아무 일도 하지 않는다.
+	 * - 기본 구현은 지원하지 않으므로 아무것도 하지 않고 false를 반환한다.
+	 * @return 폐기했거나 이미 만료된 토큰이면 true, 구현체가 개별 폐기를 지원하지 않으면 false
+	 */
+	default boolean revokeAccessToken(String token) {
+		return false;
+	}
 }
@@ -0,0 +1,47 @@
+package com.auth.api.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AuthorityRegistryTest {
+
+	@Test
+	@DisplayName("같은 이름은 항상 같은 id를 받고, id로 이름을 되찾는다.")
+	void intern_AssignsStableIds() {
+		AuthorityRegistry registry = new AuthorityRegistry(16);
+
+		int admin = registry.intern("ADMIN");
+		int user = registry.intern("USER");
+
+		assertThat(registry.intern("ADMIN")).isEqualTo(admin);
+		assertThat(user).isNotEqualTo(admin);
+		assertThat(registry.nameOf(user)).isEqualTo("USER");
+		assertThat(registry.size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("idOf는 처음 보는 이름을 등록하지 않고 -1을 반환한다.")
+	void idOf_DoesNotRegister() {
+		AuthorityRegistry registry = new AuthorityRegistry(16);
+
+		assertThat(registry.idOf("GUEST")).isEqualTo(-1);
+		assertThat(registry.idOf(null)).isEqualTo(-1);
+		assertThat(registry.size()).isZero();
+		assertThatThrownBy(() -> registry.nameOf(0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("상한에 닿으면 새 이름은 -1을 받고 기존 id는 그대로다.")
+	void intern_StopsAtMaximumSize() {
+		AuthorityRegistry registry = new AuthorityRegistry(2);
+		registry.intern("A");
+		registry.intern("B");
+
+		assertThat(registry.intern("C")).isEqualTo(-1);
+		assertThat(registry.intern("A")).isZero();
+		assertThat(registry.size()).isEqualTo(2);
+	}
+}
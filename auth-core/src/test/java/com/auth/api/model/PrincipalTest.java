@@ -2,9 +2,14 @@ package com.auth.api.model;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -62,4 +67,119 @@ class PrincipalTest {
 		assertThat(principal.getAuthorities()).doesNotContain("GUEST");
 		assertThat(principal.getRoles()).containsExactly("USER", "ADMIN");
 	}
+
+	@Test
+	@DisplayName("지연 속성은 처음 읽을 때 한 번만 만들고, 사용자 ID와 권한만 읽으면 만들지 않는다.")
+	void withLazyAttributes_LoadsOnceOnFirstAccess() {
+		AtomicInteger loads = new AtomicInteger();
+		Principal principal = Principal.withLazyAttributes("user-1", List.of("USER"), () -> {
+			loads.incrementAndGet();
+			return Map.of("dept", "IT");
+		});
+
+		assertThat(principal.getUserId()).isEqualTo("user-1");
+		assertThat(principal.getAuthorities()).containsExactly("USER");
+		assertThat(loads.get()).isZero();
+
+		assertThat(principal.getAttribute("dept")).isEqualTo("IT");
+		assertThat(principal.getAttributes()).containsOnlyKeys("dept");
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("toString은 아직 만들지 않은 지연 속성을 만들지 않는다.")
+	void withLazyAttributes_ToStringDoesNotLoad() {
+		AtomicInteger loads = new AtomicInteger();
+		Principal principal = Principal.withLazyAttributes("user-1", List.of("USER"), () -> {
+			loads.incrementAndGet();
+			return Map.of("dept", "IT");
+		});
+
+		assertThat(principal.toString()).contains("user-1").doesNotContain("dept");
+		assertThat(loads.get()).isZero();
+
+		principal.getAttributes();
+		assertThat(principal.toString()).contains("dept");
+	}
+
+	@Test
+	@DisplayName("지연 속성을 만들다 실패하면 다음에 읽을 때 다시 만든다.")
+	void withLazyAttributes_RetriesAfterFailure() {
+		AtomicInteger loads = new AtomicInteger();
+		Principal principal = Principal.withLazyAttributes("user-1", List.of(), () -> {
+			if (loads.incrementAndGet() == 1) throw new IllegalStateException("payload unavailable");
+			return null;
+		});
+
+		assertThatThrownBy(principal::getAttributes).isInstanceOf(IllegalStateException.class);
+		assertThat(principal.getAttributes()).isEmpty();
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("지연 속성 Principal을 직렬화하면 속성을 만들어 함께 기록한다.")
+	void withLazyAttributes_MaterializesOnSerialization() throws Exception {
+		Principal principal = Principal.withLazyAttributes("user-1", List.of("ADMIN"), () -> Map.of("dept", "IT"));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(principal);
+		}
+		Principal copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (Principal) in.readObject();
+		}
+
+		assertThat(copy.getUserId()).isEqualTo("user-1");
+		assertThat(copy.getAuthorities()).containsExactly("ADMIN");
+		assertThat(copy.getAttributes()).containsEntry("dept", "IT");
+	}
+
+	@Test
+	@DisplayName("권한 확인은 이름 하나, 하나라도, 모두 일치를 구분한다.")
+	void hasAuthority_ChecksAgainstAuthorities() {
+		Principal principal = new Principal("user-1", List.of("USER", "ADMIN"));
+
+		assertThat(principal.hasAuthority("ADMIN")).isTrue();
+		assertThat(principal.hasAuthority("GUEST")).isFalse();
+		assertThat(principal.hasAuthority(null)).isFalse();
+		assertThat(principal.hasAnyAuthority("GUEST", "USER")).isTrue();
+		assertThat(principal.hasAnyAuthority()).isFalse();
+		assertThat(principal.hasAllAuthorities("USER", "ADMIN")).isTrue();
+		assertThat(principal.hasAllAuthorities("USER", "GUEST")).isFalse();
+		assertThat(principal.getAuthorities()).containsExactly("USER", "ADMIN");
+	}
+
+	@Test
+	@DisplayName("미리 만든 AuthoritySet으로도 같은 결과를 얻는다.")
+	void hasAuthority_WithPrebuiltAuthoritySet() {
+		Principal principal = new Principal("user-1", List.of("USER", "ADMIN"));
+		AuthoritySet managers = AuthoritySet.of("ADMIN", "MANAGER");
+		AuthoritySet members = AuthoritySet.of("USER", "ADMIN");
+
+		assertThat(principal.hasAnyAuthority(managers)).isTrue();
+		assertThat(principal.hasAllAuthorities(managers)).isFalse();
+		assertThat(principal.hasAllAuthorities(members)).isTrue();
+		assertThat(principal.hasAllAuthorities(AuthoritySet.EMPTY)).isTrue();
+		assertThat(principal.getAuthoritySet().size()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("직렬화 후에도 권한 확인 결과가 같다.")
+	void hasAuthority_AfterSerialization() throws Exception {
+		Principal principal = new Principal("user-1", List.of("USER"));
+		assertThat(principal.hasAuthority("USER")).isTrue();
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(principal);
+		}
+		Principal copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (Principal) in.readObject();
+		}
+
+		assertThat(copy.hasAuthority("USER")).isTrue();
+		assertThat(copy.hasAuthority("ADMIN")).isFalse();
+	}
 }
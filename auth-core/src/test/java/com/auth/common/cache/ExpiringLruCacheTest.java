@@ -0,0 +1,60 @@
+package com.auth.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiringLruCacheTest {
+
+	@Test
+	@DisplayName("만료 시각 이전에는 값을 반환하고 이후에는 반환하지 않는다.")
+	void get_RespectsExpiry() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+		cache.put("k", "v", 1_000L);
+
+		assertThat(cache.get("k", 999L)).isEqualTo("v");
+		assertThat(cache.get("k", 1_000L)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("크기 상한을 넘으면 가장 오래 쓰이지 않은 항목을 제거한다.")
+	void put_EvictsLeastRecentlyUsed() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(1);
+		cache.put("a", "A", Long.MAX_VALUE);
+		cache.put("b", "B", Long.MAX_VALUE);
+
+		assertThat(cache.get("a", 0L)).isNull();
+		assertThat(cache.get("b", 0L)).isEqualTo("B");
+		assertThat(cache.stats().evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("hit/miss 횟수를 누적한다.")
+	void stats_CountsHitsAndMisses() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+		cache.put("k", "v", Long.MAX_VALUE);
+
+		cache.get("k", 0L);
+		cache.get("missing", 0L);
+
+		CacheStats stats = cache.stats();
+		assertThat(stats.hitCount()).isEqualTo(1);
+		assertThat(stats.missCount()).isEqualTo(1);
+		assertThat(stats.hitRate()).isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("purgeExpired는 조회되지 않은 만료 항목도 정리한다.")
+	void purgeExpired_RemovesStaleEntries() {
+		ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(10);
+		cache.put("old", "v", 10L);
+		cache.put("fresh", "v", 100L);
+
+		cache.purgeExpired(50L);
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get("fresh", 50L)).isEqualTo("v");
+	}
+}
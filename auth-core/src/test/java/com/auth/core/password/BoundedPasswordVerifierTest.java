@@ -0,0 +1,104 @@
+package com.auth.core.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+import com.auth.spi.PasswordVerifier;
+
+class BoundedPasswordVerifierTest {
+
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final CountDownLatch entered = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final PasswordVerifier blocking = (rawPassword, storedHash) -> {
+		entered.countDown();
+		try {
+			release.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return rawPassword.equals(storedHash);
+	};
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("자리가 있으면 그대로 위임하고 통과 횟수를 기록한다.")
+	void matches_DelegatesWithinLimit() {
+		BoundedPasswordVerifier verifier = new BoundedPasswordVerifier((rawPassword, storedHash) -> rawPassword.equals(storedHash), 2);
+
+		assertThat(verifier.matches("pw", "pw")).isTrue();
+		assertThat(verifier.matches("pw", "other")).isFalse();
+		assertThat(verifier.stats().admitted()).isEqualTo(2);
+		assertThat(verifier.stats().inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("대기열이 없으면 허용 수를 넘는 호출은 바로 OVERLOADED로 실패한다.")
+	void matches_RejectsWhenQueueFull() throws Exception {
+		BoundedPasswordVerifier verifier = new BoundedPasswordVerifier(blocking, 1, 0, Duration.ofSeconds(5));
+		Future<Boolean> first = executor.submit(() -> verifier.matches("pw", "pw"));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> verifier.matches("pw", "pw"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.OVERLOADED);
+		assertThat(verifier.stats().inFlight()).isEqualTo(1);
+		assertThat(verifier.stats().rejected()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("제한 시간 안에 자리가 나지 않으면 OVERLOADED로 실패하고 시간 초과로 기록한다.")
+	void matches_TimesOutWaitingForPermit() throws Exception {
+		BoundedPasswordVerifier verifier = new BoundedPasswordVerifier(blocking, 1, 1, Duration.ofMillis(50));
+		executor.submit(() -> verifier.matches("pw", "pw"));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThatThrownBy(() -> verifier.matches("pw", "pw"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.OVERLOADED);
+		BoundedPasswordVerifier.Stats stats = verifier.stats();
+		assertThat(stats.timedOut()).isEqualTo(1);
+		assertThat(stats.peakWaiting()).isEqualTo(1);
+		assertThat(stats.waiting()).isZero();
+		assertThat(stats.shed()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("기다리는 동안 자리가 나면 위임한다.")
+	void matches_AdmitsWaiterWhenPermitReleased() throws Exception {
+		BoundedPasswordVerifier verifier = new BoundedPasswordVerifier(blocking, 1, 1, Duration.ofSeconds(5));
+		Future<Boolean> first = executor.submit(() -> verifier.matches("pw", "pw"));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<Boolean> second = executor.submit(() -> verifier.matches("pw", "pw"));
+
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(second.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(verifier.stats().admitted()).isEqualTo(2);
+		assertThat(verifier.stats().shed()).isZero();
+	}
+}
@@ -0,0 +1,217 @@
+package com.auth.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+import com.auth.api.model.Principal;
+import com.auth.api.model.Tokens;
+import com.auth.api.model.User;
+import com.auth.core.store.InMemoryRefreshTokenStore;
+import com.auth.spi.AsyncPasswordVerifier;
+import com.auth.spi.AsyncRefreshTokenStore;
+import com.auth.spi.AsyncUserFinder;
+import com.auth.spi.TokenService;
+
+class AsyncAuthServiceTest {
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-15T00:00:00Z"), ZoneOffset.UTC);
+
+	@Test
+	@DisplayName("username/password 로그인은 비동기 조회와 검증을 이어 토큰을 발급한다.")
+	void loginWithCredentials_IssuesTokens() {
+		InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(CLOCK);
+		AsyncAuthService authService = new AsyncAuthService(
+			username -> CompletableFuture.completedFuture(Optional.of(new User("user-1", username, "hashed", List.of("ADMIN")))),
+			(rawPassword, storedHash) -> CompletableFuture.completedFuture(true),
+			new FakeTokenService(),
+			AsyncRefreshTokenStore.of(store, Runnable::run),
+			Duration.ofDays(14),
+			CLOCK
+		);
+
+		Tokens tokens = authService.login("admin", "plain-password").toCompletableFuture().join();
+
+		assertThat(tokens.getAccessToken()).isEqualTo("access-user-1");
+		assertThat(tokens.getRefreshToken()).isEqualTo("refresh-user-1");
+		assertThat(store.exists("user-1", "refresh-user-1")).isTrue();
+	}
+
+	@Test
+	@DisplayName("사용자가 없거나 비밀번호가 틀리면 해당 사유로 실패한 stage를 반환한다.")
+	void loginWithCredentials_FailsWithReason() {
+		AsyncAuthService unknownUser = service(
+			username -> CompletableFuture.completedFuture(Optional.empty()),
+			(rawPassword, storedHash) -> CompletableFuture.completedFuture(true),
+			new ControlledStore()
+		);
+		AsyncAuthService wrongPassword = service(
+			username -> CompletableFuture.completedFuture(Optional.of(new User("user-1", username, "hashed", List.of()))),
+			(rawPassword, storedHash) -> CompletableFuture.completedFuture(false),
+			new ControlledStore()
+		);
+
+		assertThat(failureReason(unknownUser.login("admin", "pw"))).isEqualTo(AuthFailureReason.USER_NOT_FOUND);
+		assertThat(failureReason(wrongPassword.login("admin", "pw"))).isEqualTo(AuthFailureReason.INVALID_CREDENTIALS);
+		assertThat(failureReason(wrongPassword.login(" ", "pw"))).isEqualTo(AuthFailureReason.INVALID_INPUT);
+	}
+
+	@Test
+	@DisplayName("저장소 쓰기가 끝나기 전에 access token을 발급하고, 쓰기가 끝나야 결과를 완료한다.")
+	void loginWithPrincipal_IssuesAccessTokenWhileStoreWriteInFlight() {
+		ControlledStore store = new ControlledStore();
+		FakeTokenService tokenService = new FakeTokenService();
+		AsyncAuthService authService = service(
+			username -> CompletableFuture.completedFuture(Optional.empty()),
+			(rawPassword, storedHash) -> CompletableFuture.completedFuture(false),
+			tokenService,
+			store
+		);
+
+		CompletableFuture<Tokens> tokens = authService.login(new Principal("user-1")).toCompletableFuture();
+
+		assertThat(tokenService.accessIssued).isEqualTo(1);
+		assertThat(tokens).isNotDone();
+		assertThat(store.savedFamilyId).isNotBlank();
+
+		store.saved.complete(null);
+
+		assertThat(tokens.join().getAccessToken()).isEqualTo("access-user-1");
+	}
+
+	@Test
+	@DisplayName("refresh는 저장소 rotate로 토큰을 교체한다.")
+	void refresh_RotatesThroughStore() {
+		ControlledStore store = new ControlledStore();
+		store.rotated.complete(true);
+		AsyncAuthService authService = service(store);
+
+		Tokens tokens = authService.refresh("refresh-user-1").toCompletableFuture().join();
+
+		assertThat(tokens.getAccessToken()).isEqualTo("access-user-1");
+		assertThat(store.rotatedFamilyId).isEqualTo("family-user-1");
+	}
+
+	@Test
+	@DisplayName("rotate가 거부되면 family 전체를 폐기한 뒤 REVOKED_TOKEN으로 실패한다.")
+	void refresh_RevokesFamilyOnReuse() {
+		ControlledStore store = new ControlledStore();
+		store.rotated.complete(false);
+		AsyncAuthService authService = service(store);
+
+		assertThat(failureReason(authService.refresh("refresh-user-1"))).isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+		assertThat(store.revokedFamilyId).isEqualTo("family-user-1");
+	}
+
+	@Test
+	@DisplayName("검증에 실패한 refresh token은 INVALID_TOKEN으로 실패한 stage를 반환한다.")
+	void refresh_InvalidToken_FailsStage() {
+		AsyncAuthService authService = service(new ControlledStore());
+
+		assertThat(failureReason(authService.refresh("not-a-token"))).isEqualTo(AuthFailureReason.INVALID_TOKEN);
+	}
+
+	private static AsyncAuthService service(ControlledStore store) {
+		return service(
+			username -> CompletableFuture.completedFuture(Optional.empty()),
+			(rawPassword, storedHash) -> CompletableFuture.completedFuture(false),
+			new FakeTokenService(),
+			store
+		);
+	}
+
+	private static AsyncAuthService service(AsyncUserFinder userFinder, AsyncPasswordVerifier passwordVerifier, ControlledStore store) {
+		return service(userFinder, passwordVerifier, new FakeTokenService(), store);
+	}
+
+	private static AsyncAuthService service(AsyncUserFinder userFinder, AsyncPasswordVerifier passwordVerifier,
+		TokenService tokenService, ControlledStore store) {
+		return new AsyncAuthService(userFinder, passwordVerifier, tokenService, store, Duration.ofDays(14), CLOCK);
+	}
+
+	private static AuthFailureReason failureReason(CompletionStage<?> stage) {
+		Throwable failure = stage.toCompletableFuture().handle((value, error) -> error).join();
+		while (!(failure instanceof AuthException) && failure != null) {
+			failure = failure.getCause();
+		}
+		assertThat(failure).isInstanceOf(AuthException.class);
+		return ((AuthException) failure).getReason();
+	}
+
+	private static final class FakeTokenService implements TokenService {
+		private int accessIssued;
+
+		@Override
+		public String issueAccessToken(Principal principal) {
+			accessIssued++;
+			return "access-" + principal.getUserId();
+		}
+
+		@Override
+		public String issueRefreshToken(Principal principal) {
+			return "refresh-" + principal.getUserId();
+		}
+
+		@Override
+		public Principal verifyAccessToken(String token) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public Principal verifyRefreshToken(String token) {
+			if (!token.startsWith("refresh-")) throw new IllegalArgumentException("not a refresh token");
+			String userId = token.substring("refresh-".length());
+			return new Principal(userId, List.of(), Map.of(FAMILY_ID_ATTRIBUTE, "family-" + userId));
+		}
+	}
+
+	/** 테스트가 완료 시점을 정하는 저장소 */
+	private static final class ControlledStore implements AsyncRefreshTokenStore {
+		private final CompletableFuture<Void> saved = new CompletableFuture<>();
+		private final CompletableFuture<Boolean> rotated = new CompletableFuture<>();
+		private String savedFamilyId;
+		private String rotatedFamilyId;
+		private String revokedFamilyId;
+
+		@Override
+		public CompletionStage<Void> save(String userId, String familyId, String refreshToken, Instant expiresAt) {
+			savedFamilyId = familyId;
+			return saved;
+		}
+
+		@Override
+		public CompletionStage<Boolean> exists(String userId, String refreshToken) {
+			return CompletableFuture.completedFuture(false);
+		}
+
+		@Override
+		public CompletionStage<Void> revoke(String userId, String refreshToken) {
+			return CompletableFuture.completedFuture(null);
+		}
+
+		@Override
+		public CompletionStage<Boolean> rotate(String userId, String familyId, String oldToken, String newToken, Instant expiresAt) {
+			rotatedFamilyId = familyId;
+			return rotated;
+		}
+
+		@Override
+		public CompletionStage<Void> revokeFamily(String userId, String familyId) {
+			revokedFamilyId = familyId;
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package com.auth.core.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+import com.auth.api.model.Principal;
+import com.auth.api.model.User;
+import com.auth.core.store.InMemoryRefreshTokenStore;
+import com.auth.spi.PasswordVerifier;
+import com.auth.spi.TokenService;
+
+class AuthExecutionTest {
+
+	@Test
+	@DisplayName("offload한 비밀번호 검증은 CPU executor 스레드에서 실행되고 결과와 예외를 그대로 전달한다.")
+	void offload_RunsOnCpuExecutor() {
+		try (AuthExecution execution = AuthExecution.builder().cpuThreads(1).build()) {
+			String[] threadName = new String[1];
+			PasswordVerifier verifier = execution.offload((rawPassword, storedHash) -> {
+				threadName[0] = Thread.currentThread().getName();
+				if ("boom".equals(rawPassword)) throw new IllegalStateException("boom");
+				return rawPassword.equals(storedHash);
+			});
+
+			assertThat(verifier.matches("pw", "pw")).isTrue();
+			assertThat(threadName[0]).startsWith("auth-cpu-");
+			assertThatThrownBy(() -> verifier.matches("boom", "pw"))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("boom");
+		}
+	}
+
+	@Test
+	@DisplayName("CPU 대기열이 가득 차도 작업을 버리지 않고, 동시에 실행되는 검증은 CPU 스레드 수를 넘지 않는다.")
+	void offload_AppliesBackPressure() throws Exception {
+		try (AuthExecution execution = AuthExecution.builder().cpuThreads(2).cpuQueueCapacity(1).build()) {
+			AtomicInteger running = new AtomicInteger();
+			AtomicInteger maxRunning = new AtomicInteger();
+			CountDownLatch release = new CountDownLatch(1);
+			PasswordVerifier verifier = execution.offload((rawPassword, storedHash) -> {
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				running.decrementAndGet();
+				return true;
+			});
+
+			CompletableFuture<?>[] calls = new CompletableFuture<?>[20];
+			for (int i = 0; i < calls.length; i++) {
+				calls[i] = CompletableFuture.supplyAsync(() -> verifier.matches("pw", "pw"), execution.ioExecutor());
+			}
+			Thread.sleep(100);
+			release.countDown();
+			CompletableFuture.allOf(calls).join();
+
+			assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+			for (CompletableFuture<?> call : calls) {
+				assertThat(call.join()).isEqualTo(true);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("virtual thread가 없는 런타임의 I/O 풀은 ioThreads개보다 많은 스레드를 만들지 않는다.")
+	void ioExecutor_BoundsPlatformThreads() {
+		try (AuthExecution execution = AuthExecution.builder().ioThreads(2).build()) {
+			assumeFalse(execution.usesVirtualThreads());
+			AtomicInteger running = new AtomicInteger();
+			AtomicInteger maxRunning = new AtomicInteger();
+			CountDownLatch release = new CountDownLatch(1);
+
+			CompletableFuture<?>[] calls = new CompletableFuture<?>[20];
+			for (int i = 0; i < calls.length; i++) {
+				calls[i] = CompletableFuture.runAsync(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					running.decrementAndGet();
+				}, execution.ioExecutor());
+			}
+			release.countDown();
+			CompletableFuture.allOf(calls).join();
+
+			assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+		}
+	}
+
+	@Test
+	@DisplayName("CPU executor에 자리가 없으면 비동기 로그인은 기다리지 않고 OVERLOADED로 실패한다.")
+	void asyncAuthService_FailsFastWhenCpuSaturated() {
+		try (AuthExecution execution = AuthExecution.builder().cpuThreads(1).cpuQueueCapacity(1).build()) {
+			CountDownLatch release = new CountDownLatch(1);
+			Runnable blocker = () -> {
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			};
+			execution.cpuExecutor().execute(blocker);
+			execution.cpuExecutor().execute(blocker);
+			AsyncAuthService authService = execution.asyncAuthService(
+				username -> Optional.of(new User("user-1", username, "hashed", List.of())),
+				(rawPassword, storedHash) -> true,
+				new TokenService() {
+					@Override
+					public String issueAccessToken(Principal principal) {
+						return "access";
+					}
+
+					@Override
+					public String issueRefreshToken(Principal principal) {
+						return "refresh";
+					}
+
+					@Override
+					public Principal verifyAccessToken(String token) {
+						throw new UnsupportedOperationException();
+					}
+
+					@Override
+					public Principal verifyRefreshToken(String token) {
+						throw new UnsupportedOperationException();
+					}
+				},
+				new InMemoryRefreshTokenStore(),
+				Duration.ofDays(14)
+			);
+
+			Throwable failure = authService.login("admin", "pw").toCompletableFuture()
+				.handle((tokens, error) -> error)
+				.join();
+			release.countDown();
+
+			while (failure != null && !(failure instanceof AuthException)) {
+				failure = failure.getCause();
+			}
+			assertThat(failure).isInstanceOf(AuthException.class);
+			assertThat(((AuthException) failure).getReason()).isEqualTo(AuthFailureReason.OVERLOADED);
+		}
+	}
+
+	@Test
+	@DisplayName("종료된 뒤에 제출한 CPU 작업은 대기열에 남지 않고 바로 거절된다.")
+	void cpuExecutor_RejectsAfterClose() {
+		AuthExecution execution = AuthExecution.builder().cpuThreads(1).build();
+		execution.close();
+
+		assertThatThrownBy(() -> execution.cpuExecutor().execute(() -> {}))
+			.isInstanceOf(RejectedExecutionException.class);
+		assertThatThrownBy(() -> execution.offload((rawPassword, storedHash) -> true).matches("pw", "pw"))
+			.isInstanceOf(RejectedExecutionException.class);
+	}
+}
@@ -7,12 +7,16 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
 import com.auth.api.model.Principal;
 import com.auth.api.model.Tokens;
 import com.auth.api.model.User;
@@ -86,7 +90,287 @@ class AuthServiceTest {
 			.hasMessageContaining("principal");
 	}
 
+	@Test
+	@DisplayName("refresh는 저장소의 rotate 한 번으로 기존 토큰을 새 토큰으로 교체한다.")
+	void refresh_RotatesInSingleStoreCall() {
+		RotatingRefreshTokenStore refreshTokenStore = new RotatingRefreshTokenStore(true);
+		AuthService authService = new AuthService(
+			username -> Optional.empty(),
+			(rawPassword, storedHash) -> false,
+			new FakeTokenService(),
+			refreshTokenStore,
+			Duration.ofDays(14),
+			Clock.fixed(Instant.parse("2026-03-15T00:00:00Z"), ZoneOffset.UTC)
+		);
+
+		Tokens tokens = authService.refresh("refresh-user-1");
+
+		assertThat(tokens.getAccessToken()).isEqualTo("access-user-1");
+		assertThat(refreshTokenStore.rotateCalls).isEqualTo(1);
+		assertThat(refreshTokenStore.rotatedUserId).isEqualTo("user-1");
+		assertThat(refreshTokenStore.rotatedExpiresAt).isEqualTo(Instant.parse("2026-03-29T00:00:00Z"));
+	}
+
+	@Test
+	@DisplayName("rotate가 실패하면(이미 폐기된 토큰) REVOKED_TOKEN 예외가 발생한다.")
+	void refresh_RotateFails_ThrowsRevokedToken() {
+		AuthService authService = new AuthService(
+			username -> Optional.empty(),
+			(rawPassword, storedHash) -> false,
+			new FakeTokenService(),
+			new RotatingRefreshTokenStore(false),
+			Duration.ofDays(14),
+			Clock.systemUTC()
+		);
+
+		assertThatThrownBy(() -> authService.refresh("refresh-user-1"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+	}
+
+	@Test
+	@DisplayName("rotate를 구현하지 않은 저장소는 exists/revoke/save 순서로 동작한다.")
+	void refresh_DefaultRotateFallsBackToSequence() {
+		FakeRefreshTokenStore refreshTokenStore = new FakeRefreshTokenStore();
+		refreshTokenStore.existing = true;
+		AuthService authService = new AuthService(
+			username -> Optional.empty(),
+			(rawPassword, storedHash) -> false,
+			new FakeTokenService(),
+			refreshTokenStore,
+			Duration.ofDays(14),
+			Clock.systemUTC()
+		);
+
+		authService.refresh("refresh-user-1");
+
+		assertThat(refreshTokenStore.revokedRefreshToken).isEqualTo("refresh-user-1");
+		assertThat(refreshTokenStore.savedRefreshToken).isEqualTo("refresh-user-1");
+	}
+
+	@Test
+	@DisplayName("로그인은 새 토큰 family를 만들어 refresh token과 저장소에 함께 기록한다.")
+	void login_SavesRefreshTokenWithFamily() {
+		FakeTokenService tokenService = new FakeTokenService();
+		FakeRefreshTokenStore refreshTokenStore = new FakeRefreshTokenStore();
+		AuthService authService = new AuthService(
+			username -> Optional.empty(),
+			(rawPassword, storedHash) -> false,
+			tokenService,
+			refreshTokenStore,
+			Duration.ofDays(14),
+			Clock.systemUTC()
+		);
+
+		authService.login(new Principal("user-1"));
+
+		assertThat(refreshTokenStore.savedFamilyId).isNotBlank();
+		assertThat(tokenService.lastRefreshPrincipal.getAttribute(TokenService.FAMILY_ID_ATTRIBUTE))
+			.isEqualTo(refreshTokenStore.savedFamilyId);
+	}
+
+	@Test
+	@DisplayName("이미 회전된 refresh token이 다시 쓰이면 그 family 전체를 폐기한다.")
+	void refresh_ReusedToken_RevokesFamily() {
+		RotatingRefreshTokenStore refreshTokenStore = new RotatingRefreshTokenStore(false);
+		AuthService authService = new AuthService(
+			username -> Optional.empty(),
+			(rawPassword, storedHash) -> false,
+			new FakeTokenService(),
+			refreshTokenStore,
+			Duration.ofDays(14),
+			Clock.systemUTC()
+		);
+
+		assertThatThrownBy(() -> authService.refresh("refresh-user-1"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+		assertThat(refreshTokenStore.revokedFamilyId).isEqualTo("family-user-1");
+	}
+
+	@Test
+	@DisplayName("로그인 시도 한도를 넘으면 사용자 조회 전에 RATE_LIMITED 예외가 발생한다.")
+	void login_RateLimited_SkipsUserLookup() {
+		int[] lookups = new int[1];
+		UserFinder userFinder = username -> {
+			lookups[0]++;
+			return Optional.of(new User("user-1", username, "hashed", List.of()));
+		};
+		AuthService authService = new AuthService(
+			userFinder,
+			(rawPassword, storedHash) -> true,
+			new FakeTokenService(),
+			new FakeRefreshTokenStore(),
+			Duration.ofDays(14),
+			Clock.fixed(Instant.parse("2026-03-15T00:00:00Z"), ZoneOffset.UTC),
+			(username, sourceKey) -> !"10.0.0.1".equals(sourceKey)
+		);
+
+		assertThatThrownBy(() -> authService.login("admin", "plain-password", "10.0.0.1"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.RATE_LIMITED);
+		assertThat(lookups[0]).isZero();
+
+		authService.login("admin", "plain-password", "10.0.0.2");
+		assertThat(lookups[0]).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("없는 사용자도 조회된 적 있는 실제 해시로 비밀번호 검증을 거친 뒤 USER_NOT_FOUND로 실패한다.")
+	void login_UnknownUser_VerifiesAgainstReferenceHash() {
+		List<String> verifiedHashes = new ArrayList<>();
+		AuthService authService = new AuthService(
+			username -> "admin".equals(username)
+				? Optional.of(new User("user-1", username, "hashed-admin", List.of()))
+				: Optional.empty(),
+			(rawPassword, storedHash) -> {
+				verifiedHashes.add(storedHash);
+				return false;
+			},
+			new FakeTokenService(),
+			new FakeRefreshTokenStore(),
+			Duration.ofDays(14),
+			Clock.fixed(Instant.parse("2026-03-15T00:00:00Z"), ZoneOffset.UTC)
+		);
+
+		assertThatThrownBy(() -> authService.login("admin", "wrong-password"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_CREDENTIALS);
+		assertThatThrownBy(() -> authService.login("ghost", "plain-password"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.USER_NOT_FOUND);
+
+		assertThat(verifiedHashes).containsExactly("hashed-admin", "hashed-admin");
+	}
+
+	@Test
+	@DisplayName("verifier가 dummy 해시를 주면 기동 직후 첫 요청부터 없는 사용자도 그 해시로 검증한다.")
+	void login_UnknownUser_VerifiesAgainstDummyHashFromStart() {
+		List<String> verifiedHashes = new ArrayList<>();
+		PasswordVerifier passwordVerifier = new PasswordVerifier() {
+			@Override
+			public boolean matches(String rawPassword, String storedHash) {
+				verifiedHashes.add(storedHash);
+				return false;
+			}
+
+			@Override
+			public String dummyHash() {
+				return "hashed-dummy";
+			}
+		};
+		AuthService authService = new AuthService(
+			username -> "admin".equals(username)
+				? Optional.of(new User("user-1", username, "hashed-admin", List.of()))
+				: Optional.empty(),
+			passwordVerifier,
+			new FakeTokenService(),
+			new FakeRefreshTokenStore(),
+			Duration.ofDays(14)
+		);
+
+		assertThatThrownBy(() -> authService.login("ghost", "plain-password"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.USER_NOT_FOUND);
+		assertThatThrownBy(() -> authService.login("admin", "wrong-password"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_CREDENTIALS);
+		assertThatThrownBy(() -> authService.login("ghost", "plain-password"))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.USER_NOT_FOUND);
+
+		assertThat(verifiedHashes).containsExactly("hashed-dummy", "hashed-admin", "hashed-dummy");
+	}
+
+	@Test
+	@DisplayName("logoutAll은 사용자 폐기 기준 시각을 옮기고 저장된 refresh token을 모두 폐기한다.")
+	void logoutAll_AdvancesEpochAndRevokesStoredTokens() {
+		FakeTokenService tokenService = new FakeTokenService();
+		FakeRefreshTokenStore refreshTokenStore = new FakeRefreshTokenStore();
+		AuthService authService = new AuthService(
+			username -> Optional.empty(),
+			(rawPassword, storedHash) -> false,
+			tokenService,
+			refreshTokenStore,
+			Duration.ofDays(14),
+			Clock.fixed(Instant.parse("2026-03-15T00:00:00Z"), ZoneOffset.UTC)
+		);
+
+		boolean revoked = authService.logoutAll("user-1");
+
+		assertThat(revoked).isTrue();
+		assertThat(tokenService.revokedAllUserId).isEqualTo("user-1");
+		assertThat(tokenService.revokedAllBefore).isEqualTo(Instant.parse("2026-03-15T00:00:00Z"));
+		assertThat(refreshTokenStore.revokedAllUserId).isEqualTo("user-1");
+	}
+
+	@Test
+	@DisplayName("TokenService가 일괄 폐기를 지원하지 않아도 logoutAll은 저장된 refresh token을 모두 폐기하고 false를 반환한다.")
+	void logoutAll_RevokesStoredTokensWithoutEpochSupport() {
+		TokenService tokenService = new TokenService() {
+			@Override
+			public String issueAccessToken(Principal principal) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public String issueRefreshToken(Principal principal) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public Principal verifyAccessToken(String token) {
+				throw new UnsupportedOperationException();
+			}
+
+			@Override
+			public Principal verifyRefreshToken(String token) {
+				throw new UnsupportedOperationException();
+			}
+		};
+		FakeRefreshTokenStore refreshTokenStore = new FakeRefreshTokenStore();
+		AuthService authService = new AuthService(
+			username -> Optional.empty(),
+			(rawPassword, storedHash) -> false,
+			tokenService,
+			refreshTokenStore,
+			Duration.ofDays(14)
+		);
+
+		assertThat(authService.logoutAll("user-1")).isFalse();
+		assertThat(refreshTokenStore.revokedAllUserId).isEqualTo("user-1");
+	}
+
+	@Test
+	@DisplayName("저장소가 refresh token 일괄 폐기를 지원하지 않으면 logoutAll은 false를 반환한다.")
+	void logoutAll_ReturnsFalseWhenStoreCannotRevokeAll() {
+		FakeTokenService tokenService = new FakeTokenService();
+		RotatingRefreshTokenStore refreshTokenStore = new RotatingRefreshTokenStore(true);
+		AuthService authService = new AuthService(
+			username -> Optional.empty(),
+			(rawPassword, storedHash) -> false,
+			tokenService,
+			refreshTokenStore,
+			Duration.ofDays(14)
+		);
+
+		assertThat(authService.logoutAll("user-1")).isFalse();
+		assertThat(tokenService.revokedAllUserId).isEqualTo("user-1");
+	}
+
 	private static final class FakeTokenService implements TokenService {
+		private Principal lastRefreshPrincipal;
+		private String revokedAllUserId;
+		private Instant revokedAllBefore;
+
 		@Override
 		public String issueAccessToken(Principal principal) {
 			return "access-" + principal.getUserId();
@@ -94,6 +378,7 @@ class AuthServiceTest {
 
 		@Override
 		public String issueRefreshToken(Principal principal) {
+			this.lastRefreshPrincipal = principal;
 			return "refresh-" + principal.getUserId();
 		}
 
@@ -104,7 +389,16 @@ class AuthServiceTest {
 
 		@Override
 		public Principal verifyRefreshToken(String token) {
-			throw new UnsupportedOperationException();
+			if (!token.startsWith("refresh-")) throw new IllegalArgumentException("not a refresh token");
+			String userId = token.substring("refresh-".length());
+			return new Principal(userId, List.of(), Map.of(FAMILY_ID_ATTRIBUTE, "family-" + userId));
+		}
+
+		@Override
+		public boolean revokeAllIssuedBefore(String userId, Instant notBefore) {
+			this.revokedAllUserId = userId;
+			this.revokedAllBefore = notBefore;
+			return true;
 		}
 	}
 
@@ -112,6 +406,16 @@ class AuthServiceTest {
 		private String savedUserId;
 		private String savedRefreshToken;
 		private Instant savedExpiresAt;
+		private String savedFamilyId;
+		private String revokedRefreshToken;
+		private String revokedAllUserId;
+		private boolean existing;
+
+		@Override
+		public void save(String userId, String familyId, String refreshToken, Instant expiresAt) {
+			this.savedFamilyId = familyId;
+			save(userId, refreshToken, expiresAt);
+		}
 
 		@Override
 		public void save(String userId, String refreshToken, Instant expiresAt) {
@@ -122,11 +426,58 @@ class AuthServiceTest {
 
 		@Override
 		public boolean exists(String userId, String refreshToken) {
-			return false;
+			return existing;
 		}
 
 		@Override
 		public void revoke(String userId, String refreshToken) {
+			this.revokedRefreshToken = refreshToken;
+		}
+
+		@Override
+		public boolean revokeAll(String userId) {
+			this.revokedAllUserId = userId;
+			return true;
+		}
+	}
+
+	private static final class RotatingRefreshTokenStore implements RefreshTokenStore {
+		private final boolean rotateResult;
+		private int rotateCalls;
+		private String rotatedUserId;
+		private Instant rotatedExpiresAt;
+		private String revokedFamilyId;
+
+		private RotatingRefreshTokenStore(boolean rotateResult) {
+			this.rotateResult = rotateResult;
+		}
+
+		@Override
+		public void save(String userId, String refreshToken, Instant expiresAt) {
+			throw new AssertionError("save must not be called");
+		}
+
+		@Override
+		public boolean exists(String userId, String refreshToken) {
+			throw new AssertionError("exists must not be called");
+		}
+
+		@Override
+		public void revoke(String userId, String refreshToken) {
+			throw new AssertionError("revoke must not be called");
+		}
+
+		@Override
+		public boolean rotate(String userId, String oldToken, String newToken, Instant expiresAt) {
+			rotateCalls++;
+			rotatedUserId = userId;
+			rotatedExpiresAt = expiresAt;
+			return rotateResult;
+		}
+
+		@Override
+		public void revokeFamily(String userId, String familyId) {
+			revokedFamilyId = familyId;
 		}
 	}
 }
@@ -0,0 +1,128 @@
+package com.auth.core.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterAccessTokenDenylistTest {
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-03-15T00:00:00Z"));
+	private final BloomFilterAccessTokenDenylist denylist =
+		new BloomFilterAccessTokenDenylist(Duration.ofMinutes(15), Duration.ofMinutes(1), 1_000, 0.01, clock);
+
+	@Test
+	@DisplayName("폐기한 jti만 폐기된 것으로 판단한다.")
+	void isDenied_MatchesOnlyDeniedTokenIds() {
+		long exp = epochSecond() + 600;
+
+		denylist.deny("jti-1", exp);
+
+		assertThat(denylist.isDenied("jti-1", exp)).isTrue();
+		assertThat(denylist.isDenied("jti-2", exp)).isFalse();
+		assertThat(denylist.isDenied(null, exp)).isFalse();
+	}
+
+	@Test
+	@DisplayName("다른 만료 구간으로 조회하면 폐기되지 않은 것으로 판단한다.")
+	void isDenied_LooksUpPartitionByExpiration() {
+		long exp = epochSecond() + 600;
+
+		denylist.deny("jti-1", exp);
+
+		assertThat(denylist.isDenied("jti-1", exp + 120)).isFalse();
+	}
+
+	@Test
+	@DisplayName("예상 폐기 수를 크게 넘겨도 폐기하지 않은 jti를 폐기된 것으로 판단하지 않는다.")
+	void isDenied_StaysExactBeyondExpectedInsertions() {
+		long exp = epochSecond() + 600;
+		for (int i = 0; i < 5_000; i++) {
+			denylist.deny("denied-" + i, exp);
+		}
+
+		for (int i = 0; i < 5_000; i++) {
+			assertThat(denylist.isDenied("denied-" + i, exp)).isTrue();
+			assertThat(denylist.isDenied("allowed-" + i, exp)).isFalse();
+		}
+	}
+
+	@Test
+	@DisplayName("이미 만료된 토큰은 보관하지 않고, 최대 유효 시간을 넘는 만료 시각은 거부한다.")
+	void deny_IgnoresExpiredAndRejectsBeyondHorizon() {
+		denylist.deny("expired", epochSecond());
+
+		assertThat(denylist.size()).isZero();
+		assertThatThrownBy(() -> denylist.deny("too-late", epochSecond() + Duration.ofMinutes(16).getSeconds()))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("구간의 토큰이 모두 만료되면 구간 전체를 버린다.")
+	void purgeExpired_DropsWholePartitions() {
+		long soon = epochSecond() + 60;
+		long later = epochSecond() + 600;
+		denylist.deny("soon-1", soon);
+		denylist.deny("soon-2", soon);
+		denylist.deny("later", later);
+
+		clock.advance(Duration.ofMinutes(3));
+
+		assertThat(denylist.purgeExpired()).isEqualTo(2);
+		assertThat(denylist.size()).isEqualTo(1);
+		assertThat(denylist.isDenied("later", later)).isTrue();
+	}
+
+	@Test
+	@DisplayName("고리 배열을 한 바퀴 돌아 같은 칸을 다시 쓰면 지난 구간의 항목은 남지 않는다.")
+	void deny_ReplacesStalePartitionInSameSlot() {
+		long exp = epochSecond() + 60;
+		denylist.deny("old", exp);
+
+		clock.advance(Duration.ofMinutes(17));
+		long reused = exp + Duration.ofMinutes(17).getSeconds();
+		denylist.deny("new", reused);
+
+		assertThat(denylist.isDenied("new", reused)).isTrue();
+		assertThat(denylist.isDenied("old", reused)).isFalse();
+		assertThat(denylist.size()).isEqualTo(1);
+	}
+
+	private long epochSecond() {
+		return clock.instant().getEpochSecond();
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
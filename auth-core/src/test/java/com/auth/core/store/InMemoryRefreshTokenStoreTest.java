@@ -0,0 +1,196 @@
+package com.auth.core.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InMemoryRefreshTokenStoreTest {
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-03-15T00:00:00Z"));
+	private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(clock);
+
+	@Test
+	@DisplayName("저장한 토큰은 같은 사용자로만 조회되고 폐기 후에는 조회되지 않는다.")
+	void saveExistsRevoke() {
+		store.save("user-1", "refresh-a", clock.instant().plusSeconds(60));
+
+		assertThat(store.exists("user-1", "refresh-a")).isTrue();
+		assertThat(store.exists("user-2", "refresh-a")).isFalse();
+		assertThat(store.exists("user-1", "refresh-b")).isFalse();
+
+		store.revoke("user-1", "refresh-a");
+
+		assertThat(store.exists("user-1", "refresh-a")).isFalse();
+		assertThat(store.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("save에 넘긴 만료 시각이 지나면 토큰은 없는 것으로 취급한다.")
+	void exists_HonoursExpiresAt() {
+		store.save("user-1", "refresh-a", clock.instant().plusSeconds(60));
+
+		clock.advance(Duration.ofSeconds(60));
+
+		assertThat(store.exists("user-1", "refresh-a")).isFalse();
+	}
+
+	@Test
+	@DisplayName("purgeExpired는 만료된 토큰만 제거한다.")
+	void purgeExpired_RemovesOnlyExpiredTokens() {
+		store.save("user-1", "short", clock.instant().plusSeconds(10));
+		store.save("user-1", "long", clock.instant().plusSeconds(100));
+		store.save("user-2", "short", clock.instant().plusSeconds(10));
+
+		clock.advance(Duration.ofSeconds(11));
+
+		assertThat(store.purgeExpired()).isEqualTo(2);
+		assertThat(store.size()).isEqualTo(1);
+		assertThat(store.exists("user-1", "long")).isTrue();
+	}
+
+	@Test
+	@DisplayName("저장이 이어지면 다시 조회되지 않는 사용자의 만료 토큰도 점진적으로 정리된다.")
+	void save_PurgesStripesIncrementally() {
+		for (int i = 0; i < 1_000; i++) {
+			store.save("idle-" + i, "refresh", clock.instant().plusSeconds(10));
+		}
+		clock.advance(Duration.ofSeconds(11));
+
+		for (int i = 0; i < 64 * 256; i++) {
+			store.save("active", "refresh-" + i, clock.instant().plusSeconds(100));
+		}
+
+		assertThat(store.size()).isEqualTo(64 * 256);
+	}
+
+	@Test
+	@DisplayName("rotate는 기존 토큰이 있을 때만 새 토큰으로 교체한다.")
+	void rotate_SwapsOnlyPresentToken() {
+		store.save("user-1", "refresh-a", clock.instant().plusSeconds(60));
+
+		assertThat(store.rotate("user-1", "refresh-a", "refresh-b", clock.instant().plusSeconds(60))).isTrue();
+		assertThat(store.exists("user-1", "refresh-a")).isFalse();
+		assertThat(store.exists("user-1", "refresh-b")).isTrue();
+
+		assertThat(store.rotate("user-1", "refresh-a", "refresh-c", clock.instant().plusSeconds(60))).isFalse();
+		assertThat(store.exists("user-1", "refresh-c")).isFalse();
+	}
+
+	@Test
+	@DisplayName("같은 토큰으로 동시에 rotate하면 한 호출만 성공한다.")
+	void rotate_IsSingleUse() throws Exception {
+		store.save("user-1", "refresh-a", clock.instant().plusSeconds(60));
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				String newToken = "refresh-" + t;
+				futures.add(executor.submit(() -> store.rotate("user-1", "refresh-a", newToken, clock.instant().plusSeconds(60))));
+			}
+			int succeeded = 0;
+			for (Future<Boolean> future : futures) {
+				if (future.get()) succeeded++;
+			}
+			assertThat(succeeded).isEqualTo(1);
+			assertThat(store.size()).isEqualTo(1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("revokeFamily는 회전으로 이어진 family의 현재 토큰만 폐기한다.")
+	void revokeFamily_RevokesCurrentTokenOfFamily() {
+		store.save("user-1", "family-a", "refresh-a1", clock.instant().plusSeconds(60));
+		store.save("user-1", "family-b", "refresh-b1", clock.instant().plusSeconds(60));
+		store.rotate("user-1", "refresh-a1", "refresh-a2", clock.instant().plusSeconds(60));
+
+		store.revokeFamily("user-1", "family-a");
+
+		assertThat(store.exists("user-1", "refresh-a2")).isFalse();
+		assertThat(store.exists("user-1", "refresh-b1")).isTrue();
+		assertThat(store.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("revokeAll은 해당 사용자의 토큰만 모두 폐기한다.")
+	void revokeAll_RevokesEveryTokenOfUser() {
+		store.save("user-1", "refresh-a", clock.instant().plusSeconds(60));
+		store.save("user-1", "family-b", "refresh-b", clock.instant().plusSeconds(60));
+		store.save("user-2", "refresh-a", clock.instant().plusSeconds(60));
+
+		assertThat(store.revokeAll("user-1")).isTrue();
+
+		assertThat(store.exists("user-1", "refresh-a")).isFalse();
+		assertThat(store.exists("user-1", "refresh-b")).isFalse();
+		assertThat(store.exists("user-2", "refresh-a")).isTrue();
+	}
+
+	@Test
+	@DisplayName("여러 스레드가 서로 다른 사용자의 토큰을 동시에 저장/폐기해도 결과가 일관된다.")
+	void concurrentSaveAndRevoke() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				int thread = t;
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 1_000; i++) {
+						String userId = "user-" + thread + "-" + i;
+						store.save(userId, "keep", clock.instant().plusSeconds(60));
+						store.save(userId, "drop", clock.instant().plusSeconds(60));
+						store.revoke(userId, "drop");
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(store.size()).isEqualTo(8_000);
+		assertThat(store.exists("user-3-999", "keep")).isTrue();
+		assertThat(store.exists("user-3-999", "drop")).isFalse();
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package com.auth.core.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth.spi.RevocationEpochs;
+
+class InMemoryRevocationEpochsTest {
+
+	@Test
+	@DisplayName("기준 시각은 초 단위로 내림하고, 기준이 없는 사용자는 NONE을 반환한다.")
+	void advance_TruncatesToSecond() {
+		InMemoryRevocationEpochs epochs = new InMemoryRevocationEpochs();
+
+		epochs.advance("user-1", Instant.parse("2026-03-15T00:00:00.250Z"));
+		epochs.advance("user-2", Instant.parse("2026-03-15T00:00:00Z"));
+
+		assertThat(epochs.notBeforeEpochSecond("user-1")).isEqualTo(Instant.parse("2026-03-15T00:00:00Z").getEpochSecond());
+		assertThat(epochs.notBeforeEpochSecond("user-2")).isEqualTo(Instant.parse("2026-03-15T00:00:00Z").getEpochSecond());
+		assertThat(epochs.notBeforeEpochSecond("user-3")).isEqualTo(RevocationEpochs.NONE);
+	}
+
+	@Test
+	@DisplayName("기준 시각은 더 이른 시각으로 되돌아가지 않는다.")
+	void advance_NeverMovesBackwards() {
+		InMemoryRevocationEpochs epochs = new InMemoryRevocationEpochs();
+
+		epochs.advance("user-1", Instant.parse("2026-03-15T00:10:00Z"));
+		epochs.advance("user-1", Instant.parse("2026-03-15T00:00:00Z"));
+
+		assertThat(epochs.notBeforeEpochSecond("user-1")).isEqualTo(Instant.parse("2026-03-15T00:10:00Z").getEpochSecond());
+	}
+
+	@Test
+	@DisplayName("retention이 지난 기준 시각만 정리한다.")
+	void purgeExpired_RemovesEpochsOlderThanRetention() {
+		Clock clock = Clock.fixed(Instant.parse("2026-03-30T00:00:00Z"), ZoneOffset.UTC);
+		InMemoryRevocationEpochs epochs = new InMemoryRevocationEpochs(Duration.ofDays(14), clock);
+		epochs.advance("old", Instant.parse("2026-03-01T00:00:00Z"));
+		epochs.advance("recent", Instant.parse("2026-03-29T00:00:00Z"));
+
+		assertThat(epochs.purgeExpired()).isEqualTo(1);
+		assertThat(epochs.notBeforeEpochSecond("old")).isEqualTo(RevocationEpochs.NONE);
+		assertThat(epochs.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("정리 중에 앞당긴 기준 시각은 지우지 않는다.")
+	void purgeExpired_KeepsEpochsAdvancedConcurrently() throws Exception {
+		Clock clock = Clock.fixed(Instant.parse("2026-03-30T00:00:00Z"), ZoneOffset.UTC);
+		Instant old = Instant.parse("2026-03-01T00:00:00Z");
+		Instant recent = Instant.parse("2026-03-29T00:00:00Z");
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for (int round = 0; round < 200; round++) {
+				InMemoryRevocationEpochs epochs = new InMemoryRevocationEpochs(Duration.ofDays(14), clock);
+				for (int i = 0; i < 500; i++) {
+					epochs.advance("user-" + i, old);
+				}
+				CountDownLatch start = new CountDownLatch(1);
+				Future<?> purge = executor.submit(() -> {
+					start.await();
+					return epochs.purgeExpired();
+				});
+				Future<?> advance = executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < 500; i++) {
+						epochs.advance("user-" + i, recent);
+					}
+					return null;
+				});
+				start.countDown();
+				purge.get(10, TimeUnit.SECONDS);
+				advance.get(10, TimeUnit.SECONDS);
+
+				for (int i = 0; i < 500; i++) {
+					assertThat(epochs.notBeforeEpochSecond("user-" + i)).isEqualTo(recent.getEpochSecond());
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package com.auth.core.throttle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-03-15T00:00:00Z"));
+
+	@Test
+	@DisplayName("쉬고 있던 키는 permits번까지 한꺼번에 허용하고 그 다음은 거절한다.")
+	void tryAcquire_AllowsBurstUpToPermits() {
+		RateLimiter limiter = new RateLimiter(5, Duration.ofMinutes(1), 100, clock);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(limiter.tryAcquire("admin")).isTrue();
+		}
+
+		assertThat(limiter.tryAcquire("admin")).isFalse();
+		assertThat(limiter.tryAcquire("other")).isTrue();
+		assertThat(limiter.rejectedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("period / permits가 지날 때마다 한 번씩 다시 허용한다.")
+	void tryAcquire_RefillsAtSteadyRate() {
+		RateLimiter limiter = new RateLimiter(5, Duration.ofMinutes(1), 100, clock);
+		for (int i = 0; i < 5; i++) {
+			limiter.tryAcquire("admin");
+		}
+
+		clock.advance(Duration.ofSeconds(11));
+		assertThat(limiter.tryAcquire("admin")).isFalse();
+
+		clock.advance(Duration.ofSeconds(1));
+		assertThat(limiter.tryAcquire("admin")).isTrue();
+		assertThat(limiter.tryAcquire("admin")).isFalse();
+	}
+
+	@Test
+	@DisplayName("키 수가 상한에 닿으면 쉬고 있는 키를 정리해 자리를 만든다.")
+	void tryAcquire_BoundsKeyTable() {
+		RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 2, clock);
+		limiter.tryAcquire("a");
+		limiter.tryAcquire("b");
+
+		clock.advance(Duration.ofMinutes(1));
+		assertThat(limiter.tryAcquire("c")).isTrue();
+		assertThat(limiter.size()).isEqualTo(1);
+		assertThat(limiter.evictedCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("활성 키로 가득 차도 새 키를 거절하지 않고 TAT가 가장 이른 키를 내보낸다.")
+	void tryAcquire_EvictsOldestWhenFullOfActiveKeys() {
+		RateLimiter limiter = new RateLimiter(1, Duration.ofMinutes(1), 2, clock);
+		limiter.tryAcquire("a");
+		clock.advance(Duration.ofSeconds(10));
+		limiter.tryAcquire("b");
+
+		assertThat(limiter.tryAcquire("c")).isTrue();
+		assertThat(limiter.size()).isEqualTo(2);
+		assertThat(limiter.evictedCount()).isEqualTo(1);
+		assertThat(limiter.tryAcquire("b")).isFalse();
+		assertThat(limiter.rejectedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("purgeIdle은 한도가 모두 회복된 키만 제거한다.")
+	void purgeIdle_RemovesOnlyRecoveredKeys() {
+		RateLimiter limiter = new RateLimiter(2, Duration.ofMinutes(1), 100, clock);
+		limiter.tryAcquire("idle");
+		clock.advance(Duration.ofSeconds(30));
+		limiter.tryAcquire("busy");
+		limiter.tryAcquire("busy");
+
+		clock.advance(Duration.ofSeconds(1));
+
+		assertThat(limiter.purgeIdle()).isEqualTo(1);
+		assertThat(limiter.size()).isEqualTo(1);
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package com.auth.core.throttle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RateLimitingLoginThrottleTest {
+
+	@Test
+	@DisplayName("username은 대소문자와 관계없이 같은 한도를 쓴다.")
+	void tryAcquire_IgnoresUsernameCase() {
+		RateLimitingLoginThrottle throttle = new RateLimitingLoginThrottle(new RateLimiter(1, Duration.ofMinutes(1)));
+
+		assertThat(throttle.tryAcquire("Admin", null)).isTrue();
+		assertThat(throttle.tryAcquire("ADMIN", null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("출처 한도에서 거절된 시도는 username 한도를 소모하지 않는다.")
+	void tryAcquire_ChecksSourceBeforeUsername() {
+		RateLimiter perUsername = new RateLimiter(1, Duration.ofMinutes(1));
+		RateLimitingLoginThrottle throttle = new RateLimitingLoginThrottle(perUsername, new RateLimiter(1, Duration.ofMinutes(1)));
+
+		assertThat(throttle.tryAcquire("user-a", "10.0.0.1")).isTrue();
+		assertThat(throttle.tryAcquire("user-b", "10.0.0.1")).isFalse();
+		assertThat(throttle.tryAcquire("user-b", "10.0.0.2")).isTrue();
+		assertThat(throttle.tryAcquire("user-c", null)).isTrue();
+	}
+}
@@ -0,0 +1,153 @@
+package com.auth.core.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth.api.model.User;
+import com.auth.spi.UserFinder;
+
+class CachingUserFinderTest {
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-03-15T00:00:00Z"));
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final AtomicInteger loads = new AtomicInteger();
+	private final UserFinder delegate = username -> {
+		int load = loads.incrementAndGet();
+		return "ghost".equals(username)
+			? Optional.empty()
+			: Optional.of(new User("user-1", username, "hashed-" + load, List.of("USER")));
+	};
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("찾은 사용자는 ttl 동안 위임 없이 반환한다.")
+	void findByUsername_CachesUntilTtl() {
+		CachingUserFinder finder = new CachingUserFinder(delegate, 100, Duration.ofMinutes(1), clock);
+
+		assertThat(finder.findByUsername("admin")).map(User::getPasswordHash).contains("hashed-1");
+		assertThat(finder.findByUsername("admin")).map(User::getPasswordHash).contains("hashed-1");
+		assertThat(loads.get()).isEqualTo(1);
+
+		clock.advance(Duration.ofMinutes(1));
+
+		assertThat(finder.findByUsername("admin")).map(User::getPasswordHash).contains("hashed-2");
+		CachingUserFinder.Stats stats = finder.stats();
+		assertThat(stats.hitCount()).isEqualTo(1);
+		assertThat(stats.loadCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("없는 사용자는 보관하지 않는다.")
+	void findByUsername_DoesNotCacheMissingUser() {
+		CachingUserFinder finder = new CachingUserFinder(delegate, 100, Duration.ofMinutes(1), clock);
+
+		assertThat(finder.findByUsername("ghost")).isEmpty();
+		assertThat(finder.findByUsername("ghost")).isEmpty();
+		assertThat(loads.get()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("invalidate하면 다음 조회에서 바뀐 해시를 다시 읽는다.")
+	void invalidate_ReloadsUser() {
+		CachingUserFinder finder = new CachingUserFinder(delegate, 100, Duration.ofMinutes(1), clock);
+		finder.findByUsername("admin");
+
+		finder.invalidate("admin");
+
+		assertThat(finder.findByUsername("admin")).map(User::getPasswordHash).contains("hashed-2");
+	}
+
+	@Test
+	@DisplayName("같은 username을 동시에 조회하면 한 번만 위임하고 결과를 함께 받는다.")
+	void findByUsername_CoalescesConcurrentLoads() throws Exception {
+		CountDownLatch entered = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CachingUserFinder finder = new CachingUserFinder(username -> {
+			loads.incrementAndGet();
+			entered.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return Optional.of(new User("user-1", username, "hashed", List.of()));
+		}, 100, Duration.ofMinutes(1), clock);
+
+		Future<Optional<User>> first = executor.submit(() -> finder.findByUsername("admin"));
+		assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+		Future<Optional<User>> second = executor.submit(() -> finder.findByUsername("admin"));
+		while (finder.stats().coalescedCount() == 0) {
+			Thread.sleep(1);
+		}
+		release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+		assertThat(second.get(5, TimeUnit.SECONDS)).isPresent();
+		assertThat(loads.get()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("조회 중 실패는 기다리던 호출에도 같은 예외로 전달하고 보관하지 않는다.")
+	void findByUsername_PropagatesLoadFailure() {
+		CachingUserFinder finder = new CachingUserFinder(username -> {
+			loads.incrementAndGet();
+			throw new IllegalStateException("db down");
+		}, 100, Duration.ofMinutes(1), clock);
+
+		assertThatThrownBy(() -> finder.findByUsername("admin"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("db down");
+		assertThatThrownBy(() -> finder.findByUsername("admin"))
+			.isInstanceOf(IllegalStateException.class);
+		assertThat(finder.stats().loadFailureCount()).isEqualTo(2);
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
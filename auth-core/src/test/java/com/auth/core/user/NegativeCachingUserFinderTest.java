@@ -0,0 +1,109 @@
+package com.auth.core.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth.api.model.User;
+import com.auth.spi.UserFinder;
+
+class NegativeCachingUserFinderTest {
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-03-15T00:00:00Z"));
+	private final Map<String, User> users = new HashMap<>();
+	private final Map<String, Integer> lookups = new HashMap<>();
+	private final UserFinder delegate = username -> {
+		lookups.merge(username, 1, Integer::sum);
+		return Optional.ofNullable(users.get(username));
+	};
+
+	@Test
+	@DisplayName("없는 username은 ttl 동안 저장소를 다시 조회하지 않는다.")
+	void findByUsername_CachesMissUntilTtl() {
+		NegativeCachingUserFinder finder = new NegativeCachingUserFinder(delegate, 100, Duration.ofSeconds(10), clock);
+
+		assertThat(finder.findByUsername("ghost")).isEmpty();
+		assertThat(finder.findByUsername("ghost")).isEmpty();
+		assertThat(lookups.get("ghost")).isEqualTo(1);
+		assertThat(finder.stats().hitCount()).isEqualTo(1);
+
+		clock.advance(Duration.ofSeconds(10));
+
+		assertThat(finder.findByUsername("ghost")).isEmpty();
+		assertThat(lookups.get("ghost")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("찾은 사용자는 캐시하지 않고 매번 위임한다.")
+	void findByUsername_DoesNotCacheFoundUsers() {
+		users.put("admin", new User("user-1", "admin", "hashed", List.of("ADMIN")));
+		NegativeCachingUserFinder finder = new NegativeCachingUserFinder(delegate, 100, Duration.ofSeconds(10), clock);
+
+		assertThat(finder.findByUsername("admin")).isPresent();
+		assertThat(finder.findByUsername("admin")).isPresent();
+		assertThat(lookups.get("admin")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("invalidate하면 새로 생긴 사용자를 바로 찾는다.")
+	void invalidate_ExposesNewUser() {
+		NegativeCachingUserFinder finder = new NegativeCachingUserFinder(delegate, 100, Duration.ofSeconds(10), clock);
+		assertThat(finder.findByUsername("newbie")).isEmpty();
+
+		users.put("newbie", new User("user-2", "newbie", "hashed", List.of()));
+		assertThat(finder.findByUsername("newbie")).isEmpty();
+
+		finder.invalidate("newbie");
+		assertThat(finder.findByUsername("newbie")).isPresent();
+	}
+
+	@Test
+	@DisplayName("기억하는 username 수는 maximumSize를 넘지 않는다.")
+	void findByUsername_BoundsRememberedNames() {
+		NegativeCachingUserFinder finder = new NegativeCachingUserFinder(delegate, 16, Duration.ofMinutes(1), clock);
+
+		for (int i = 0; i < 1_000; i++) {
+			finder.findByUsername("ghost-" + i);
+		}
+
+		assertThat(finder.stats().evictionCount()).isGreaterThanOrEqualTo(1_000 - 16);
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
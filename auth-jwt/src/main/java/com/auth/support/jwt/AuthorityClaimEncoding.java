@@ -0,0 +1,18 @@
+package com.auth.support.jwt;
+
+/**
+ * 발급하는 토큰에 권한 목록을 어떤 클레임으로 기록할지 정하는 모드입니다.
+ * <p>검증은 모드와 관계없이 두 형식을 모두 받아들이므로, 발급 서버부터 순차적으로 모드를 바꿔도 됩니다.</p>
+ */
+public enum AuthorityClaimEncoding {
+
+	/** {@code authorities}와 {@code roles} 두 클레임에 같은 목록을 기록합니다. (기존 형식) */
+	LEGACY,
+
+	/**
+	 * {@code auth} 클레임 하나에만 기록합니다.
+	 * {@link AuthorityDictionary}가 설정되어 있으면 테이블에 있는 권한은 {@code auth_bits} bitset으로,
+	 * 테이블에 없는 권한만 {@code auth} 목록으로 기록합니다.
+	 */
+	COMPACT
+}
@@ -0,0 +1,131 @@
+package com.auth.support.jwt;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+
+/**
+ * 권한 목록을 토큰 클레임으로 기록하고 다시 읽는 규칙을 한곳에 모읍니다.
+ * <p>읽을 때는 {@code authorities} → {@code roles} → compact({@code auth_bits} + {@code auth}) 순서로 확인합니다.</p>
+ */
+final class AuthorityClaims {
+
+	static final String KEY_AUTHORITIES = "authorities";
+	static final String KEY_ROLES = "roles";
+	static final String KEY_COMPACT = "auth";
+	static final String KEY_COMPACT_BITS = "auth_bits";
+
+	private AuthorityClaims() {}
+
+	/** 권한 클레임으로 예약된 키인지 확인합니다. */
+	static boolean isReserved(String key) {
+		switch (key) {
+			case KEY_AUTHORITIES:
+			case KEY_ROLES:
+			case KEY_COMPACT:
+			case KEY_COMPACT_BITS:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/** 모드에 맞게 권한 클레임을 claims에 기록합니다. 권한이 없으면 아무것도 기록하지 않습니다. */
+	static void write(Map<String, Object> claims, List<String> authorities, AuthorityClaimEncoding encoding, AuthorityDictionary dictionary) {
+		if (authorities.isEmpty()) return;
+
+		if (encoding == AuthorityClaimEncoding.LEGACY) {
+			claims.put(KEY_AUTHORITIES, authorities);
+			claims.put(KEY_ROLES, authorities);
+			return;
+		}
+		if (dictionary == null) {
+			claims.put(KEY_COMPACT, authorities);
+			return;
+		}
+
+		byte[] bits = null;
+		List<String> extras = null;
+		for (String authority : authorities) {
+			int index = dictionary.indexOf(authority);
+			if (index < 0) {
+				if (extras == null) extras = new ArrayList<>();
+				extras.add(authority);
+				continue;
+			}
+			if (bits == null) bits = new byte[(dictionary.size() + 7) >>> 3];
+			bits[index >>> 3] |= (byte) (1 << (index & 7));
+		}
+		if (bits != null) claims.put(KEY_COMPACT_BITS, Base64.getUrlEncoder().withoutPadding().encodeToString(trim(bits)));
+		if (extras != null) claims.put(KEY_COMPACT, extras);
+	}
+
+	/**
+	 * 세 가지 형식 중 먼저 발견되는 권한 목록을 반환합니다.
+	 * @throws AuthException bitset 클레임이 있지만 해석할 테이블이 없거나 범위를 벗어난 경우 (INVALID_TOKEN)
+	 */
+	static List<String> read(Object authorities, Object roles, Object compact, Object compactBits, AuthorityDictionary dictionary) {
+		List<String> result = toList(authorities);
+		if (!result.isEmpty()) return result;
+		result = toList(roles);
+		if (!result.isEmpty()) return result;
+		if (compactBits == null) return toList(compact);
+		return readBits(compactBits, toList(compact), dictionary);
+	}
+
+	private static List<String> readBits(Object compactBits, List<String> extras, AuthorityDictionary dictionary) {
+		if (dictionary == null) throw new AuthException(AuthFailureReason.INVALID_TOKEN, "authority dictionary is not configured");
+		if (!(compactBits instanceof String encoded)) throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid authority bits");
+
+		byte[] bits = Base64.getUrlDecoder().decode(encoded);
+		int count = extras.size();
+		for (byte b : bits) count += Integer.bitCount(b & 0xFF);
+
+		String[] names = new String[count];
+		int n = 0;
+		for (int i = 0; i < bits.length; i++) {
+			int b = bits[i] & 0xFF;
+			while (b != 0) {
+				int index = (i << 3) + Integer.numberOfTrailingZeros(b);
+				if (index >= dictionary.size()) throw new AuthException(AuthFailureReason.INVALID_TOKEN, "unknown authority bit: " + index);
+				names[n++] = dictionary.nameAt(index);
+				b &= b - 1;
+			}
+		}
+		for (String extra : extras) names[n++] = extra;
+		return List.of(names);
+	}
+
+	/** 클레임 값을 중간 stream/list 없이 불변 리스트로 변환합니다. */
+	private static List<String> toList(Object raw) {
+		if (raw instanceof List<?> list) {
+			int count = 0;
+			for (Object value : list) {
+				if (value != null) count++;
+			}
+			if (count == 0) return List.of();
+
+			String[] authorities = new String[count];
+			int i = 0;
+			for (Object value : list) {
+				if (value != null) authorities[i++] = value.toString();
+			}
+			return List.of(authorities);
+		}
+		if (raw instanceof String value) return List.of(value);
+		return List.of();
+	}
+
+	private static byte[] trim(byte[] bits) {
+		int length = bits.length;
+		while (length > 1 && bits[length - 1] == 0) length--;
+		if (length == bits.length) return bits;
+		byte[] trimmed = new byte[length];
+		System.arraycopy(bits, 0, trimmed, 0, length);
+		return trimmed;
+	}
+}
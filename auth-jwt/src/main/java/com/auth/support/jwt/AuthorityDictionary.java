@@ -0,0 +1,57 @@
+package com.auth.support.jwt;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.auth.common.utils.Strings;
+
+/**
+ * compact 권한 인코딩에서 bitset 위치와 권한 이름을 대응시키는 고정 테이블입니다.
+ * <p>발급 서버와 검증 서버가 같은 테이블을 가져야 합니다. 새 권한은 항상 끝에 추가하고
+ * 기존 항목의 순서를 바꾸거나 지우지 않아야 이미 발급된 토큰이 같은 권한으로 해석됩니다.</p>
+ */
+public final class AuthorityDictionary {
+
+	private final String[] names;
+	private final Map<String, Integer> indexes;
+
+	private AuthorityDictionary(String[] names, Map<String, Integer> indexes) {
+		this.names = names;
+		this.indexes = indexes;
+	}
+
+	/**
+	 * 주어진 순서대로 bit 위치를 배정한 테이블을 만듭니다.
+	 * @param authorities 권한 이름 목록 (공백/중복 불가)
+	 */
+	public static AuthorityDictionary of(List<String> authorities) {
+		Strings.requireNonNull(authorities, "authorities");
+		String[] names = new String[authorities.size()];
+		Map<String, Integer> indexes = new HashMap<>();
+		for (int i = 0; i < names.length; i++) {
+			String name = Strings.requireNonBlank(authorities.get(i), "authority");
+			if (indexes.putIfAbsent(name, i) != null) {
+				throw new IllegalArgumentException("duplicate authority: " + name);
+			}
+			names[i] = name;
+		}
+		return new AuthorityDictionary(names, Map.copyOf(indexes));
+	}
+
+	/** 테이블에 등록된 권한 수입니다. */
+	public int size() {
+		return names.length;
+	}
+
+	/** 권한의 bit 위치를 반환합니다. 등록되지 않았으면 -1 입니다. */
+	public int indexOf(String authority) {
+		Integer index = indexes.get(authority);
+		return index == null ? -1 : index;
+	}
+
+	/** bit 위치에 해당하는 권한 이름을 반환합니다. */
+	public String nameAt(int index) {
+		return names[index];
+	}
+}
@@ -0,0 +1,239 @@
+package com.auth.support.jwt;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+import com.auth.api.model.Principal;
+import com.auth.common.cache.CacheStats;
+import com.auth.common.cache.ExpiringLruCache;
+import com.auth.common.utils.MoreObjects;
+import com.auth.common.utils.Strings;
+import com.auth.common.utils.TokenDigest;
+import com.auth.spi.AccessTokenDenylist;
+import com.auth.spi.RevocationEpochs;
+import com.auth.spi.TokenService;
+
+/**
+ * access token 검증 결과를 캐시하는 {@link TokenService} 데코레이터입니다.
+ * <p>같은 bearer token이 짧은 간격으로 반복해서 들어올 때 Base64 decode, JSON parse, 서명 검증을 다시 하지 않도록
+ * 토큰의 SHA-256 digest를 키로 검증된 {@link Principal}을 보관합니다.</p>
+ * <ul>
+ * <li>항목 수 상한을 넘으면 가장 오래 쓰이지 않은 항목부터 제거합니다 (LRU).</li>
+ * <li>항목은 캐시 TTL과 토큰 {@code exp} 중 빠른 시각에 만료되며, {@code exp}가 지난 항목은 반환하지 않습니다.</li>
+ * <li>{@code exp}를 읽을 수 없는 토큰은 캐시하지 않습니다.</li>
+ * <li>토큰 발급과 refresh token 검증은 캐시하지 않고 그대로 위임합니다.</li>
+ * <li>{@link RevocationEpochs}가 있으면 캐시 hit마다 사용자별 폐기 기준 시각과 토큰 {@code iat}를 비교하므로,
+ * 일괄 폐기 직후에도 캐시된 토큰이 통과하지 않습니다. 위임 대상이 {@link JwtTokenService}이면 그 저장소를 그대로 쓰고,
+ * 다른 인스턴스를 넘기면 생성 시 {@link IllegalStateException}으로 실패합니다.</li>
+ * <li>폐기 기준 시각 저장소 없이 {@link #revokeAllIssuedBefore}가 성공하면 캐시를 모두 비웁니다.</li>
+ * <li>{@link AccessTokenDenylist}가 있으면 캐시 hit마다 토큰 {@code jti}가 폐기 목록에 있는지 확인합니다.
+ * 폐기 기준 시각 저장소와 같은 방식으로 위임 대상의 폐기 목록을 그대로 쓰고, 다른 인스턴스를 넘기면 생성에 실패합니다.</li>
+ * </ul>
+ * <p>인스턴스는 {@link #builder(TokenService)}로 만듭니다.</p>
+ */
+public final class CachingTokenService implements TokenService {
+
+	private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+	private final TokenService delegate;
+	private final ExpiringLruCache<TokenDigest, Verified> cache;
+	private final long ttlMillis;
+	private final Clock clock;
+	private final RevocationEpochs revocationEpochs;
+	private final AccessTokenDenylist accessTokenDenylist;
+
+	private CachingTokenService(Builder builder) {
+		this.delegate = Strings.requireNonNull(builder.delegate, "delegate");
+		this.cache = new ExpiringLruCache<>(builder.maximumSize);
+		Duration ttl = builder.ttl;
+		this.ttlMillis = (ttl == null || ttl.isNegative() || ttl.isZero()) ? DEFAULT_TTL.toMillis() : ttl.toMillis();
+		this.clock = MoreObjects.defaultIfNull(builder.clock, Clock.systemUTC());
+		JwtTokenService jwt = delegate instanceof JwtTokenService ? (JwtTokenService) delegate : null;
+		this.revocationEpochs = resolve(builder.revocationEpochs,
+			jwt == null ? null : jwt.revocationEpochs(), "revocationEpochs");
+		this.accessTokenDenylist = resolve(builder.accessTokenDenylist,
+			jwt == null ? null : jwt.accessTokenDenylist(), "accessTokenDenylist");
+	}
+
+	/**
+	 * 위임 대상이 쓰는 폐기 저장소를 캐시에도 적용합니다.
+	 * @throws IllegalStateException 위임 대상과 다른 인스턴스를 넘긴 경우
+	 */
+	private static <T> T resolve(T configured, T delegateStore, String name) {
+		if (delegateStore == null) return configured;
+		if (configured != null && configured != delegateStore) {
+			throw new IllegalStateException(name + " must be the instance the delegate uses");
+		}
+		return delegateStore;
+	}
+
+	/**
+	 * 설정 빌더를 생성합니다.
+	 * @param delegate 실제 검증을 수행할 TokenService
+	 */
+	public static Builder builder(TokenService delegate) {
+		return new Builder(delegate);
+	}
+
+	@Override
+	public String issueAccessToken(Principal principal) {
+		return delegate.issueAccessToken(principal);
+	}
+
+	@Override
+	public String issueRefreshToken(Principal principal) {
+		return delegate.issueRefreshToken(principal);
+	}
+
+	@Override
+	public Principal verifyAccessToken(String token) {
+		if (Strings.isBlank(token)) return delegate.verifyAccessToken(token);
+
+		TokenDigest key = TokenDigest.of(token);
+		long now = clock.millis();
+		Verified cached = cache.get(key, now);
+		if (cached != null) {
+			if (isRevoked(cached)) {
+				cache.invalidate(key);
+				throw new AuthException(AuthFailureReason.REVOKED_TOKEN, "token revoked");
+			}
+			return cached.principal;
+		}
+
+		Principal principal = delegate.verifyAccessToken(token);
+
+		String payload = JwtPayloads.payloadJson(token);
+		long exp = JwtPayloads.numericField(payload, "exp");
+		if (exp == JwtPayloads.MISSING) return principal;
+		long issuedAt = revocationEpochs == null ? JwtPayloads.MISSING : JwtPayloads.numericField(payload, "iat");
+		// 폐기 기준과 비교할 iat가 없으면 hit 시 다시 확인할 수 없으므로 캐시하지 않습니다.
+		if (revocationEpochs != null && issuedAt == JwtPayloads.MISSING) return principal;
+		// jti가 없는 토큰은 개별 폐기할 수 없으므로 hit 시 폐기 목록을 확인하지 않아도 됩니다.
+		String tokenId = accessTokenDenylist == null ? null : JwtPayloads.stringField(payload, "jti");
+
+		long expiresAt = exp * 1000L;
+		if (expiresAt > now) cache.put(key, new Verified(principal, issuedAt, tokenId, exp), Math.min(expiresAt, now + ttlMillis));
+		return principal;
+	}
+
+	@Override
+	public Principal verifyRefreshToken(String token) {
+		return delegate.verifyRefreshToken(token);
+	}
+
+	/** 캐시 hit에서 확인할 폐기 기준 시각 저장소가 없으면, 폐기 후 캐시를 모두 비웁니다. */
+	@Override
+	public boolean revokeAllIssuedBefore(String userId, Instant notBefore) {
+		boolean revoked = delegate.revokeAllIssuedBefore(userId, notBefore);
+		if (revoked && revocationEpochs == null) cache.invalidateAll();
+		return revoked;
+	}
+
+	/** 폐기 후 캐시 항목도 함께 제거합니다. */
+	@Override
+	public boolean revokeAccessToken(String token) {
+		boolean revoked = delegate.revokeAccessToken(token);
+		invalidate(token);
+		return revoked;
+	}
+
+	private boolean isRevoked(Verified verified) {
+		if (revocationEpochs != null
+			&& verified.issuedAt < revocationEpochs.notBeforeEpochSecond(verified.principal.getUserId())) {
+			return true;
+		}
+		return accessTokenDenylist != null && verified.tokenId != null
+			&& accessTokenDenylist.isDenied(verified.tokenId, verified.expiresAt);
+	}
+
+	/** 특정 토큰의 캐시 항목을 제거합니다. */
+	public void invalidate(String token) {
+		if (Strings.isBlank(token)) return;
+		cache.invalidate(TokenDigest.of(token));
+	}
+
+	/** 모든 캐시 항목을 제거합니다. */
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	/** 만료되었지만 아직 조회되지 않은 항목을 정리합니다. */
+	public void purgeExpired() {
+		cache.purgeExpired(clock.millis());
+	}
+
+	/** 누적 hit/miss/eviction 횟수를 반환합니다. */
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	/** 검증된 principal과 폐기 여부 확인용 클레임 (발급/만료 시각은 epoch second) */
+	private static final class Verified {
+		private final Principal principal;
+		private final long issuedAt;
+		private final String tokenId;
+		private final long expiresAt;
+
+		private Verified(Principal principal, long issuedAt, String tokenId, long expiresAt) {
+			this.principal = principal;
+			this.issuedAt = issuedAt;
+			this.tokenId = tokenId;
+			this.expiresAt = expiresAt;
+		}
+	}
+
+	/** {@link CachingTokenService} 설정 빌더입니다. */
+	public static final class Builder {
+
+		private final TokenService delegate;
+		private int maximumSize = 10_000;
+		private Duration ttl = DEFAULT_TTL;
+		private Clock clock = Clock.systemUTC();
+		private RevocationEpochs revocationEpochs;
+		private AccessTokenDenylist accessTokenDenylist;
+
+		private Builder(TokenService delegate) {
+			this.delegate = delegate;
+		}
+
+		/** 캐시할 최대 토큰 수. 기본값 10,000 */
+		public Builder maximumSize(int maximumSize) {
+			this.maximumSize = maximumSize;
+			return this;
+		}
+
+		/** 캐시 항목 최대 유지 시간. null 또는 0 이하이면 기본값 30초 */
+		public Builder ttl(Duration ttl) {
+			this.ttl = ttl;
+			return this;
+		}
+
+		/** 만료 계산용 클럭. 기본값 UTC 시스템 시계 */
+		public Builder clock(Clock clock) {
+			this.clock = clock;
+			return this;
+		}
+
+		/** 위임 대상이 사용하는 폐기 기준 시각 저장소. 위임 대상이 {@link JwtTokenService}이면 지정하지 않아도 됩니다. */
+		public Builder revocationEpochs(RevocationEpochs revocationEpochs) {
+			this.revocationEpochs = revocationEpochs;
+			return this;
+		}
+
+		/** 위임 대상이 사용하는 access token 폐기 목록. 위임 대상이 {@link JwtTokenService}이면 지정하지 않아도 됩니다. */
+		public Builder accessTokenDenylist(AccessTokenDenylist accessTokenDenylist) {
+			this.accessTokenDenylist = accessTokenDenylist;
+			return this;
+		}
+
+		/**
+		 * @throws IllegalStateException 위임 대상 {@link JwtTokenService}와 다른 폐기 저장소를 지정한 경우
+		 */
+		public CachingTokenService build() {
+			return new CachingTokenService(this);
+		}
+	}
+}
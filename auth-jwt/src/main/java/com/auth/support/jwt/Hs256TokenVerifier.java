@@ -0,0 +1,608 @@
+package com.auth.support.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * HS256 토큰을 jjwt parser 없이 검증하는 경로입니다.
+ * <p>토큰 문자를 버퍼에 옮겨 그 바이트 그대로 HMAC을 계산하고, 서명은 {@link MessageDigest#isEqual}로 상수 시간 비교합니다.
+ * 버퍼와 {@link Mac}은 {@link ReusablePool}에서 빌려 쓰므로 요청마다 새 virtual thread를 써도 재사용되며,
+ * {@link Mac}은 키가 바뀔 때만 다시 초기화합니다.</p>
+ * <p>클레임은 범용 JSON 트리를 만들지 않고 한 번 훑으면서 필요한 필드만 꺼냅니다. 속성 값은 형식만 확인하고 건너뛰며,
+ * 실제 값은 {@link VerifiedClaims#readAttributes()}를 부를 때 토큰에서 다시 풀어 만듭니다.
+ * 속성 값은 문자열, 불리언, 정수와 이들의 배열만 다룹니다. 그 밖의 형식(중첩 객체, 실수, {@code nbf}, 알 수 없는 헤더, HS256이 아닌 키 등)을 만나면 null을 반환해
+ * 호출자가 jjwt로 다시 검증하게 합니다.</p>
+ * <p>서명이 다르거나 만료된 토큰은 jjwt와 같은 결과이므로 다시 검증하지 않고 {@code INVALID_TOKEN}으로 실패합니다.</p>
+ */
+final class Hs256TokenVerifier {
+
+	/** 값이 없는 시각 클레임 */
+	static final long NO_TIME = Long.MIN_VALUE;
+
+	private static final int SIGNATURE_BYTES = 32;
+	private static final int SIGNATURE_CHARS = Hs256TokenWriter.encodedLength(SIGNATURE_BYTES);
+	/** 이보다 긴 토큰은 버퍼를 붙잡아 두지 않도록 jjwt로 검증합니다. */
+	private static final int MAX_TOKEN_CHARS = 16 * 1024;
+	private static final byte[] DECODE = new byte[128];
+
+	static {
+		Arrays.fill(DECODE, (byte) -1);
+		String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+		for (int i = 0; i < alphabet.length(); i++) {
+			DECODE[alphabet.charAt(i)] = (byte) i;
+		}
+	}
+
+	private final JwtKeyRing keyRing;
+	private final ReusablePool<Scratch> scratches = new ReusablePool<>(Scratch::new);
+
+	Hs256TokenVerifier(JwtKeyRing keyRing) {
+		this.keyRing = keyRing;
+	}
+
+	/**
+	 * 서명과 만료를 확인하고 클레임을 꺼냅니다.
+	 * @return 꺼낸 클레임. 이 경로로 다룰 수 없는 토큰이면 null
+	 * @throws AuthException 서명이 다르거나 만료된 경우 ({@code INVALID_TOKEN})
+	 */
+	VerifiedClaims verify(String token) {
+		int length = token.length();
+		if (length > MAX_TOKEN_CHARS) return null;
+
+		Scratch scratch = scratches.acquire();
+		try {
+			byte[] raw = scratch.raw(length);
+			int firstDot = -1;
+			int secondDot = -1;
+			for (int i = 0; i < length; i++) {
+				char c = token.charAt(i);
+				if (c == '.') {
+					if (firstDot < 0) firstDot = i;
+					else if (secondDot < 0) secondDot = i;
+					else return null;
+				} else if (c >= 128 || DECODE[c] < 0) {
+					return null;
+				}
+				raw[i] = (byte) c;
+			}
+			if (secondDot < 0 || length - secondDot - 1 != SIGNATURE_CHARS) return null;
+
+			int headerLength = decode(raw, 0, firstDot, scratch.header(firstDot));
+			if (headerLength < 0) return null;
+			JwtSigningKey key = resolveKey(scratch.header, headerLength);
+			if (key == null) return null;
+
+			byte[] expected = scratch.expected;
+			byte[] actual = scratch.actual;
+			if (decode(raw, secondDot + 1, length, actual) != SIGNATURE_BYTES) return null;
+			Mac mac = scratch.mac(key.verificationKey());
+			mac.update(raw, 0, secondDot);
+			try {
+				mac.doFinal(expected, 0);
+			} catch (ShortBufferException e) {
+				throw new IllegalStateException(e);
+			}
+			if (!MessageDigest.isEqual(expected, actual)) throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid/expired token");
+
+			int payloadLength = decode(raw, firstDot + 1, secondDot, scratch.payload(secondDot - firstDot));
+			if (payloadLength < 0) return null;
+			VerifiedClaims claims = new PayloadParser(scratch.payload, payloadLength).parse(token, firstDot + 1, secondDot);
+			if (claims == null || claims.expirationSecond == NO_TIME) return null;
+			if (System.currentTimeMillis() > claims.expirationSecond * 1000L) {
+				throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid/expired token");
+			}
+			return claims;
+		} finally {
+			scratches.release(scratch);
+		}
+	}
+
+	/** 헤더가 {@code alg}(HS256), {@code kid}, {@code typ}만 가진 경우에만 kid로 HS256 키를 찾습니다. */
+	private JwtSigningKey resolveKey(byte[] header, int length) {
+		JsonReader reader = new JsonReader(header, length);
+		String algorithm = null;
+		String kid = null;
+		if (!reader.beginObject()) return null;
+		while (reader.hasNextField()) {
+			String name = reader.nextName();
+			if (name == null) return null;
+			Object value = reader.nextScalar();
+			if (!(value instanceof String string)) return null;
+			switch (name) {
+				case "alg": algorithm = string; break;
+				case "kid": kid = string; break;
+				case "typ": break;
+				default: return null;
+			}
+		}
+		if (!reader.endObject() || !SignatureAlgorithm.HS256.getValue().equals(algorithm)) return null;
+		JwtSigningKey key = keyRing.find(kid);
+		return key != null && key.algorithm() == SignatureAlgorithm.HS256 ? key : null;
+	}
+
+	/** 부가 속성이 아닌 클레임. jjwt 경로의 구분과 같습니다. */
+	private static boolean isReserved(String name) {
+		switch (name) {
+			case "sub":
+			case "token_type":
+			case "jti":
+			case "iat":
+			case "exp":
+			case "nbf":
+				return true;
+			default:
+				return AuthorityClaims.isReserved(name);
+		}
+	}
+
+	/** raw[from, to)의 패딩 없는 Base64URL을 out에 풀고 길이를 반환합니다. 길이가 맞지 않으면 -1 */
+	private static int decode(byte[] raw, int from, int to, byte[] out) {
+		int length = to - from;
+		if (length % 4 == 1) return -1;
+		int n = 0;
+		int i = from;
+		for (int end = to - length % 4; i < end; i += 4) {
+			int bits = DECODE[raw[i]] << 18 | DECODE[raw[i + 1]] << 12 | DECODE[raw[i + 2]] << 6 | DECODE[raw[i + 3]];
+			out[n++] = (byte) (bits >> 16);
+			out[n++] = (byte) (bits >> 8);
+			out[n++] = (byte) bits;
+		}
+		int remainder = to - i;
+		if (remainder == 2) {
+			int bits = DECODE[raw[i]] << 18 | DECODE[raw[i + 1]] << 12;
+			out[n++] = (byte) (bits >> 16);
+		} else if (remainder == 3) {
+			int bits = DECODE[raw[i]] << 18 | DECODE[raw[i + 1]] << 12 | DECODE[raw[i + 2]] << 6;
+			out[n++] = (byte) (bits >> 16);
+			out[n++] = (byte) (bits >> 8);
+		}
+		return n;
+	}
+
+	/**
+	 * 검증이 끝난 토큰에서 꺼낸 클레임입니다.
+	 * @param issuedAtSecond {@code iat}, 없으면 {@link #NO_TIME}
+	 * @param expirationSecond {@code exp}, 없으면 {@link #NO_TIME}
+	 * @param token 검증한 토큰. 부가 속성을 읽을 때 페이로드를 다시 풉니다.
+	 * @param payloadFrom 토큰에서 페이로드 세그먼트 시작 위치. 부가 속성이 없으면 -1
+	 * @param payloadTo 토큰에서 페이로드 세그먼트 끝 위치 (제외)
+	 */
+	record VerifiedClaims(
+		String subject,
+		String tokenType,
+		String tokenId,
+		long issuedAtSecond,
+		long expirationSecond,
+		Object authorities,
+		Object roles,
+		Object compact,
+		Object compactBits,
+		String token,
+		int payloadFrom,
+		int payloadTo
+	) {
+
+		/** 예약 클레임이 아닌 필드가 있으면 true. 값이 모두 null이어도 true일 수 있습니다. */
+		boolean hasAttributes() {
+			return payloadFrom >= 0;
+		}
+
+		/**
+		 * 예약 클레임을 뺀 나머지를 불변 맵으로 만듭니다. 값이 null인 클레임은 뺍니다.
+		 * <p>검증할 때 형식을 이미 확인했으므로 스레드별 버퍼 없이 새 배열에 다시 풀어 읽습니다.</p>
+		 */
+		Map<String, Object> readAttributes() {
+			if (payloadFrom < 0) return Map.of();
+			int length = payloadTo - payloadFrom;
+			byte[] raw = new byte[length];
+			for (int i = 0; i < length; i++) {
+				raw[i] = (byte) token.charAt(payloadFrom + i);
+			}
+			byte[] json = new byte[length * 3 / 4 + 3];
+			int jsonLength = decode(raw, 0, length, json);
+
+			JsonReader reader = new JsonReader(json, jsonLength);
+			Map<String, Object> attributes = new HashMap<>();
+			reader.beginObject();
+			while (reader.hasNextField()) {
+				String name = reader.nextName();
+				if (isReserved(name)) {
+					reader.skipValue();
+					continue;
+				}
+				Object value = reader.nextValue();
+				if (value == JsonReader.UNSUPPORTED) throw new IllegalStateException("verified payload changed shape");
+				if (value != null) attributes.put(name, value);
+			}
+			return Map.copyOf(attributes);
+		}
+	}
+
+	/** 페이로드 최상위 필드를 한 번 훑어 {@link VerifiedClaims}를 만듭니다. 다룰 수 없는 형식이면 null */
+	private static final class PayloadParser {
+
+		private final JsonReader reader;
+
+		private PayloadParser(byte[] json, int length) {
+			this.reader = new JsonReader(json, length);
+		}
+
+		/** 부가 속성 값은 형식만 확인하고 건너뜁니다. 위치는 {@link VerifiedClaims#readAttributes()}가 다시 읽을 때 씁니다. */
+		private VerifiedClaims parse(String token, int payloadFrom, int payloadTo) {
+			String subject = null;
+			String tokenType = null;
+			String tokenId = null;
+			long issuedAt = NO_TIME;
+			long expiration = NO_TIME;
+			Object authorities = null;
+			Object roles = null;
+			Object compact = null;
+			Object compactBits = null;
+			boolean attributes = false;
+
+			if (!reader.beginObject()) return null;
+			while (reader.hasNextField()) {
+				String name = reader.nextName();
+				if (name == null) return null;
+				if (!isReserved(name)) {
+					if (!reader.skipValue()) return null;
+					attributes = true;
+					continue;
+				}
+				Object value = reader.nextValue();
+				if (value == JsonReader.UNSUPPORTED) return null;
+				switch (name) {
+					case "sub":
+						if (!(value instanceof String)) return null;
+						subject = (String) value;
+						break;
+					case "token_type":
+						if (!(value instanceof String)) return null;
+						tokenType = (String) value;
+						break;
+					case "jti":
+						if (!(value instanceof String)) return null;
+						tokenId = (String) value;
+						break;
+					case "iat":
+						if (!(value instanceof Number)) return null;
+						issuedAt = ((Number) value).longValue();
+						break;
+					case "exp":
+						if (!(value instanceof Number)) return null;
+						expiration = ((Number) value).longValue();
+						break;
+					case "nbf":
+						return null;
+					case AuthorityClaims.KEY_AUTHORITIES:
+						authorities = value;
+						break;
+					case AuthorityClaims.KEY_ROLES:
+						roles = value;
+						break;
+					case AuthorityClaims.KEY_COMPACT:
+						compact = value;
+						break;
+					case AuthorityClaims.KEY_COMPACT_BITS:
+						compactBits = value;
+						break;
+					default:
+						break;
+				}
+			}
+			if (!reader.endObject()) return null;
+			return new VerifiedClaims(
+				subject, tokenType, tokenId, issuedAt, expiration,
+				authorities, roles, compact, compactBits,
+				token, attributes ? payloadFrom : -1, payloadTo
+			);
+		}
+	}
+
+	/**
+	 * 평평한 JSON 객체만 읽는 최소 pull parser입니다.
+	 * <p>값은 문자열, 불리언, null, long 범위 정수, 그리고 이들의 배열만 읽고, 나머지는 {@link #UNSUPPORTED}로 알립니다.
+	 * 정수는 Jackson과 같이 int 범위면 {@link Integer}, 아니면 {@link Long}으로 돌려줍니다.</p>
+	 */
+	private static final class JsonReader {
+
+		static final Object UNSUPPORTED = new Object();
+
+		private final byte[] json;
+		private final int length;
+		private int position;
+		private boolean first = true;
+
+		private JsonReader(byte[] json, int length) {
+			this.json = json;
+			this.length = length;
+		}
+
+		boolean beginObject() {
+			skipWhitespace();
+			return consume('{');
+		}
+
+		boolean endObject() {
+			skipWhitespace();
+			if (!consume('}')) return false;
+			skipWhitespace();
+			return position == length;
+		}
+
+		/** 다음 필드가 있으면 true. 필드 사이의 ','를 소비합니다. */
+		boolean hasNextField() {
+			skipWhitespace();
+			if (position < length && json[position] == '}') return false;
+			if (!first && !consume(',')) return false;
+			first = false;
+			return true;
+		}
+
+		/** 필드 이름과 ':'를 읽습니다. 형식이 맞지 않으면 null */
+		String nextName() {
+			skipWhitespace();
+			String name = string();
+			skipWhitespace();
+			return name != null && consume(':') ? name : null;
+		}
+
+		/** 문자열, 불리언, null, 정수 중 하나 */
+		Object nextScalar() {
+			skipWhitespace();
+			if (position >= length) return UNSUPPORTED;
+			byte b = json[position];
+			if (b == '"') {
+				String value = string();
+				return value == null ? UNSUPPORTED : value;
+			}
+			if (literal("true")) return Boolean.TRUE;
+			if (literal("false")) return Boolean.FALSE;
+			if (literal("null")) return null;
+			if (b == '-' || (b >= '0' && b <= '9')) return number();
+			return UNSUPPORTED;
+		}
+
+		/** 스칼라 또는 스칼라 배열 */
+		Object nextValue() {
+			skipWhitespace();
+			if (position >= length || json[position] != '[') return nextScalar();
+			position++;
+			List<Object> values = new ArrayList<>();
+			skipWhitespace();
+			if (consume(']')) return values;
+			while (true) {
+				Object value = nextScalar();
+				if (value == UNSUPPORTED) return UNSUPPORTED;
+				values.add(value);
+				skipWhitespace();
+				if (consume(']')) return values;
+				if (!consume(',')) return UNSUPPORTED;
+			}
+		}
+
+		/** {@link #nextValue()}로 읽을 수 있는 값을 만들지 않고 건너뜁니다. 읽을 수 없는 형식이면 false */
+		boolean skipValue() {
+			skipWhitespace();
+			if (!consume('[')) return skipScalar();
+			skipWhitespace();
+			if (consume(']')) return true;
+			while (true) {
+				if (!skipScalar()) return false;
+				skipWhitespace();
+				if (consume(']')) return true;
+				if (!consume(',')) return false;
+			}
+		}
+
+		private boolean skipScalar() {
+			skipWhitespace();
+			if (position >= length) return false;
+			byte b = json[position];
+			if (b == '"') return skipString();
+			if (literal("true") || literal("false") || literal("null")) return true;
+			return (b == '-' || (b >= '0' && b <= '9')) && skipNumber();
+		}
+
+		/** {@link #string()}가 받아들이는 문자열만 건너뜁니다. */
+		private boolean skipString() {
+			position++;
+			while (position < length) {
+				byte b = json[position++];
+				if (b == '"') return true;
+				if (b >= 0 && b < 0x20) return false;
+				if (b != '\\') continue;
+				if (position >= length) return false;
+				byte escaped = json[position++];
+				switch (escaped) {
+					case '"': case '\\': case '/': case 'b': case 'f': case 'n': case 'r': case 't':
+						break;
+					case 'u':
+						if (position + 4 > length) return false;
+						for (int i = 0; i < 4; i++) {
+							if (Character.digit(json[position++], 16) < 0) return false;
+						}
+						break;
+					default:
+						return false;
+				}
+			}
+			return false;
+		}
+
+		/** long 범위(18자리 이하) 정수만 건너뜁니다. */
+		private boolean skipNumber() {
+			consume('-');
+			int digitsStart = position;
+			while (position < length && json[position] >= '0' && json[position] <= '9') {
+				if (position - digitsStart >= 18) return false;
+				position++;
+			}
+			int digits = position - digitsStart;
+			if (digits == 0 || (digits > 1 && json[digitsStart] == '0')) return false;
+			if (position < length) {
+				byte next = json[position];
+				if (next == '.' || next == 'e' || next == 'E') return false;
+			}
+			return true;
+		}
+
+		private Object number() {
+			int start = position;
+			if (!skipNumber()) return UNSUPPORTED;
+			boolean negative = json[start] == '-';
+			long value = 0;
+			for (int i = negative ? start + 1 : start; i < position; i++) {
+				value = value * 10 + (json[i] - '0');
+			}
+			if (negative) value = -value;
+			return value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value;
+		}
+
+		/** 따옴표로 둘러싼 문자열. escape가 없으면 바이트를 UTF-8로 한 번에 풉니다. */
+		private String string() {
+			if (!consume('"')) return null;
+			int start = position;
+			while (position < length) {
+				byte b = json[position];
+				if (b == '"') {
+					return new String(json, start, position++ - start, StandardCharsets.UTF_8);
+				}
+				if (b == '\\') return escapedString(start);
+				if (b >= 0 && b < 0x20) return null;
+				position++;
+			}
+			return null;
+		}
+
+		private String escapedString(int start) {
+			StringBuilder builder = new StringBuilder(position - start + 16);
+			builder.append(new String(json, start, position - start, StandardCharsets.UTF_8));
+			int chunk = position;
+			while (position < length) {
+				byte b = json[position];
+				if (b == '"') {
+					builder.append(new String(json, chunk, position++ - chunk, StandardCharsets.UTF_8));
+					return builder.toString();
+				}
+				if (b >= 0 && b < 0x20) return null;
+				if (b != '\\') {
+					position++;
+					continue;
+				}
+				builder.append(new String(json, chunk, position - chunk, StandardCharsets.UTF_8));
+				if (position + 1 >= length) return null;
+				byte escaped = json[position + 1];
+				position += 2;
+				switch (escaped) {
+					case '"': builder.append('"'); break;
+					case '\\': builder.append('\\'); break;
+					case '/': builder.append('/'); break;
+					case 'b': builder.append('\b'); break;
+					case 'f': builder.append('\f'); break;
+					case 'n': builder.append('\n'); break;
+					case 'r': builder.append('\r'); break;
+					case 't': builder.append('\t'); break;
+					case 'u':
+						if (position + 4 > length) return null;
+						int code = 0;
+						for (int i = 0; i < 4; i++) {
+							int digit = Character.digit(json[position++], 16);
+							if (digit < 0) return null;
+							code = code << 4 | digit;
+						}
+						builder.append((char) code);
+						break;
+					default:
+						return null;
+				}
+				chunk = position;
+			}
+			return null;
+		}
+
+		private boolean literal(String literal) {
+			int size = literal.length();
+			if (position + size > length) return false;
+			for (int i = 0; i < size; i++) {
+				if (json[position + i] != literal.charAt(i)) return false;
+			}
+			position += size;
+			return true;
+		}
+
+		private boolean consume(char c) {
+			if (position < length && json[position] == c) {
+				position++;
+				return true;
+			}
+			return false;
+		}
+
+		private void skipWhitespace() {
+			while (position < length) {
+				byte b = json[position];
+				if (b != ' ' && b != '\n' && b != '\r' && b != '\t') return;
+				position++;
+			}
+		}
+	}
+
+	/** 검증 한 번에 빌려 쓰는 토큰/디코딩 버퍼와 {@link Mac} */
+	private static final class Scratch {
+
+		private byte[] raw = new byte[1024];
+		private byte[] header = new byte[128];
+		private byte[] payload = new byte[1024];
+		private final byte[] expected = new byte[SIGNATURE_BYTES];
+		private final byte[] actual = new byte[SIGNATURE_BYTES];
+		private Mac mac;
+		private Key macKey;
+
+		private byte[] raw(int size) {
+			if (raw.length < size) raw = new byte[size];
+			return raw;
+		}
+
+		private byte[] header(int encodedLength) {
+			int size = encodedLength * 3 / 4 + 3;
+			if (header.length < size) header = new byte[size];
+			return header;
+		}
+
+		private byte[] payload(int encodedLength) {
+			int size = encodedLength * 3 / 4 + 3;
+			if (payload.length < size) payload = new byte[size];
+			return payload;
+		}
+
+		/** 키가 지난번과 같으면 그대로, 다르면 다시 초기화한 Mac을 반환합니다. */
+		private Mac mac(Key key) {
+			try {
+				if (mac == null) mac = Mac.getInstance("HmacSHA256");
+				if (macKey != key) {
+					mac.init(key);
+					macKey = key;
+				}
+				return mac;
+			} catch (GeneralSecurityException e) {
+				throw new IllegalStateException("HmacSHA256 is not available", e);
+			}
+		}
+	}
+}
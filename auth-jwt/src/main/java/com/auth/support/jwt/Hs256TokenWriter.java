@@ -0,0 +1,325 @@
+package com.auth.support.jwt;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.Collection;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * HS256 토큰을 jjwt builder 없이 직접 만드는 발급 경로입니다.
+ * <p>키마다 고정인 헤더는 Base64URL 세그먼트로 한 번만 만들어 두고, 클레임 JSON은 재사용하는 버퍼에 UTF-8로 바로 씁니다.
+ * 버퍼와 이 키로 초기화한 {@link Mac}은 {@link ReusablePool}에서 빌려 쓰므로, 요청마다 새 virtual thread를 써도
+ * 발급마다 남는 할당은 결과 문자열 정도입니다.</p>
+ * <p>결과는 jjwt가 검증하는 compact JWS와 같은 형식입니다. (헤더 {@code alg}/{@code kid}, 패딩 없는 Base64URL, HMAC-SHA256 서명)
+ * 쓸 수 없는 클레임 값 타입을 만나면 {@link Payload#field}가 false를 반환하고, 호출자는 jjwt 경로로 다시 발급합니다.</p>
+ */
+final class Hs256TokenWriter {
+
+	private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+		.getBytes(StandardCharsets.US_ASCII);
+	private static final int SIGNATURE_BYTES = 32;
+
+	private final JwtSigningKey key;
+	/** Base64URL 헤더 세그먼트와 뒤따르는 '.' */
+	private final byte[] signingPrefix;
+	private final ReusablePool<Payload> payloads;
+
+	Hs256TokenWriter(JwtSigningKey key) {
+		if (key.algorithm() != SignatureAlgorithm.HS256) throw new IllegalArgumentException("HS256 key required: " + key.kid());
+		this.key = key;
+
+		Payload header = new Payload(null);
+		header.begin();
+		header.stringField("alg", SignatureAlgorithm.HS256.getValue());
+		header.stringField("kid", key.kid());
+		header.end();
+		byte[] prefix = new byte[encodedLength(header.length) + 1];
+		int n = encode(header.json, header.length, prefix, 0);
+		prefix[n] = '.';
+		this.signingPrefix = prefix;
+
+		Key secret = key.signingKey();
+		newMac(secret);
+		this.payloads = new ReusablePool<>(() -> new Payload(newMac(secret)));
+	}
+
+	/** 이 writer가 서명하는 키 */
+	JwtSigningKey key() {
+		return key;
+	}
+
+	/** 클레임 버퍼를 빌려 여는 중괄호를 씁니다. 다 쓰면 {@link #release}로 돌려줘야 합니다. */
+	Payload begin() {
+		Payload payload = payloads.acquire();
+		payload.begin();
+		return payload;
+	}
+
+	/** {@link #begin}으로 빌린 버퍼를 돌려줍니다. */
+	void release(Payload payload) {
+		payload.shrink();
+		payloads.release(payload);
+	}
+
+	/** 클레임 JSON을 닫고 헤더, 클레임, 서명 세그먼트를 이어 붙인 토큰을 반환합니다. */
+	String sign(Payload payload) {
+		payload.end();
+		int signingLength = signingPrefix.length + encodedLength(payload.length);
+		int tokenLength = signingLength + 1 + encodedLength(SIGNATURE_BYTES);
+		byte[] token = payload.token(tokenLength);
+
+		System.arraycopy(signingPrefix, 0, token, 0, signingPrefix.length);
+		encode(payload.json, payload.length, token, signingPrefix.length);
+
+		Mac mac = payload.mac;
+		mac.update(token, 0, signingLength);
+		try {
+			mac.doFinal(payload.signature, 0);
+		} catch (ShortBufferException e) {
+			throw new IllegalStateException(e);
+		}
+		token[signingLength] = '.';
+		encode(payload.signature, SIGNATURE_BYTES, token, signingLength + 1);
+
+		return new String(token, 0, tokenLength, StandardCharsets.US_ASCII);
+	}
+
+	private static Mac newMac(Key secret) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(secret);
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HmacSHA256 is not available", e);
+		}
+	}
+
+	/** 패딩 없는 Base64URL 길이 */
+	static int encodedLength(int length) {
+		int remainder = length % 3;
+		return (length / 3) * 4 + (remainder == 0 ? 0 : remainder + 1);
+	}
+
+	/** src[0, length)를 패딩 없는 Base64URL로 dst[offset..]에 쓰고, 쓴 다음 위치를 반환합니다. */
+	private static int encode(byte[] src, int length, byte[] dst, int offset) {
+		int i = 0;
+		int n = offset;
+		for (int end = length - length % 3; i < end; i += 3) {
+			int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8 | (src[i + 2] & 0xFF);
+			dst[n++] = BASE64_URL[bits >>> 18];
+			dst[n++] = BASE64_URL[(bits >>> 12) & 0x3F];
+			dst[n++] = BASE64_URL[(bits >>> 6) & 0x3F];
+			dst[n++] = BASE64_URL[bits & 0x3F];
+		}
+		int remainder = length - i;
+		if (remainder == 1) {
+			int bits = (src[i] & 0xFF) << 16;
+			dst[n++] = BASE64_URL[bits >>> 18];
+			dst[n++] = BASE64_URL[(bits >>> 12) & 0x3F];
+		} else if (remainder == 2) {
+			int bits = (src[i] & 0xFF) << 16 | (src[i + 1] & 0xFF) << 8;
+			dst[n++] = BASE64_URL[bits >>> 18];
+			dst[n++] = BASE64_URL[(bits >>> 12) & 0x3F];
+			dst[n++] = BASE64_URL[(bits >>> 6) & 0x3F];
+		}
+		return n;
+	}
+
+	/**
+	 * 발급 한 번에 빌려 쓰는 클레임 JSON 버퍼와 서명용 {@link Mac}입니다.
+	 * <p>문자열, 불리언, 정수, 유한한 실수, 그리고 이들로 된 컬렉션과 문자열 키 맵만 씁니다.</p>
+	 */
+	static final class Payload {
+
+		/** 이보다 커진 버퍼는 발급이 끝나면 버리고 기본 크기로 돌아갑니다. */
+		private static final int MAX_RETAINED_BYTES = 16 * 1024;
+		private static final int MAX_DEPTH = 16;
+
+		private byte[] json = new byte[512];
+		private int length;
+		private boolean first;
+		private byte[] token = new byte[1024];
+		private final byte[] signature = new byte[SIGNATURE_BYTES];
+		/** writer의 키로 초기화한 Mac. 헤더를 만들 때는 null */
+		private final Mac mac;
+
+		private Payload(Mac mac) {
+			this.mac = mac;
+		}
+
+		void stringField(String name, String value) {
+			name(name);
+			string(value);
+		}
+
+		void numberField(String name, long value) {
+			name(name);
+			ascii(Long.toString(value));
+		}
+
+		/**
+		 * 값을 타입에 맞게 씁니다.
+		 * @return 쓸 수 없는 타입이 있으면 false. 이때 버퍼 내용은 쓸 수 없으므로 호출자는 발급을 포기해야 합니다.
+		 */
+		boolean field(String name, Object value) {
+			name(name);
+			return value(value, 0);
+		}
+
+		private void begin() {
+			length = 0;
+			first = true;
+			put('{');
+		}
+
+		private void end() {
+			put('}');
+		}
+
+		private byte[] token(int size) {
+			if (token.length < size) token = new byte[Math.max(size, token.length * 2)];
+			return token;
+		}
+
+		private void shrink() {
+			if (json.length > MAX_RETAINED_BYTES) json = new byte[512];
+			if (token.length > MAX_RETAINED_BYTES) token = new byte[1024];
+		}
+
+		private void name(String name) {
+			if (!first) put(',');
+			first = false;
+			string(name);
+			put(':');
+		}
+
+		private boolean value(Object value, int depth) {
+			if (value == null) {
+				ascii("null");
+			} else if (value instanceof String string) {
+				string(string);
+			} else if (value instanceof Boolean
+				|| value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+				|| value instanceof BigInteger) {
+				ascii(value.toString());
+			} else if (value instanceof Double || value instanceof Float) {
+				double number = ((Number) value).doubleValue();
+				if (Double.isNaN(number) || Double.isInfinite(number)) return false;
+				ascii(value.toString());
+			} else if (value instanceof Collection<?> collection) {
+				if (depth >= MAX_DEPTH) return false;
+				put('[');
+				boolean firstElement = true;
+				for (Object element : collection) {
+					if (!firstElement) put(',');
+					firstElement = false;
+					if (!value(element, depth + 1)) return false;
+				}
+				put(']');
+			} else if (value instanceof Map<?, ?> map) {
+				if (depth >= MAX_DEPTH) return false;
+				put('{');
+				boolean firstEntry = true;
+				for (Map.Entry<?, ?> entry : map.entrySet()) {
+					if (!(entry.getKey() instanceof String key)) return false;
+					if (!firstEntry) put(',');
+					firstEntry = false;
+					string(key);
+					put(':');
+					if (!value(entry.getValue(), depth + 1)) return false;
+				}
+				put('}');
+			} else {
+				return false;
+			}
+			return true;
+		}
+
+		/** JSON 문자열로 씁니다. 따옴표, 역슬래시, 제어 문자는 escape하고 나머지는 UTF-8로 씁니다. */
+		private void string(String value) {
+			// 유니코드 escape(6바이트)가 문자 하나가 차지하는 최대 길이입니다.
+			ensure(value.length() * 6 + 2);
+			byte[] out = json;
+			int n = length;
+			out[n++] = '"';
+			for (int i = 0, size = value.length(); i < size; i++) {
+				char c = value.charAt(i);
+				if (c < 0x80) {
+					if (c == '"' || c == '\\') {
+						out[n++] = '\\';
+						out[n++] = (byte) c;
+					} else if (c < 0x20) {
+						n = escape(out, n, c);
+					} else {
+						out[n++] = (byte) c;
+					}
+				} else if (c < 0x800) {
+					out[n++] = (byte) (0xC0 | (c >> 6));
+					out[n++] = (byte) (0x80 | (c & 0x3F));
+				} else if (Character.isHighSurrogate(c) && i + 1 < size && Character.isLowSurrogate(value.charAt(i + 1))) {
+					int codePoint = Character.toCodePoint(c, value.charAt(++i));
+					out[n++] = (byte) (0xF0 | (codePoint >> 18));
+					out[n++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+					out[n++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+					out[n++] = (byte) (0x80 | (codePoint & 0x3F));
+				} else if (Character.isSurrogate(c)) {
+					// 짝이 없는 surrogate는 UTF-8로 쓸 수 없으므로 유니코드 escape로 남깁니다.
+					n = unicodeEscape(out, n, c);
+				} else {
+					out[n++] = (byte) (0xE0 | (c >> 12));
+					out[n++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+					out[n++] = (byte) (0x80 | (c & 0x3F));
+				}
+			}
+			out[n++] = '"';
+			length = n;
+		}
+
+		private static int escape(byte[] out, int n, char c) {
+			switch (c) {
+				case '\b': out[n++] = '\\'; out[n++] = 'b'; return n;
+				case '\f': out[n++] = '\\'; out[n++] = 'f'; return n;
+				case '\n': out[n++] = '\\'; out[n++] = 'n'; return n;
+				case '\r': out[n++] = '\\'; out[n++] = 'r'; return n;
+				case '\t': out[n++] = '\\'; out[n++] = 't'; return n;
+				default: return unicodeEscape(out, n, c);
+			}
+		}
+
+		private static int unicodeEscape(byte[] out, int n, char c) {
+			out[n++] = '\\';
+			out[n++] = 'u';
+			for (int shift = 12; shift >= 0; shift -= 4) {
+				out[n++] = (byte) Character.forDigit((c >> shift) & 0xF, 16);
+			}
+			return n;
+		}
+
+		private void ascii(String value) {
+			ensure(value.length());
+			for (int i = 0, size = value.length(); i < size; i++) {
+				json[length++] = (byte) value.charAt(i);
+			}
+		}
+
+		private void put(char c) {
+			ensure(1);
+			json[length++] = (byte) c;
+		}
+
+		private void ensure(int additional) {
+			int required = length + additional;
+			if (required <= json.length) return;
+			byte[] grown = new byte[Math.max(required, json.length * 2)];
+			System.arraycopy(json, 0, grown, 0, length);
+			json = grown;
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.auth.support.jwt;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.auth.common.utils.Strings;
+
+/**
+ * {@code kid}로 찾는 JWT 검증 키 묶음과 현재 서명 키입니다.
+ * <p>검증은 토큰 헤더의 {@code kid}로 맵을 한 번 조회해 키를 고르며, 등록된 키를 차례로 시도하지 않습니다.</p>
+ * <p>키 교체는 겹치는 기간을 두고 진행합니다.</p>
+ * <ol>
+ * <li>{@link #add}로 새 키를 검증 키로 먼저 배포합니다. (검증 서비스가 여럿이면 모두 받은 뒤 다음 단계로)</li>
+ * <li>{@link #rotate}로 새 키로 서명을 시작합니다. 이전 키는 검증 키로 남아 이미 발급된 토큰이 계속 검증됩니다.</li>
+ * <li>이전 키로 발급한 토큰의 최대 유효 시간이 지나면 {@link #retire}로 뺍니다.</li>
+ * </ol>
+ * <p>변경은 불변 스냅샷을 통째로 바꾸는 방식이라 검증 경로는 잠금 없이 volatile 읽기 한 번으로 키를 찾습니다.</p>
+ */
+public final class JwtKeyRing {
+
+	private volatile State state = new State(null, Map.of(), null);
+
+	/** 서명 키 없이 빈 키 묶음을 만듭니다. 검증만 하는 서비스는 {@link #add}로 공개키를 등록합니다. */
+	public JwtKeyRing() {
+	}
+
+	/** 주어진 키로 서명하고 검증하는 키 묶음을 만듭니다. */
+	public static JwtKeyRing of(JwtSigningKey active) {
+		JwtKeyRing keyRing = new JwtKeyRing();
+		keyRing.rotate(active);
+		return keyRing;
+	}
+
+	/**
+	 * 검증 키를 추가합니다. 같은 kid가 있으면 바꿉니다.
+	 * @throws IllegalArgumentException 현재 서명 키의 kid를 다른 키로 바꾸려는 경우
+	 */
+	public synchronized JwtKeyRing add(JwtSigningKey key) {
+		Strings.requireNonNull(key, "key");
+		State current = state;
+		if (current.active != null && current.active.kid().equals(key.kid()) && current.active != key) {
+			throw new IllegalArgumentException("cannot replace the active signing key: " + key.kid());
+		}
+		Map<String, JwtSigningKey> keys = new HashMap<>(current.keys);
+		keys.put(key.kid(), key);
+		state = new State(current.active, Map.copyOf(keys), current.legacyKid);
+		return this;
+	}
+
+	/**
+	 * 주어진 키로 서명을 시작합니다. 이전 서명 키는 검증 키로 남습니다.
+	 * @throws IllegalArgumentException 서명할 수 없는 키인 경우
+	 */
+	public synchronized JwtKeyRing rotate(JwtSigningKey next) {
+		Strings.requireNonNull(next, "next");
+		if (!next.canSign()) throw new IllegalArgumentException("key " + next.kid() + " cannot sign");
+		State current = state;
+		Map<String, JwtSigningKey> keys = new HashMap<>(current.keys);
+		keys.put(next.kid(), next);
+		state = new State(next, Map.copyOf(keys), current.legacyKid);
+		return this;
+	}
+
+	/**
+	 * 검증 키를 뺍니다. 이 키로 서명된 토큰은 더 이상 검증되지 않습니다.
+	 * @throws IllegalArgumentException 현재 서명 키를 빼려는 경우
+	 */
+	public synchronized JwtKeyRing retire(String kid) {
+		Strings.requireNonBlank(kid, "kid");
+		State current = state;
+		if (current.active != null && current.active.kid().equals(kid)) {
+			throw new IllegalArgumentException("cannot retire the active signing key: " + kid);
+		}
+		Map<String, JwtSigningKey> keys = new HashMap<>(current.keys);
+		keys.remove(kid);
+		state = new State(current.active, Map.copyOf(keys), kid.equals(current.legacyKid) ? null : current.legacyKid);
+		return this;
+	}
+
+	/**
+	 * {@code kid} 헤더 없이 발급된 이전 토큰을 검증할 키를 지정합니다.
+	 * <p>키 묶음 도입 이전 버전이 발급한 토큰이 만료될 때까지만 설정해 둡니다. null이면 kid 없는 토큰을 거부합니다.</p>
+	 */
+	public synchronized JwtKeyRing legacyKid(String kid) {
+		State current = state;
+		state = new State(current.active, current.keys, kid);
+		return this;
+	}
+
+	/**
+	 * 현재 서명 키
+	 * @throws IllegalStateException 서명 키가 없는 경우 (검증 전용 키 묶음)
+	 */
+	public JwtSigningKey active() {
+		JwtSigningKey active = state.active;
+		if (active == null) throw new IllegalStateException("no active signing key");
+		return active;
+	}
+
+	/** 서명 키가 있으면 true */
+	public boolean canSign() {
+		return state.active != null;
+	}
+
+	/**
+	 * 토큰 헤더의 kid로 검증 키를 찾습니다.
+	 * @param kid 헤더의 kid. null이면 {@link #legacyKid}로 지정한 키
+	 * @return 검증 키, 없으면 null
+	 */
+	public JwtSigningKey find(String kid) {
+		State current = state;
+		String lookup = kid != null ? kid : current.legacyKid;
+		return lookup == null ? null : current.keys.get(lookup);
+	}
+
+	/** 등록된 검증 키 수 */
+	public int size() {
+		return state.keys.size();
+	}
+
+	private record State(JwtSigningKey active, Map<String, JwtSigningKey> keys, String legacyKid) {
+	}
+}
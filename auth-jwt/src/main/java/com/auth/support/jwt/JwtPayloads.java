@@ -0,0 +1,128 @@
+package com.auth.support.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 이미 서명 검증을 통과한 JWT의 payload에서 클레임을 다시 읽는 보조 유틸입니다.
+ * <p>검증 자체를 대신하지 않으며, 캐시 만료 시각 계산처럼 부가 정보가 필요할 때만 사용합니다.
+ * 여러 클레임이 필요하면 {@link #payloadJson(String)}으로 한 번만 decode한 뒤 필드별로 읽습니다.</p>
+ */
+final class JwtPayloads {
+
+	static final long MISSING = -1L;
+
+	private JwtPayloads() {}
+
+	/**
+	 * payload에서 {@code "name":<정수>} 형태의 클레임 값을 읽습니다.
+	 * @return 클레임 값, 형식이 다르거나 없으면 {@link #MISSING}
+	 */
+	static long numericClaim(String token, String name) {
+		return numericField(payloadJson(token), name);
+	}
+
+	/**
+	 * JWT의 payload 부분을 decode한 JSON 문자열을 반환합니다.
+	 * @return payload JSON, 형식이 다르면 null
+	 */
+	static String payloadJson(String token) {
+		int first = token.indexOf('.');
+		int second = first < 0 ? -1 : token.indexOf('.', first + 1);
+		if (second < 0) return null;
+
+		try {
+			byte[] payload = Base64.getUrlDecoder().decode(token.substring(first + 1, second));
+			return new String(payload, StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * payload JSON에서 최상위 {@code "name":<정수>} 형태의 값을 읽습니다.
+	 * <p>중첩 객체나 배열 안의 같은 이름 키는 무시합니다.</p>
+	 * @return 값, json이 null이거나 형식이 다르거나 없으면 {@link #MISSING}
+	 */
+	static long numericField(String json, String name) {
+		if (json == null) return MISSING;
+
+		int i = topLevelValueIndex(json, name);
+		if (i < 0) return MISSING;
+
+		long value = 0;
+		int digits = 0;
+		while (i < json.length() && digits < 18) {
+			char c = json.charAt(i);
+			if (c < '0' || c > '9') break;
+			value = value * 10 + (c - '0');
+			digits++;
+			i++;
+		}
+		return digits == 0 ? MISSING : value;
+	}
+
+	/**
+	 * payload JSON에서 최상위 {@code "name":"<문자열>"} 형태의 값을 읽습니다.
+	 * <p>중첩 객체나 배열 안의 같은 이름 키는 무시합니다.</p>
+	 * @return 값, json이 null이거나 없거나 escape 문자가 들어 있으면 null
+	 */
+	static String stringField(String json, String name) {
+		if (json == null) return null;
+
+		int start = topLevelValueIndex(json, name);
+		if (start < 0 || json.charAt(start) != '"') return null;
+
+		int end = stringEnd(json, start);
+		if (end < 0) return null;
+		String value = json.substring(start + 1, end);
+		return value.indexOf('\\') >= 0 ? null : value;
+	}
+
+	/**
+	 * 최상위 객체에서 name 키의 값이 시작하는 위치를 찾습니다.
+	 * <p>문자열 안의 괄호와 따옴표는 건너뛰고, 깊이가 1인 위치의 키만 비교합니다.</p>
+	 * @return 값의 첫 글자 위치, 없으면 -1
+	 */
+	private static int topLevelValueIndex(String json, String name) {
+		int depth = 0;
+		for (int i = 0; i < json.length(); i++) {
+			char c = json.charAt(i);
+			if (c == '{' || c == '[') {
+				depth++;
+			} else if (c == '}' || c == ']') {
+				depth--;
+			} else if (c == '"') {
+				int end = stringEnd(json, i);
+				if (end < 0) return -1;
+				int colon = skipWhitespace(json, end + 1);
+				if (depth == 1 && colon < json.length() && json.charAt(colon) == ':'
+					&& end - i - 1 == name.length() && json.startsWith(name, i + 1)) {
+					int value = skipWhitespace(json, colon + 1);
+					return value < json.length() ? value : -1;
+				}
+				i = end;
+			}
+		}
+		return -1;
+	}
+
+	/** start의 따옴표로 시작한 문자열을 닫는 따옴표 위치. 닫히지 않으면 -1 */
+	private static int stringEnd(String json, int start) {
+		for (int i = start + 1; i < json.length(); i++) {
+			char c = json.charAt(i);
+			if (c == '\\') {
+				i++;
+			} else if (c == '"') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int skipWhitespace(String json, int from) {
+		int i = from;
+		while (i < json.length() && Character.isWhitespace(json.charAt(i))) i++;
+		return i;
+	}
+}
@@ -0,0 +1,128 @@
+package com.auth.support.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.RSAKey;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+import com.auth.common.utils.Strings;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * {@code kid}로 식별되는 JWT 서명/검증 키 하나입니다.
+ * <p>HS256은 같은 비밀키로 서명과 검증을 모두 하고, RS256/ES256은 개인키로 서명하고 공개키로 검증합니다.
+ * 검증만 하는 서비스는 {@link #verificationOnly}로 공개키만 가진 키를 만들어 {@link JwtKeyRing}에 등록합니다.</p>
+ * <p>키 길이와 곡선은 생성 시점에 확인하므로 잘못된 키는 토큰을 발급하기 전에 드러납니다.</p>
+ */
+public final class JwtSigningKey {
+
+	private static final int MIN_HMAC_BYTES = 32;
+	private static final int MIN_RSA_BITS = 2048;
+	private static final int EC_P256_BITS = 256;
+
+	private final String kid;
+	private final SignatureAlgorithm algorithm;
+	private final Key signingKey;
+	private final Key verificationKey;
+
+	private JwtSigningKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+		this.kid = Strings.requireNonBlank(kid, "kid");
+		this.algorithm = algorithm;
+		this.signingKey = signingKey;
+		this.verificationKey = verificationKey;
+	}
+
+	/**
+	 * HS256 키를 만듭니다.
+	 * @param secret 서명 비밀키 (UTF-8 기준 32바이트 이상)
+	 */
+	public static JwtSigningKey hmac(String kid, String secret) {
+		if (Strings.isBlank(secret)) throw new AuthException(AuthFailureReason.INVALID_INPUT, "auth.jwt.secret must not be blank");
+		byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length < MIN_HMAC_BYTES) throw new AuthException(AuthFailureReason.INVALID_INPUT, "auth.jwt.secret must be at least 32 bytes for HS256");
+		Key key = Keys.hmacShaKeyFor(bytes);
+		return new JwtSigningKey(kid, SignatureAlgorithm.HS256, key, key);
+	}
+
+	/**
+	 * RS256 키를 만듭니다.
+	 * @param keyPair 2048비트 이상 RSA 키 쌍
+	 */
+	public static JwtSigningKey rsa(String kid, KeyPair keyPair) {
+		Strings.requireNonNull(keyPair, "keyPair");
+		checkKey(SignatureAlgorithm.RS256, keyPair.getPublic());
+		checkKey(SignatureAlgorithm.RS256, keyPair.getPrivate());
+		return new JwtSigningKey(kid, SignatureAlgorithm.RS256, keyPair.getPrivate(), keyPair.getPublic());
+	}
+
+	/**
+	 * ES256 키를 만듭니다.
+	 * @param keyPair P-256 곡선 EC 키 쌍
+	 */
+	public static JwtSigningKey ec(String kid, KeyPair keyPair) {
+		Strings.requireNonNull(keyPair, "keyPair");
+		checkKey(SignatureAlgorithm.ES256, keyPair.getPublic());
+		checkKey(SignatureAlgorithm.ES256, keyPair.getPrivate());
+		return new JwtSigningKey(kid, SignatureAlgorithm.ES256, keyPair.getPrivate(), keyPair.getPublic());
+	}
+
+	/**
+	 * 검증만 할 수 있는 RS256/ES256 키를 만듭니다. 서명 비밀을 나눠 갖지 않아도 되는 하위 서비스용입니다.
+	 * @param algorithm {@code RS256} 또는 {@code ES256}
+	 * @param publicKey 발급 서비스의 공개키
+	 */
+	public static JwtSigningKey verificationOnly(String kid, SignatureAlgorithm algorithm, PublicKey publicKey) {
+		Strings.requireNonNull(algorithm, "algorithm");
+		Strings.requireNonNull(publicKey, "publicKey");
+		if (algorithm != SignatureAlgorithm.RS256 && algorithm != SignatureAlgorithm.ES256) {
+			throw new AuthException(AuthFailureReason.INVALID_INPUT, "verification-only keys must be RS256 or ES256");
+		}
+		checkKey(algorithm, publicKey);
+		return new JwtSigningKey(kid, algorithm, null, publicKey);
+	}
+
+	private static void checkKey(SignatureAlgorithm algorithm, Key key) {
+		Strings.requireNonNull(key, "key");
+		if (algorithm == SignatureAlgorithm.RS256) {
+			if (!(key instanceof RSAKey)) throw new AuthException(AuthFailureReason.INVALID_INPUT, "RS256 requires an RSA key");
+			if (((RSAKey) key).getModulus().bitLength() < MIN_RSA_BITS) {
+				throw new AuthException(AuthFailureReason.INVALID_INPUT, "RS256 requires an RSA key of at least 2048 bits");
+			}
+		} else if (algorithm == SignatureAlgorithm.ES256) {
+			if (!(key instanceof ECKey)) throw new AuthException(AuthFailureReason.INVALID_INPUT, "ES256 requires an EC key");
+			if (((ECKey) key).getParams().getCurve().getField().getFieldSize() != EC_P256_BITS) {
+				throw new AuthException(AuthFailureReason.INVALID_INPUT, "ES256 requires a P-256 key");
+			}
+		}
+	}
+
+	/** JWT 헤더에 기록하는 키 식별자 */
+	public String kid() {
+		return kid;
+	}
+
+	/** 이 키로 서명/검증하는 알고리즘 */
+	public SignatureAlgorithm algorithm() {
+		return algorithm;
+	}
+
+	/** 서명할 수 있으면 true. {@link #verificationOnly}로 만든 키는 false */
+	public boolean canSign() {
+		return signingKey != null;
+	}
+
+	Key signingKey() {
+		if (signingKey == null) throw new IllegalStateException("key " + kid + " is verification-only");
+		return signingKey;
+	}
+
+	Key verificationKey() {
+		return verificationKey;
+	}
+}
@@ -1,55 +1,156 @@
 package com.auth.support.jwt;
 
-import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 import com.auth.api.exception.AuthException;
 import com.auth.api.exception.AuthFailureReason;
 import com.auth.api.model.Principal;
 import com.auth.common.utils.Strings;
+import com.auth.spi.AccessTokenDenylist;
+import com.auth.spi.RevocationEpochs;
 import com.auth.spi.TokenService;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 
+/**
+ * 서명 JWT로 access/refresh token을 발급하고 검증하는 {@link TokenService} 구현입니다.
+ * <p>권한 클레임 형식 등 추가 설정이 필요하면 {@link #builder(String)}를 사용합니다.</p>
+ * <p>{@link #builder(JwtKeyRing)}로 만들면 HS256/RS256/ES256 키를 {@code kid}로 구분해 쓰고 키를 무중단으로 교체할 수 있습니다.
+ * 모든 토큰 헤더에 서명 키의 {@code kid}를 기록하고, 검증 시 그 {@code kid}로 키를 한 번에 찾습니다.
+ * 헤더의 알고리즘이 찾은 키의 알고리즘과 다르면 서명을 확인하지 않고 거부합니다.</p>
+ * <p>refresh token에는 {@link TokenService#FAMILY_ID_ATTRIBUTE} 클레임으로 토큰 family를 기록합니다.
+ * principal 속성에 family가 있으면 그대로 잇고, 없으면 새로 만듭니다. access token에는 기록하지 않습니다.</p>
+ * <p>모든 토큰에는 무작위 128비트 식별자({@code jti})를 기록합니다. {@link Builder#accessTokenDenylist}를 설정하면
+ * {@link #revokeAccessToken(String)}으로 access token 하나를 만료 전에 폐기할 수 있습니다.</p>
+ */
 public class JwtTokenService implements TokenService {
 
-	private final Key key;
+	/** {@link #builder(String)}로 만든 HS256 키의 kid. kid 없이 발급된 이전 토큰도 이 키로 검증합니다. */
+	static final String DEFAULT_KID = "default";
+
+	private final JwtKeyRing keyRing;
+	/** 검증 키는 매 토큰 kid로 키 묶음에서 찾으므로 한 번 만든 불변 parser를 모든 검증 호출에서 공유합니다. (thread-safe) */
+	private final JwtParser parser;
 	private final long accessSeconds;
 	private final long refreshSeconds;
+	private final AuthorityClaimEncoding authorityEncoding;
+	private final AuthorityDictionary authorityDictionary;
+	private final RevocationEpochs revocationEpochs;
+	private final AccessTokenDenylist accessTokenDenylist;
+	private final boolean hs256FastPath;
+	/** HS256 토큰을 jjwt parser 없이 검증하는 경로. {@link Builder#hs256FastPath}가 false면 null */
+	private final Hs256TokenVerifier hs256Verifier;
+	/** 현재 서명 키용 HS256 writer. 키가 바뀌면 다음 발급에서 새로 만듭니다. */
+	private volatile Hs256TokenWriter hs256Writer;
 
 	private static final String KEY_TOKEN_TYPE = "token_type";
-	private static final String KEY_AUTHORITIES = "authorities";
-	private static final String KEY_ROLES = "roles";
+	private static final String TYPE_ACCESS = "access";
+	private static final String TYPE_REFRESH = "refresh";
 
 	private String buildToken(Principal principal, long ttlSeconds, String type) {
+		JwtSigningKey signingKey = keyRing.active();
+		if (hs256FastPath && signingKey.algorithm() == SignatureAlgorithm.HS256) {
+			String token = writeHs256Token(hs256Writer(signingKey), principal, ttlSeconds, type);
+			if (token != null) return token;
+		}
+
 		Date now = new Date();
 		Date exp = new Date(now.getTime() + (ttlSeconds * 1000L));
 
 		Map<String, Object> claims = new HashMap<>(principal.getAttributes());
-		if (!principal.getAuthorities().isEmpty()) {
-			claims.put(KEY_AUTHORITIES, principal.getAuthorities());
-			claims.put(KEY_ROLES, principal.getAuthorities());
+		claims.keySet().removeIf(AuthorityClaims::isReserved);
+		if (TYPE_REFRESH.equals(type)) {
+			// refresh token은 항상 family에 속합니다. 로그인 시점처럼 family가 없으면 새로 만듭니다.
+			Object familyId = claims.get(FAMILY_ID_ATTRIBUTE);
+			if (!(familyId instanceof String) || Strings.isBlank((String) familyId)) {
+				claims.put(FAMILY_ID_ATTRIBUTE, UUID.randomUUID().toString());
+			}
+		} else {
+			claims.remove(FAMILY_ID_ATTRIBUTE);
 		}
+		AuthorityClaims.write(claims, principal.getAuthorities(), authorityEncoding, authorityDictionary);
 
 		return Jwts.builder()
+			.setHeaderParam(JwsHeader.KEY_ID, signingKey.kid())
 			.setSubject(principal.getUserId())
 			.addClaims(claims)
 			.claim(KEY_TOKEN_TYPE, type)
+			.setId(newTokenId())
 			.setIssuedAt(now)
 			.setExpiration(exp)
-			.signWith(key, SignatureAlgorithm.HS256)
+			.signWith(signingKey.signingKey(), signingKey.algorithm())
 			.compact();
 	}
 
+	/**
+	 * jjwt builder와 같은 클레임을 {@link Hs256TokenWriter}로 씁니다. 중간 클레임 맵을 만들지 않습니다.
+	 * @return 쓸 수 없는 타입의 속성이 있으면 null
+	 */
+	private String writeHs256Token(Hs256TokenWriter writer, Principal principal, long ttlSeconds, String type) {
+		long now = System.currentTimeMillis();
+		Hs256TokenWriter.Payload payload = writer.begin();
+		try {
+			payload.stringField(Claims.SUBJECT, principal.getUserId());
+
+			Map<String, Object> attributes = principal.getAttributes();
+			for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+				if (!isAttributeClaim(attribute) || FAMILY_ID_ATTRIBUTE.equals(attribute.getKey())) continue;
+				if (!payload.field(attribute.getKey(), attribute.getValue())) return null;
+			}
+			if (TYPE_REFRESH.equals(type)) {
+				Object familyId = attributes.get(FAMILY_ID_ATTRIBUTE);
+				boolean hasFamily = familyId instanceof String && !Strings.isBlank((String) familyId);
+				payload.stringField(FAMILY_ID_ATTRIBUTE, hasFamily ? (String) familyId : UUID.randomUUID().toString());
+			}
+
+			List<String> authorities = principal.getAuthorities();
+			if (authorityEncoding == AuthorityClaimEncoding.LEGACY) {
+				if (!authorities.isEmpty()) {
+					payload.field(AuthorityClaims.KEY_AUTHORITIES, authorities);
+					payload.field(AuthorityClaims.KEY_ROLES, authorities);
+				}
+			} else {
+				Map<String, Object> authorityClaims = new HashMap<>(4);
+				AuthorityClaims.write(authorityClaims, authorities, authorityEncoding, authorityDictionary);
+				for (Map.Entry<String, Object> claim : authorityClaims.entrySet()) {
+					payload.field(claim.getKey(), claim.getValue());
+				}
+			}
+
+			payload.stringField(KEY_TOKEN_TYPE, type);
+			payload.stringField(Claims.ID, newTokenId());
+			payload.numberField(Claims.ISSUED_AT, now / 1000L);
+			payload.numberField(Claims.EXPIRATION, (now + ttlSeconds * 1000L) / 1000L);
+			return writer.sign(payload);
+		} finally {
+			writer.release(payload);
+		}
+	}
+
+	private Hs256TokenWriter hs256Writer(JwtSigningKey signingKey) {
+		Hs256TokenWriter writer = hs256Writer;
+		if (writer == null || writer.key() != signingKey) {
+			writer = new Hs256TokenWriter(signingKey);
+			hs256Writer = writer;
+		}
+		return writer;
+	}
+
 	/**
 	 * 생성자
 	 * @param secret
@@ -57,72 +158,344 @@ public class JwtTokenService implements TokenService {
 	 * @param refreshSeconds
 	 */
 	public JwtTokenService(String secret, long accessSeconds, long refreshSeconds) {
-		if (Strings.isBlank(secret)) throw new AuthException(AuthFailureReason.INVALID_INPUT, "auth.jwt.secret must not be blank");
-		byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
-		if (bytes.length < 32) throw new AuthException(AuthFailureReason.INVALID_INPUT, "auth.jwt.secret must be at least 32 bytes for HS256");
+		this(builder(secret).accessSeconds(accessSeconds).refreshSeconds(refreshSeconds));
+	}
 
-		this.key = Keys.hmacShaKeyFor(bytes);
-		this.accessSeconds = accessSeconds;
-		this.refreshSeconds = refreshSeconds;
+	private JwtTokenService(Builder builder) {
+		this.keyRing = builder.keyRing != null
+			? builder.keyRing
+			: JwtKeyRing.of(JwtSigningKey.hmac(DEFAULT_KID, builder.secret)).legacyKid(DEFAULT_KID);
+		this.parser = Jwts.parserBuilder().setSigningKeyResolver(new KeyRingResolver(keyRing)).build();
+		this.accessSeconds = builder.accessSeconds;
+		this.refreshSeconds = builder.refreshSeconds;
+		this.authorityEncoding = builder.authorityEncoding;
+		this.authorityDictionary = builder.authorityDictionary;
+		this.revocationEpochs = builder.revocationEpochs;
+		this.accessTokenDenylist = builder.accessTokenDenylist;
+		this.hs256FastPath = builder.hs256FastPath;
+		this.hs256Verifier = builder.hs256FastPath ? new Hs256TokenVerifier(keyRing) : null;
+	}
+
+	/**
+	 * 설정 빌더를 생성합니다.
+	 * @param secret HS256 서명 비밀키 (UTF-8 기준 32바이트 이상)
+	 */
+	public static Builder builder(String secret) {
+		return new Builder(secret, null);
+	}
+
+	/**
+	 * 키 묶음으로 서명/검증하는 설정 빌더를 생성합니다.
+	 * <p>서명 키가 없는 키 묶음이면 검증만 할 수 있고, 토큰 발급은 {@link IllegalStateException}으로 실패합니다.</p>
+	 * @param keyRing 서명 키와 검증 키 묶음. 생성 후 교체한 키도 바로 반영됩니다.
+	 */
+	public static Builder builder(JwtKeyRing keyRing) {
+		return new Builder(null, Strings.requireNonNull(keyRing, "keyRing"));
 	}
 
 
 	private Principal parseAndToPrincipal(String token, String expectedType) {
 		try {
-			Claims claims = Jwts.parserBuilder()
-				.setSigningKey(key)
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
+			if (hs256Verifier != null) {
+				Hs256TokenVerifier.VerifiedClaims verified = hs256Verifier.verify(token);
+				if (verified != null) return toPrincipal(verified, expectedType);
+			}
+
+			Claims claims = parser.parseClaimsJws(token).getBody();
 
 			String type = claims.get(KEY_TOKEN_TYPE, String.class);
 			if (type == null) throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid token type");
 			if (!type.equals(expectedType)) throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid token type");
 
 			String userId = claims.getSubject();
+			checkNotRevoked(userId, epochSecond(claims.getIssuedAt()));
+			if (TYPE_ACCESS.equals(type)) checkNotDenied(claims.getId(), epochSecond(claims.getExpiration()));
 
-			Map<String, Object> attributes = new HashMap<>(claims);
-			attributes.remove(Claims.SUBJECT);
-			attributes.remove(Claims.ISSUED_AT);
-			attributes.remove(Claims.EXPIRATION);
-			attributes.remove(KEY_TOKEN_TYPE);
-			List<String> authorities = toAuthorities(attributes.remove(KEY_AUTHORITIES));
-			if (authorities.isEmpty()) {
-				authorities = toAuthorities(attributes.remove(KEY_ROLES));
-			}
-			return new Principal(userId, authorities, attributes);
+			List<String> authorities = AuthorityClaims.read(
+				claims.get(AuthorityClaims.KEY_AUTHORITIES),
+				claims.get(AuthorityClaims.KEY_ROLES),
+				claims.get(AuthorityClaims.KEY_COMPACT),
+				claims.get(AuthorityClaims.KEY_COMPACT_BITS),
+				authorityDictionary
+			);
+			return Principal.withLazyAttributes(userId, authorities, () -> toAttributes(claims));
 		} catch (JwtException | IllegalArgumentException e) {
 			throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid/expired token", e);
 		}
 	}
 
-	private List<String> toAuthorities(Object rawAuthorityData) {
-		if (rawAuthorityData instanceof List<?> list) {
-			return list.stream()
-				.filter(Objects::nonNull)
-				.map(Object::toString)
-				.toList();
+	/** {@link Hs256TokenVerifier}가 꺼낸 클레임에 jjwt 경로와 같은 확인을 적용합니다. */
+	private Principal toPrincipal(Hs256TokenVerifier.VerifiedClaims claims, String expectedType) {
+		String type = claims.tokenType();
+		if (type == null) throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid token type");
+		if (!type.equals(expectedType)) throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid token type");
+
+		String userId = claims.subject();
+		checkNotRevoked(userId, claims.issuedAtSecond());
+		if (TYPE_ACCESS.equals(type)) checkNotDenied(claims.tokenId(), claims.expirationSecond());
+
+		List<String> authorities = AuthorityClaims.read(
+			claims.authorities(),
+			claims.roles(),
+			claims.compact(),
+			claims.compactBits(),
+			authorityDictionary
+		);
+		return claims.hasAttributes()
+			? Principal.withLazyAttributes(userId, authorities, claims::readAttributes)
+			: new Principal(userId, authorities);
+	}
+
+	private static long epochSecond(Date date) {
+		return date == null ? Hs256TokenVerifier.NO_TIME : date.getTime() / 1000L;
+	}
+
+	/** 헤더의 kid로 검증 키를 찾고, 헤더 알고리즘이 키의 알고리즘과 같은지 확인합니다. */
+	private static final class KeyRingResolver extends SigningKeyResolverAdapter {
+
+		private final JwtKeyRing keyRing;
+
+		private KeyRingResolver(JwtKeyRing keyRing) {
+			this.keyRing = keyRing;
+		}
+
+		@Override
+		@SuppressWarnings("rawtypes")
+		public Key resolveSigningKey(JwsHeader header, Claims claims) {
+			JwtSigningKey key = keyRing.find(header.getKeyId());
+			if (key == null) throw new JwtException("unknown signing key");
+			if (!key.algorithm().getValue().equals(header.getAlgorithm())) throw new JwtException("signing algorithm does not match key");
+			return key.verificationKey();
+		}
+	}
+
+	/** 사용자별 폐기 기준 시각보다 먼저 발급된 토큰을 거부합니다. 기준이 없으면 맵 조회 한 번으로 끝납니다. */
+	private void checkNotRevoked(String userId, long issuedAtSecond) {
+		if (revocationEpochs == null || userId == null) return;
+		long notBefore = revocationEpochs.notBeforeEpochSecond(userId);
+		if (notBefore == RevocationEpochs.NONE) return;
+		if (issuedAtSecond == Hs256TokenVerifier.NO_TIME || issuedAtSecond < notBefore) {
+			throw new AuthException(AuthFailureReason.REVOKED_TOKEN, "token revoked");
+		}
+	}
+
+	/** 개별 폐기된 access token을 거부합니다. 폐기 목록에 없는 토큰은 할당 없이 확인이 끝납니다. */
+	private void checkNotDenied(String tokenId, long expirationSecond) {
+		if (accessTokenDenylist == null) return;
+		if (tokenId == null || expirationSecond == Hs256TokenVerifier.NO_TIME) return;
+		if (accessTokenDenylist.isDenied(tokenId, expirationSecond)) {
+			throw new AuthException(AuthFailureReason.REVOKED_TOKEN, "token revoked");
+		}
+	}
+
+	/** 무작위 128비트를 base64url(22자)로 기록한 토큰 식별자 */
+	private static String newTokenId() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long high = random.nextLong();
+		long low = random.nextLong();
+		byte[] bytes = new byte[16];
+		for (int i = 0; i < 8; i++) {
+			bytes[i] = (byte) (high >>> (56 - i * 8));
+			bytes[8 + i] = (byte) (low >>> (56 - i * 8));
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+
+	/**
+	 * 예약 클레임을 제외한 나머지를 한 번에 불변 맵으로 만듭니다.
+	 * <p>{@link Principal}이 부가 속성을 처음 읽을 때 호출합니다. {@code Map.ofEntries} 결과는 Principal의 {@code Map.copyOf}에서 다시 복사되지 않습니다.</p>
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Map<String, Object> toAttributes(Claims claims) {
+		int count = 0;
+		for (Map.Entry<String, Object> claim : claims.entrySet()) {
+			if (isAttributeClaim(claim)) count++;
+		}
+		if (count == 0) return Map.of();
+
+		Map.Entry<String, Object>[] entries = new Map.Entry[count];
+		int i = 0;
+		for (Map.Entry<String, Object> claim : claims.entrySet()) {
+			if (isAttributeClaim(claim)) entries[i++] = claim;
+		}
+		return Map.ofEntries(entries);
+	}
+
+	private static boolean isAttributeClaim(Map.Entry<String, Object> claim) {
+		if (claim.getValue() == null) return false;
+		switch (claim.getKey()) {
+			case Claims.SUBJECT:
+			case Claims.ISSUED_AT:
+			case Claims.EXPIRATION:
+			case Claims.ID:
+			case KEY_TOKEN_TYPE:
+				return false;
+			default:
+				return !AuthorityClaims.isReserved(claim.getKey());
 		}
-		if (rawAuthorityData instanceof String value) return List.of(value);
-		return List.of();
 	}
 
 	@Override
 	public String issueAccessToken(Principal principal) {
-		return buildToken(principal, accessSeconds, "access");
+		return buildToken(principal, accessSeconds, TYPE_ACCESS);
 	}
 	@Override
 	public String issueRefreshToken(Principal principal) {
-		return buildToken(principal, refreshSeconds, "refresh");
+		return buildToken(principal, refreshSeconds, TYPE_REFRESH);
 	}
 	@Override
 	public Principal verifyAccessToken(String token) {
-		return parseAndToPrincipal(token, "access");
+		return parseAndToPrincipal(token, TYPE_ACCESS);
 	}
 	@Override
 	public Principal verifyRefreshToken(String token) {
-		return parseAndToPrincipal(token, "refresh");
+		return parseAndToPrincipal(token, TYPE_REFRESH);
+	}
+
+	/**
+	 * 사용자별 폐기 기준 시각을 옮겨 그 이전에 발급된 토큰을 모두 무효화합니다.
+	 * @return {@link Builder#revocationEpochs}가 설정되지 않았으면 아무것도 하지 않고 false
+	 */
+	@Override
+	public boolean revokeAllIssuedBefore(String userId, Instant notBefore) {
+		Strings.requireNonBlank(userId, "userId");
+		Strings.requireNonNull(notBefore, "notBefore");
+		if (revocationEpochs == null) return false;
+		revocationEpochs.advance(userId, notBefore);
+		return true;
+	}
+
+	/**
+	 * access token 하나를 폐기 목록에 올려 만료 전에 무효화합니다.
+	 * <p>이미 만료된 토큰은 아무 일도 하지 않습니다.</p>
+	 * @return {@link Builder#accessTokenDenylist}가 설정되지 않았으면 아무것도 하지 않고 false
+	 * @throws AuthException 서명이 유효하지 않거나 jti가 없는 access token이 아닌 경우,
+	 * 또는 만료까지 남은 시간이 폐기 목록이 다루는 최대 유효 시간보다 긴 경우 ({@code INVALID_TOKEN})
+	 */
+	@Override
+	public boolean revokeAccessToken(String token) {
+		if (accessTokenDenylist == null) return false;
+		Claims claims;
+		try {
+			claims = parser.parseClaimsJws(token).getBody();
+		} catch (ExpiredJwtException e) {
+			return true;
+		} catch (JwtException | IllegalArgumentException e) {
+			throw new AuthException(AuthFailureReason.INVALID_TOKEN, "invalid token", e);
+		}
+
+		String tokenId = claims.getId();
+		Date expiration = claims.getExpiration();
+		if (!TYPE_ACCESS.equals(claims.get(KEY_TOKEN_TYPE, String.class)) || tokenId == null || expiration == null) {
+			throw new AuthException(AuthFailureReason.INVALID_TOKEN, "token cannot be revoked individually");
+		}
+		try {
+			accessTokenDenylist.deny(tokenId, expiration.getTime() / 1000L);
+		} catch (IllegalArgumentException e) {
+			throw new AuthException(AuthFailureReason.INVALID_TOKEN, "token outlives the access token denylist", e);
+		}
+		return true;
+	}
+
+	/** 검증에 쓰는 폐기 기준 시각 저장소. 설정하지 않았으면 null */
+	RevocationEpochs revocationEpochs() {
+		return revocationEpochs;
 	}
 
+	/** 검증에 쓰는 access token 폐기 목록. 설정하지 않았으면 null */
+	AccessTokenDenylist accessTokenDenylist() {
+		return accessTokenDenylist;
+	}
 
+	/** {@link JwtTokenService} 설정 빌더입니다. */
+	public static final class Builder {
+
+		private final String secret;
+		private final JwtKeyRing keyRing;
+		private long accessSeconds = 15 * 60;
+		private long refreshSeconds = 14 * 24 * 60 * 60;
+		private AuthorityClaimEncoding authorityEncoding = AuthorityClaimEncoding.LEGACY;
+		private AuthorityDictionary authorityDictionary;
+		private RevocationEpochs revocationEpochs;
+		private AccessTokenDenylist accessTokenDenylist;
+		private boolean hs256FastPath;
+
+		private Builder(String secret, JwtKeyRing keyRing) {
+			this.secret = secret;
+			this.keyRing = keyRing;
+		}
+
+		/** access token 유효 시간(초). 기본값 15분 */
+		public Builder accessSeconds(long accessSeconds) {
+			this.accessSeconds = accessSeconds;
+			return this;
+		}
+
+		/** refresh token 유효 시간(초). 기본값 14일 */
+		public Builder refreshSeconds(long refreshSeconds) {
+			this.refreshSeconds = refreshSeconds;
+			return this;
+		}
+
+		/** 발급 토큰의 권한 클레임 형식. 기본값 {@link AuthorityClaimEncoding#LEGACY} */
+		public Builder authorityEncoding(AuthorityClaimEncoding authorityEncoding) {
+			this.authorityEncoding = Strings.requireNonNull(authorityEncoding, "authorityEncoding");
+			return this;
+		}
+
+		/**
+		 * compact 모드에서 bitset으로 기록할 권한 테이블.
+		 * <p>bitset 클레임이 있는 토큰을 검증하려면 검증 측에도 같은 테이블이 설정되어 있어야 합니다.</p>
+		 */
+		public Builder authorityDictionary(AuthorityDictionary authorityDictionary) {
+			this.authorityDictionary = authorityDictionary;
+			return this;
+		}
+
+		/**
+		 * 사용자별 폐기 기준 시각 저장소.
+		 * <p>설정하면 검증 시 기준 시각보다 먼저 발급된(iat) 토큰을 {@code REVOKED_TOKEN}으로 거부하고,
+		 * {@link JwtTokenService#revokeAllIssuedBefore}를 사용할 수 있습니다.</p>
+		 */
+		public Builder revocationEpochs(RevocationEpochs revocationEpochs) {
+			this.revocationEpochs = revocationEpochs;
+			return this;
+		}
+
+		/**
+		 * 개별 폐기된 access token 목록.
+		 * <p>설정하면 검증 시 목록에 있는 jti의 access token을 {@code REVOKED_TOKEN}으로 거부하고,
+		 * {@link JwtTokenService#revokeAccessToken}을 사용할 수 있습니다.
+		 * 목록 구현이 다루는 최대 유효 시간({@link AccessTokenDenylist#maxTokenLifetimeSeconds()})은 {@link #accessSeconds} 이상이어야 하며,
+		 * 그렇지 않으면 {@link #build()}가 실패합니다. 기본 {@code BloomFilterAccessTokenDenylist}는 15분입니다.</p>
+		 */
+		public Builder accessTokenDenylist(AccessTokenDenylist accessTokenDenylist) {
+			this.accessTokenDenylist = accessTokenDenylist;
+			return this;
+		}
+
+		/**
+		 * HS256 토큰을 jjwt builder/parser 대신 직접 쓰고 읽는 경로를 쓸지 여부. 기본값 false
+		 * <p>발급한 토큰은 jjwt로 검증할 수 있는 같은 형식입니다. 속성 값이 문자열, 숫자, 불리언과 이들의 컬렉션/맵이 아니면
+		 * 그 토큰만 jjwt로 발급합니다.</p>
+		 * <p>검증은 서명과 만료를 직접 확인하고 필요한 클레임만 꺼냅니다. 중첩 객체나 실수 속성, 알 수 없는 헤더처럼
+		 * 흔하지 않은 토큰은 jjwt로 검증합니다.</p>
+		 * <p>{@code Mac}과 버퍼는 스레드가 아니라 키별 묶음에서 빌려 쓰므로, 요청마다 virtual thread를 쓰는 서버에서도 재사용됩니다.</p>
+		 */
+		public Builder hs256FastPath(boolean hs256FastPath) {
+			this.hs256FastPath = hs256FastPath;
+			return this;
+		}
+
+		/**
+		 * @throws IllegalStateException {@link #accessSeconds}가 폐기 목록이 다루는 최대 유효 시간보다 긴 경우
+		 */
+		public JwtTokenService build() {
+			if (accessTokenDenylist != null && accessSeconds > accessTokenDenylist.maxTokenLifetimeSeconds()) {
+				throw new IllegalStateException("accessSeconds exceeds the access token denylist lifetime of "
+					+ accessTokenDenylist.maxTokenLifetimeSeconds() + "s");
+			}
+			return new JwtTokenService(this);
+		}
+	}
 }
@@ -0,0 +1,51 @@
+package com.auth.support.jwt;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * 스레드와 관계없이 빌려 쓰고 돌려주는 재사용 객체 묶음입니다.
+ * <p>{@link ThreadLocal}에 두면 요청마다 새 virtual thread를 쓰는 서버에서는 요청마다 새 객체를 만들게 됩니다.
+ * 대신 고정 크기 슬롯에 보관하고 슬롯마다 CAS 한 번으로 빌리고 돌려받습니다.
+ * 빌릴 객체가 없으면 새로 만들고, 돌려받을 자리가 없으면 버립니다.</p>
+ * <p>빌린 객체는 블로킹 없이 짧게 쓰고 돌려주는 용도이므로, 동시에 빌리는 수는 CPU 수 정도로 유지됩니다.</p>
+ */
+final class ReusablePool<T> {
+
+	private final AtomicReferenceArray<T> slots;
+	private final int mask;
+	private final Supplier<? extends T> factory;
+
+	/** 슬롯 수는 CPU 수의 두 배를 2의 거듭제곱으로 올린 값입니다. */
+	ReusablePool(Supplier<? extends T> factory) {
+		int size = Integer.highestOneBit(Math.max(4, Runtime.getRuntime().availableProcessors() * 2) * 2 - 1);
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+		this.factory = factory;
+	}
+
+	/** 보관 중인 객체 하나를 꺼내고, 없으면 새로 만듭니다. */
+	T acquire() {
+		int start = probe();
+		for (int i = 0; i <= mask; i++) {
+			int slot = (start + i) & mask;
+			T value = slots.get(slot);
+			if (value != null && slots.compareAndSet(slot, value, null)) return value;
+		}
+		return factory.get();
+	}
+
+	/** 다 쓴 객체를 돌려줍니다. 빈 슬롯이 없으면 버립니다. */
+	void release(T value) {
+		int start = probe();
+		for (int i = 0; i <= mask; i++) {
+			int slot = (start + i) & mask;
+			if (slots.get(slot) == null && slots.compareAndSet(slot, null, value)) return;
+		}
+	}
+
+	/** 스레드마다 다른 슬롯에서 찾기 시작해 경합을 줄입니다. */
+	private static int probe() {
+		return (int) (Thread.currentThread().getId() * 0x9E3779B97F4A7C15L >>> 32);
+	}
+}
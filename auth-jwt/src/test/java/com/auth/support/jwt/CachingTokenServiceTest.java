@@ -0,0 +1,338 @@
+package com.auth.support.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
+import com.auth.api.model.Principal;
+import com.auth.core.store.BloomFilterAccessTokenDenylist;
+import com.auth.core.store.InMemoryRevocationEpochs;
+import com.auth.spi.TokenService;
+
+class CachingTokenServiceTest {
+
+	private static final String SECRET = "01234567890123456789012345678901";
+
+	private final CountingTokenService delegate = new CountingTokenService(new JwtTokenService(SECRET, 60, 120));
+	private final MutableClock clock = new MutableClock(Instant.now());
+
+	@Test
+	@DisplayName("같은 토큰을 다시 검증하면 위임 없이 캐시된 Principal을 반환한다.")
+	void verifyAccessToken_HitsCacheOnRepeat() {
+		CachingTokenService service = CachingTokenService.builder(delegate)
+			.maximumSize(100)
+			.ttl(Duration.ofMinutes(5))
+			.clock(clock)
+			.build();
+		String token = service.issueAccessToken(new Principal("user-1", List.of("ADMIN")));
+
+		Principal first = service.verifyAccessToken(token);
+		Principal second = service.verifyAccessToken(token);
+
+		assertThat(second).isSameAs(first);
+		assertThat(delegate.verifyCount).isEqualTo(1);
+		assertThat(service.stats().hitCount()).isEqualTo(1);
+		assertThat(service.stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("캐시 TTL이 남아 있어도 토큰 exp가 지나면 캐시 항목을 반환하지 않는다.")
+	void verifyAccessToken_NeverServesPastExp() {
+		CachingTokenService service = CachingTokenService.builder(delegate)
+			.maximumSize(100)
+			.ttl(Duration.ofHours(1))
+			.clock(clock)
+			.build();
+		String token = service.issueAccessToken(new Principal("user-1"));
+
+		service.verifyAccessToken(token);
+		clock.advance(Duration.ofSeconds(61));
+		service.verifyAccessToken(token);
+
+		assertThat(delegate.verifyCount).isEqualTo(2);
+		assertThat(service.stats().evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("중첩 속성 안의 exp가 아니라 토큰의 exp로 캐시 만료를 정한다.")
+	void verifyAccessToken_IgnoresNestedExpClaim() {
+		CachingTokenService service = CachingTokenService.builder(delegate)
+			.maximumSize(100)
+			.ttl(Duration.ofHours(1))
+			.clock(clock)
+			.build();
+		Principal principal = new Principal("user-1", Map.of("device", Map.of("exp", 4_102_444_800L, "jti", "nested")));
+		String token = service.issueAccessToken(principal);
+
+		service.verifyAccessToken(token);
+		clock.advance(Duration.ofSeconds(61));
+		service.verifyAccessToken(token);
+
+		assertThat(delegate.verifyCount).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("항목 수 상한을 넘으면 오래된 항목을 제거한다.")
+	void verifyAccessToken_EvictsWhenFull() {
+		CachingTokenService service = CachingTokenService.builder(delegate)
+			.maximumSize(1)
+			.ttl(Duration.ofMinutes(5))
+			.clock(clock)
+			.build();
+		String first = service.issueAccessToken(new Principal("user-1"));
+		String second = service.issueAccessToken(new Principal("user-2"));
+
+		service.verifyAccessToken(first);
+		service.verifyAccessToken(second);
+		service.verifyAccessToken(first);
+
+		assertThat(delegate.verifyCount).isEqualTo(3);
+		assertThat(service.stats().evictionCount()).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("invalidate 이후에는 다시 위임해서 검증한다.")
+	void invalidate_ForcesReverification() {
+		CachingTokenService service = CachingTokenService.builder(delegate)
+			.maximumSize(100)
+			.ttl(Duration.ofMinutes(5))
+			.clock(clock)
+			.build();
+		String token = service.issueAccessToken(new Principal("user-1"));
+
+		service.verifyAccessToken(token);
+		service.invalidate(token);
+		service.verifyAccessToken(token);
+
+		assertThat(delegate.verifyCount).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("폐기 기준 시각이 옮겨지면 캐시된 토큰도 REVOKED_TOKEN으로 거부한다.")
+	void verifyAccessToken_RejectsCachedTokenAfterRevocationEpoch() {
+		InMemoryRevocationEpochs epochs = new InMemoryRevocationEpochs();
+		CountingTokenService revocable = new CountingTokenService(
+			JwtTokenService.builder(SECRET).accessSeconds(60).revocationEpochs(epochs).build()
+		);
+		CachingTokenService service = CachingTokenService.builder(revocable)
+			.maximumSize(100)
+			.ttl(Duration.ofMinutes(5))
+			.clock(clock)
+			.revocationEpochs(epochs)
+			.build();
+		String token = service.issueAccessToken(new Principal("user-1"));
+		service.verifyAccessToken(token);
+
+		service.revokeAllIssuedBefore("user-1", Instant.now().plusSeconds(1));
+
+		assertThatThrownBy(() -> service.verifyAccessToken(token))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+		assertThat(revocable.verifyCount).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("위임 대상 JwtTokenService의 폐기 기준 시각 저장소를 넘기지 않아도 캐시 hit에서 확인한다.")
+	void verifyAccessToken_UsesDelegateRevocationEpochs() {
+		InMemoryRevocationEpochs epochs = new InMemoryRevocationEpochs();
+		JwtTokenService jwt = JwtTokenService.builder(SECRET).accessSeconds(60).revocationEpochs(epochs).build();
+		CachingTokenService service = CachingTokenService.builder(jwt)
+			.maximumSize(100)
+			.ttl(Duration.ofMinutes(5))
+			.clock(clock)
+			.build();
+		String token = service.issueAccessToken(new Principal("user-1"));
+		service.verifyAccessToken(token);
+
+		jwt.revokeAllIssuedBefore("user-1", Instant.now().plusSeconds(1));
+
+		assertThatThrownBy(() -> service.verifyAccessToken(token))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+	}
+
+	@Test
+	@DisplayName("위임 대상과 다른 폐기 기준 시각 저장소를 넘기면 생성에 실패한다.")
+	void builder_RejectsMismatchedRevocationEpochs() {
+		JwtTokenService jwt = JwtTokenService.builder(SECRET).revocationEpochs(new InMemoryRevocationEpochs()).build();
+
+		assertThatThrownBy(() -> CachingTokenService.builder(jwt).revocationEpochs(new InMemoryRevocationEpochs()).build())
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("위임 대상 JwtTokenService의 폐기 목록을 넘기지 않아도 캐시 hit에서 확인한다.")
+	void verifyAccessToken_UsesDelegateAccessTokenDenylist() {
+		BloomFilterAccessTokenDenylist denylist = new BloomFilterAccessTokenDenylist();
+		JwtTokenService jwt = JwtTokenService.builder(SECRET).accessSeconds(60).accessTokenDenylist(denylist).build();
+		CachingTokenService service = CachingTokenService.builder(jwt)
+			.clock(clock)
+			.build();
+		String token = service.issueAccessToken(new Principal("user-1"));
+		service.verifyAccessToken(token);
+
+		jwt.revokeAccessToken(token);
+
+		assertThatThrownBy(() -> service.verifyAccessToken(token))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+	}
+
+	@Test
+	@DisplayName("위임 대상과 다른 폐기 목록을 넘기면 생성에 실패한다.")
+	void builder_RejectsMismatchedAccessTokenDenylist() {
+		JwtTokenService jwt = JwtTokenService.builder(SECRET).accessTokenDenylist(new BloomFilterAccessTokenDenylist()).build();
+
+		assertThatThrownBy(() -> CachingTokenService.builder(jwt).accessTokenDenylist(new BloomFilterAccessTokenDenylist()).build())
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	@DisplayName("폐기 기준 시각 저장소를 모르는 캐시는 일괄 폐기 후 캐시를 비워 다시 위임한다.")
+	void revokeAllIssuedBefore_InvalidatesCacheWithoutEpochs() {
+		CountingTokenService revocable = new CountingTokenService(
+			JwtTokenService.builder(SECRET).accessSeconds(60).revocationEpochs(new InMemoryRevocationEpochs()).build()
+		);
+		CachingTokenService service = CachingTokenService.builder(revocable)
+			.maximumSize(100)
+			.ttl(Duration.ofMinutes(5))
+			.clock(clock)
+			.build();
+		String token = service.issueAccessToken(new Principal("user-1"));
+		service.verifyAccessToken(token);
+
+		service.revokeAllIssuedBefore("user-1", Instant.now().plusSeconds(1));
+
+		assertThatThrownBy(() -> service.verifyAccessToken(token))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+		assertThat(revocable.verifyCount).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("revokeAccessToken 이후에는 캐시된 토큰도 REVOKED_TOKEN으로 거부한다.")
+	void revokeAccessToken_RejectsCachedToken() {
+		BloomFilterAccessTokenDenylist denylist = new BloomFilterAccessTokenDenylist();
+		CountingTokenService revocable = new CountingTokenService(
+			JwtTokenService.builder(SECRET).accessSeconds(60).accessTokenDenylist(denylist).build()
+		);
+		CachingTokenService service = CachingTokenService.builder(revocable)
+			.clock(clock)
+			.accessTokenDenylist(denylist)
+			.build();
+		String token = service.issueAccessToken(new Principal("user-1"));
+		service.verifyAccessToken(token);
+
+		service.revokeAccessToken(token);
+
+		assertThatThrownBy(() -> service.verifyAccessToken(token))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+	}
+
+	@Test
+	@DisplayName("다른 경로로 폐기 목록에 오른 토큰은 캐시 hit에서 거부한다.")
+	void verifyAccessToken_RejectsCachedTokenDeniedElsewhere() {
+		BloomFilterAccessTokenDenylist denylist = new BloomFilterAccessTokenDenylist();
+		JwtTokenService jwt = JwtTokenService.builder(SECRET).accessSeconds(60).accessTokenDenylist(denylist).build();
+		CountingTokenService revocable = new CountingTokenService(jwt);
+		CachingTokenService service = CachingTokenService.builder(revocable)
+			.clock(clock)
+			.accessTokenDenylist(denylist)
+			.build();
+		String token = service.issueAccessToken(new Principal("user-1"));
+		service.verifyAccessToken(token);
+
+		jwt.revokeAccessToken(token);
+
+		assertThatThrownBy(() -> service.verifyAccessToken(token))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+		assertThat(revocable.verifyCount).isEqualTo(1);
+	}
+
+	private static final class CountingTokenService implements TokenService {
+		private final TokenService delegate;
+		private int verifyCount;
+
+		private CountingTokenService(TokenService delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String issueAccessToken(Principal principal) {
+			return delegate.issueAccessToken(principal);
+		}
+
+		@Override
+		public String issueRefreshToken(Principal principal) {
+			return delegate.issueRefreshToken(principal);
+		}
+
+		@Override
+		public Principal verifyAccessToken(String token) {
+			verifyCount++;
+			return delegate.verifyAccessToken(token);
+		}
+
+		@Override
+		public Principal verifyRefreshToken(String token) {
+			return delegate.verifyRefreshToken(token);
+		}
+
+		@Override
+		public boolean revokeAllIssuedBefore(String userId, Instant notBefore) {
+			return delegate.revokeAllIssuedBefore(userId, notBefore);
+		}
+
+		@Override
+		public boolean revokeAccessToken(String token) {
+			return delegate.revokeAccessToken(token);
+		}
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
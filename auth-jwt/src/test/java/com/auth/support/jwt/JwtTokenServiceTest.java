@@ -1,16 +1,37 @@
 package com.auth.support.jwt;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
+import com.auth.api.exception.AuthException;
+import com.auth.api.exception.AuthFailureReason;
 import com.auth.api.model.Principal;
+import com.auth.core.store.BloomFilterAccessTokenDenylist;
+import com.auth.core.store.InMemoryRevocationEpochs;
+import com.auth.spi.TokenService;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -21,6 +42,11 @@ class JwtTokenServiceTest {
 
 	private static final String SECRET = "01234567890123456789012345678901";
 	private final JwtTokenService tokenService = new JwtTokenService(SECRET, 60, 120);
+	private final JwtTokenService fastPathTokenService = JwtTokenService.builder(SECRET)
+		.accessSeconds(60)
+		.refreshSeconds(120)
+		.hs256FastPath(true)
+		.build();
 
 	@Test
 	void issueAccessToken_RoundsTripRolesAndAttributes() {
@@ -73,6 +99,440 @@ class JwtTokenServiceTest {
 		assertThat(verified.getAuthorities()).containsExactly("REFRESH_A");
 	}
 
+	@Test
+	void verifyAccessToken_ExcludesReservedClaimsFromAttributes() {
+		String token = buildToken(Map.of("authorities", List.of("A"), "roles", List.of("A"), "dept", "IT"), "access");
+		Principal verified = tokenService.verifyAccessToken(token);
+		assertThat(verified.getAttributes()).containsOnlyKeys("dept");
+	}
+
+	@Test
+	void compactEncoding_WritesSingleAuthorityClaim() {
+		JwtTokenService compact = JwtTokenService.builder(SECRET)
+			.authorityEncoding(AuthorityClaimEncoding.COMPACT)
+			.build();
+		String token = compact.issueAccessToken(new Principal("user-1", List.of("ADMIN", "USER")));
+
+		Claims claims = parseClaims(token);
+		assertThat(claims).doesNotContainKeys("authorities", "roles");
+		assertThat(claims.get("auth")).isEqualTo(List.of("ADMIN", "USER"));
+		assertThat(compact.verifyAccessToken(token).getAuthorities()).containsExactly("ADMIN", "USER");
+	}
+
+	@Test
+	void compactEncoding_WithDictionaryWritesBitsetAndExtras() {
+		AuthorityDictionary dictionary = AuthorityDictionary.of(List.of("USER", "ADMIN", "AUDITOR"));
+		JwtTokenService compact = JwtTokenService.builder(SECRET)
+			.authorityEncoding(AuthorityClaimEncoding.COMPACT)
+			.authorityDictionary(dictionary)
+			.build();
+		String token = compact.issueAccessToken(new Principal("user-1", List.of("ADMIN", "CUSTOM", "USER")));
+
+		Claims claims = parseClaims(token);
+		assertThat(claims.get("auth_bits")).isInstanceOf(String.class);
+		assertThat(claims.get("auth")).isEqualTo(List.of("CUSTOM"));
+		assertThat(compact.verifyAccessToken(token).getAuthorities()).containsExactly("USER", "ADMIN", "CUSTOM");
+	}
+
+	@Test
+	void compactEncoding_StillVerifiesLegacyTokens() {
+		JwtTokenService compact = JwtTokenService.builder(SECRET)
+			.authorityEncoding(AuthorityClaimEncoding.COMPACT)
+			.build();
+		String legacyToken = tokenService.issueAccessToken(new Principal("user-1", List.of("ADMIN")));
+
+		assertThat(compact.verifyAccessToken(legacyToken).getAuthorities()).containsExactly("ADMIN");
+	}
+
+	@Test
+	void verifyAccessToken_RejectsBitsetWithoutDictionary() {
+		String token = buildToken(Map.of("auth_bits", "Ag"), "access");
+
+		assertThatThrownBy(() -> tokenService.verifyAccessToken(token))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_TOKEN);
+	}
+
+	@Test
+	void issueRefreshToken_AddsFamilyIdOnlyToRefreshTokens() {
+		Principal principal = new Principal("user-1", List.of("ADMIN"), Map.of());
+
+		Principal refresh = tokenService.verifyRefreshToken(tokenService.issueRefreshToken(principal));
+
+		assertThat(refresh.getAttribute(TokenService.FAMILY_ID_ATTRIBUTE)).isInstanceOf(String.class);
+		assertThat(tokenService.verifyAccessToken(tokenService.issueAccessToken(refresh)).getAttributes())
+			.doesNotContainKey(TokenService.FAMILY_ID_ATTRIBUTE);
+	}
+
+	@Test
+	void issueRefreshToken_KeepsExistingFamilyId() {
+		Principal principal = new Principal("user-1", Map.of(TokenService.FAMILY_ID_ATTRIBUTE, "family-1"));
+
+		Principal refresh = tokenService.verifyRefreshToken(tokenService.issueRefreshToken(principal));
+
+		assertThat(refresh.getAttribute(TokenService.FAMILY_ID_ATTRIBUTE)).isEqualTo("family-1");
+	}
+
+	@Test
+	void revokeAllIssuedBefore_RejectsEarlierAccessAndRefreshTokens() {
+		InMemoryRevocationEpochs epochs = new InMemoryRevocationEpochs();
+		JwtTokenService revocable = JwtTokenService.builder(SECRET).revocationEpochs(epochs).build();
+		Principal principal = new Principal("user-1");
+		String access = revocable.issueAccessToken(principal);
+		String refresh = revocable.issueRefreshToken(principal);
+
+		// 기준 시각은 초 단위로 내림하므로 다음 초를 기준으로 삼아야 방금 발급한 토큰이 이전 발급분이 됩니다.
+		revocable.revokeAllIssuedBefore("user-1", Instant.now().plusSeconds(1));
+
+		assertThatThrownBy(() -> revocable.verifyAccessToken(access))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+		assertThatThrownBy(() -> revocable.verifyRefreshToken(refresh))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+	}
+
+	@Test
+	void revokeAllIssuedBefore_KeepsLaterTokensAndOtherUsers() {
+		InMemoryRevocationEpochs epochs = new InMemoryRevocationEpochs();
+		JwtTokenService revocable = JwtTokenService.builder(SECRET).revocationEpochs(epochs).build();
+		String otherUser = revocable.issueAccessToken(new Principal("user-2"));
+
+		revocable.revokeAllIssuedBefore("user-1", Instant.now().minusSeconds(10));
+		String later = revocable.issueAccessToken(new Principal("user-1"));
+
+		assertThat(revocable.verifyAccessToken(later).getUserId()).isEqualTo("user-1");
+		assertThat(revocable.verifyAccessToken(otherUser).getUserId()).isEqualTo("user-2");
+	}
+
+	@Test
+	void revokeAllIssuedBefore_AcceptsTokensIssuedRightAfter() {
+		InMemoryRevocationEpochs epochs = new InMemoryRevocationEpochs();
+		JwtTokenService revocable = JwtTokenService.builder(SECRET).revocationEpochs(epochs).build();
+
+		revocable.revokeAllIssuedBefore("user-1", Instant.now());
+		Principal principal = new Principal("user-1");
+		String access = revocable.issueAccessToken(principal);
+		String refresh = revocable.issueRefreshToken(principal);
+
+		assertThat(revocable.verifyAccessToken(access).getUserId()).isEqualTo("user-1");
+		assertThat(revocable.verifyRefreshToken(refresh).getUserId()).isEqualTo("user-1");
+	}
+
+	@Test
+	void revokeAllIssuedBefore_ReturnsFalseWithoutRevocationEpochs() {
+		String token = tokenService.issueAccessToken(new Principal("user-1"));
+
+		assertThat(tokenService.revokeAllIssuedBefore("user-1", Instant.now().plusSeconds(1))).isFalse();
+		assertThat(tokenService.verifyAccessToken(token).getUserId()).isEqualTo("user-1");
+	}
+
+	@Test
+	void issueAccessToken_WritesUniqueTokenIdOutsideAttributes() {
+		Principal principal = new Principal("user-1");
+		String first = tokenService.issueAccessToken(principal);
+		String second = tokenService.issueAccessToken(principal);
+
+		assertThat(parseClaims(first).getId()).isNotBlank().isNotEqualTo(parseClaims(second).getId());
+		assertThat(tokenService.verifyAccessToken(first).getAttributes()).doesNotContainKey(Claims.ID);
+	}
+
+	@Test
+	void revokeAccessToken_RejectsOnlyThatToken() {
+		JwtTokenService revocable = JwtTokenService.builder(SECRET)
+			.accessTokenDenylist(new BloomFilterAccessTokenDenylist())
+			.build();
+		Principal principal = new Principal("user-1");
+		String revoked = revocable.issueAccessToken(principal);
+		String other = revocable.issueAccessToken(principal);
+
+		revocable.revokeAccessToken(revoked);
+
+		assertThatThrownBy(() -> revocable.verifyAccessToken(revoked))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.REVOKED_TOKEN);
+		assertThat(revocable.verifyAccessToken(other).getUserId()).isEqualTo("user-1");
+	}
+
+	@Test
+	void revokeAccessToken_RejectsRefreshToken() {
+		JwtTokenService revocable = JwtTokenService.builder(SECRET)
+			.accessTokenDenylist(new BloomFilterAccessTokenDenylist())
+			.build();
+		String refresh = revocable.issueRefreshToken(new Principal("user-1"));
+
+		assertThatThrownBy(() -> revocable.revokeAccessToken(refresh))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_TOKEN);
+	}
+
+	@Test
+	void build_RejectsAccessSecondsLongerThanDenylistLifetime() {
+		assertThatThrownBy(() -> JwtTokenService.builder(SECRET)
+			.accessSeconds(60 * 60)
+			.accessTokenDenylist(new BloomFilterAccessTokenDenylist())
+			.build())
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void revokeAccessToken_RejectsTokenOutlivingDenylist() {
+		JwtTokenService longLived = JwtTokenService.builder(SECRET).accessSeconds(60 * 60).build();
+		JwtTokenService revocable = JwtTokenService.builder(SECRET)
+			.accessSeconds(60)
+			.accessTokenDenylist(new BloomFilterAccessTokenDenylist(Duration.ofMinutes(5)))
+			.build();
+		String token = longLived.issueAccessToken(new Principal("user-1"));
+
+		assertThatThrownBy(() -> revocable.revokeAccessToken(token))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_TOKEN);
+	}
+
+	@Test
+	void revokeAccessToken_ReturnsFalseWithoutDenylist() {
+		String token = tokenService.issueAccessToken(new Principal("user-1"));
+
+		assertThat(tokenService.revokeAccessToken(token)).isFalse();
+		assertThat(tokenService.verifyAccessToken(token).getUserId()).isEqualTo("user-1");
+	}
+
+	@Test
+	void keyRing_Rs256TokensVerifyWithPublicKeyOnly() throws Exception {
+		KeyPair keyPair = keyPair("RSA", 2048);
+		JwtTokenService issuer = JwtTokenService.builder(JwtKeyRing.of(JwtSigningKey.rsa("rsa-1", keyPair))).build();
+		JwtTokenService verifier = JwtTokenService.builder(
+			new JwtKeyRing().add(JwtSigningKey.verificationOnly("rsa-1", SignatureAlgorithm.RS256, keyPair.getPublic()))
+		).build();
+
+		String token = issuer.issueAccessToken(new Principal("user-1", List.of("ADMIN")));
+
+		assertThat(header(token)).contains("\"kid\":\"rsa-1\"").contains("\"alg\":\"RS256\"");
+		assertThat(verifier.verifyAccessToken(token).getAuthorities()).containsExactly("ADMIN");
+		assertThatThrownBy(() -> verifier.issueAccessToken(new Principal("user-1")))
+			.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void keyRing_RotationKeepsOldTokensUntilRetired() throws Exception {
+		JwtKeyRing keyRing = JwtKeyRing.of(JwtSigningKey.hmac("hs-1", SECRET));
+		JwtTokenService service = JwtTokenService.builder(keyRing).build();
+		String before = service.issueAccessToken(new Principal("user-1"));
+
+		keyRing.rotate(JwtSigningKey.ec("ec-2", keyPair("EC", 256)));
+		String after = service.issueAccessToken(new Principal("user-1"));
+
+		assertThat(header(after)).contains("\"kid\":\"ec-2\"").contains("\"alg\":\"ES256\"");
+		assertThat(service.verifyAccessToken(before).getUserId()).isEqualTo("user-1");
+		assertThat(service.verifyAccessToken(after).getUserId()).isEqualTo("user-1");
+
+		keyRing.retire("hs-1");
+
+		assertThatThrownBy(() -> service.verifyAccessToken(before))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_TOKEN);
+		assertThat(service.verifyAccessToken(after).getUserId()).isEqualTo("user-1");
+	}
+
+	@Test
+	void keyRing_RejectsAlgorithmThatDoesNotMatchKid() throws Exception {
+		KeyPair keyPair = keyPair("RSA", 2048);
+		JwtTokenService service = JwtTokenService.builder(
+			JwtKeyRing.of(JwtSigningKey.rsa("rsa-1", keyPair)).add(JwtSigningKey.hmac("hs-1", SECRET))
+		).build();
+		Key hmacKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		String forged = Jwts.builder()
+			.setHeaderParam("kid", "rsa-1")
+			.setSubject("user-1")
+			.claim("token_type", "access")
+			.setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+			.signWith(hmacKey, SignatureAlgorithm.HS256)
+			.compact();
+
+		assertThatThrownBy(() -> service.verifyAccessToken(forged))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_TOKEN);
+	}
+
+	@Test
+	void keyRing_RejectsTokensWithoutKidUnlessLegacyKidSet() {
+		JwtKeyRing keyRing = JwtKeyRing.of(JwtSigningKey.hmac("hs-1", SECRET));
+		JwtTokenService service = JwtTokenService.builder(keyRing).build();
+		String legacy = buildToken(Map.of(), "access");
+
+		assertThatThrownBy(() -> service.verifyAccessToken(legacy))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_TOKEN);
+
+		keyRing.legacyKid("hs-1");
+
+		assertThat(service.verifyAccessToken(legacy).getUserId()).isEqualTo("user-1");
+	}
+
+	@Test
+	void signingKey_RejectsWeakKeys() throws Exception {
+		assertThatThrownBy(() -> JwtSigningKey.rsa("rsa-1", keyPair("RSA", 1024)))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_INPUT);
+		assertThatThrownBy(() -> JwtSigningKey.ec("ec-1", keyPair("EC", 384)))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_INPUT);
+	}
+
+	@Test
+	void hs256FastPath_WritesTokensJjwtVerifies() {
+		Map<String, Object> attributes = Map.of(
+			"name", "홍길동 \"quoted\" \\ \n 😀",
+			"level", 3,
+			"tags", List.of("a", "b"),
+			"profile", Map.of("active", true)
+		);
+		String token = fastPathTokenService.issueRefreshToken(new Principal("user-1", List.of("ADMIN"), attributes));
+
+		Claims claims = parseClaims(token);
+		assertThat(claims.getSubject()).isEqualTo("user-1");
+		assertThat(claims.get("name")).isEqualTo("홍길동 \"quoted\" \\ \n 😀");
+		assertThat(claims.get("level")).isEqualTo(3);
+		assertThat(claims.get("tags")).isEqualTo(List.of("a", "b"));
+		assertThat(claims.get("profile")).isEqualTo(Map.of("active", true));
+		assertThat(claims.get("authorities")).isEqualTo(List.of("ADMIN"));
+		assertThat(claims.get("token_type")).isEqualTo("refresh");
+		assertThat(claims.get(TokenService.FAMILY_ID_ATTRIBUTE, String.class)).isNotBlank();
+		assertThat(claims.getId()).isNotBlank();
+		assertThat(claims.getExpiration().getTime() - claims.getIssuedAt().getTime()).isEqualTo(120_000L);
+		assertThat(header(token)).isEqualTo("{\"alg\":\"HS256\",\"kid\":\"default\"}");
+	}
+
+	@Test
+	void hs256FastPath_FallsBackForUnsupportedAttributeTypes() {
+		UUID deviceId = UUID.randomUUID();
+		String token = fastPathTokenService.issueAccessToken(new Principal("user-1", List.of(), Map.of("device", deviceId)));
+
+		assertThat(fastPathTokenService.verifyAccessToken(token).getAttributes()).containsEntry("device", deviceId.toString());
+	}
+
+	@Test
+	void hs256FastPath_MatchesJjwtClaims() {
+		JwtTokenService jjwtOnly = JwtTokenService.builder(SECRET).accessSeconds(60).hs256FastPath(false).build();
+		Principal principal = new Principal("user-1", List.of("ADMIN", "USER"), Map.of("dept", "IT", "sub", "ignored"));
+
+		Principal fast = jjwtOnly.verifyAccessToken(fastPathTokenService.issueAccessToken(principal));
+		Principal slow = fastPathTokenService.verifyAccessToken(jjwtOnly.issueAccessToken(principal));
+
+		assertThat(fast.getUserId()).isEqualTo(slow.getUserId()).isEqualTo("user-1");
+		assertThat(fast.getAuthorities()).isEqualTo(slow.getAuthorities());
+		assertThat(fast.getAttributes()).isEqualTo(slow.getAttributes()).containsOnlyKeys("dept");
+	}
+
+	@Test
+	void hs256FastPath_RejectsTamperedAndExpiredTokens() {
+		String token = fastPathTokenService.issueAccessToken(new Principal("user-1", List.of("USER")));
+		String[] parts = token.split("\\.");
+		String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+			"{\"sub\":\"admin\",\"token_type\":\"access\",\"authorities\":[\"ADMIN\"],\"exp\":4102444800}".getBytes(StandardCharsets.UTF_8));
+		Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+		String expired = Jwts.builder()
+			.setSubject("user-1")
+			.claim("token_type", "access")
+			.setExpiration(new Date(System.currentTimeMillis() - 60_000L))
+			.signWith(key, SignatureAlgorithm.HS256)
+			.compact();
+
+		assertThatThrownBy(() -> fastPathTokenService.verifyAccessToken(parts[0] + "." + forgedPayload + "." + parts[2]))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_TOKEN);
+		assertThatThrownBy(() -> fastPathTokenService.verifyAccessToken(expired))
+			.isInstanceOf(AuthException.class)
+			.extracting("reason")
+			.isEqualTo(AuthFailureReason.INVALID_TOKEN);
+	}
+
+	@Test
+	void hs256FastPath_SharesBuffersAcrossShortLivedThreads() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(16);
+		try {
+			List<Future<String>> subjects = new ArrayList<>();
+			for (int i = 0; i < 2_000; i++) {
+				String userId = "user-" + i;
+				// 요청마다 새 스레드를 쓰는 경우처럼 발급과 검증을 각각 새 스레드에서 합니다.
+				subjects.add(executor.submit(() -> {
+					String[] token = new String[1];
+					Principal principal = new Principal(userId, List.of("USER"));
+					Thread issuer = new Thread(() -> token[0] = fastPathTokenService.issueAccessToken(principal));
+					issuer.start();
+					issuer.join();
+					return fastPathTokenService.verifyAccessToken(token[0]).getUserId();
+				}));
+			}
+
+			for (int i = 0; i < subjects.size(); i++) {
+				assertThat(subjects.get(i).get(10, TimeUnit.SECONDS)).isEqualTo("user-" + i);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void hs256FastPath_FallsBackToJjwtForNestedClaims() {
+		String token = buildToken(Map.of("profile", Map.of("level", 3), "ratio", 0.5), "access");
+
+		Principal verified = fastPathTokenService.verifyAccessToken(token);
+
+		assertThat(verified.getAttributes())
+			.containsEntry("profile", Map.of("level", 3))
+			.containsEntry("ratio", 0.5);
+	}
+
+	@Test
+	void verifyAccessToken_ReadsAttributesOnFirstAccessAndSerializes() throws Exception {
+		Map<String, Object> attributes = Map.of(
+			"name", "홍길동 \"quoted\" \\ \n 😀",
+			"tags", List.of("a", "b"),
+			"quota", 5_000_000_000L,
+			"active", true
+		);
+		Principal principal = fastPathTokenService.verifyAccessToken(
+			fastPathTokenService.issueAccessToken(new Principal("user-1", List.of("ADMIN"), attributes)));
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(principal);
+		}
+		Principal copy;
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			copy = (Principal) in.readObject();
+		}
+
+		assertThat(principal.getAttributes()).containsOnlyKeys("name", "tags", "quota", "active");
+		assertThat(principal.getAttributes()).containsAllEntriesOf(attributes);
+		assertThat(copy.getAttributes()).isEqualTo(principal.getAttributes());
+		assertThat(copy.getAuthorities()).containsExactly("ADMIN");
+	}
+
+	private static KeyPair keyPair(String algorithm, int size) throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance(algorithm);
+		generator.initialize(size);
+		return generator.generateKeyPair();
+	}
+
+	private static String header(String token) {
+		String encoded = token.substring(0, token.indexOf('.'));
+		return new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+	}
+
 	private Claims parseClaims(String token) {
 		Key key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
 		return Jwts.parserBuilder()
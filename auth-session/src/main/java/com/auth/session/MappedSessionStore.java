@@ -0,0 +1,569 @@
+package com.auth.session;
+
+import com.auth.api.model.Principal;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * A file-backed {@link SessionStore} whose sessions survive a process restart.
+ * <p>
+ * Every change is appended to a memory-mapped log as a checksummed record, and an in-memory index maps each live
+ * session id to its latest record. Principals stay in the mapping and are decoded only when a session is looked
+ * up, so reopening a log scans record headers instead of rebuilding every principal.
+ * </p>
+ * <p>
+ * Recovery stops at the first torn or corrupt record and discards everything after it, which is the only damage
+ * an interrupted append can leave behind. Revoked, expired and superseded records are garbage; compaction copies
+ * the live records into a fresh file that atomically replaces the log. It runs whenever the log would otherwise
+ * grow while at least {@code compactionRatio} of it is garbage, and can also be scheduled in the background with
+ * {@link #scheduleCompaction(ScheduledExecutorService, Duration)}.
+ * </p>
+ * <p>
+ * Appends land in the page cache, which outlives the process. Enable {@code syncOnWrite} to also survive an
+ * operating-system crash at the cost of a flush per write. Attribute values are limited to strings, numbers,
+ * booleans and nested lists/maps of those, because Java serialization is never read back from disk.
+ * </p>
+ */
+public final class MappedSessionStore implements SessionStore, Closeable {
+
+    private static final int MAGIC = 0x41534C31;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    /** Body length and CRC32 of the body. */
+    private static final int RECORD_PREFIX_BYTES = 8;
+    /** Record type, expiry and id length. */
+    private static final int BODY_FIXED_BYTES = 1 + 8 + 2;
+    /** A zero body length terminates the log. */
+    private static final int END_MARKER_BYTES = 4;
+    private static final byte PUT = 1;
+    private static final boolean WINDOWS = System.getProperty("os.name", "").startsWith("Windows");
+    private static final byte TOUCH = 2;
+    private static final byte REVOKE = 3;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE;
+    private static final int MAX_ID_BYTES = 0xFFFF;
+
+    private final Path path;
+    private final Path compactionPath;
+    private final Clock clock;
+    private final int initialSize;
+    private final boolean syncOnWrite;
+    private final double compactionRatio;
+    private final PrincipalCodec codec = new PrincipalCodec(false);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<String, Entry> index = new HashMap<>();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int writePosition;
+    private long liveBytes;
+    private boolean closed;
+
+    private MappedSessionStore(Builder builder) {
+        this.path = builder.path;
+        this.compactionPath = path.resolveSibling(path.getFileName() + ".compact");
+        this.clock = builder.clock;
+        this.initialSize = builder.initialSize;
+        this.syncOnWrite = builder.syncOnWrite;
+        this.compactionRatio = builder.compactionRatio;
+        try {
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to open session log " + path, e);
+        }
+    }
+
+    /** Open or create the session log at {@code path} with default settings. */
+    public static MappedSessionStore open(Path path) {
+        return builder(path).build();
+    }
+
+    public static Builder builder(Path path) {
+        return new Builder(path);
+    }
+
+    @Override
+    public void save(String sessionId, Principal principal) {
+        Objects.requireNonNull(sessionId, "sessionId");
+        Objects.requireNonNull(principal, "principal");
+        put(sessionId, principal, NO_EXPIRY);
+    }
+
+    @Override
+    public void save(String sessionId, Principal principal, Instant expiresAt) {
+        Objects.requireNonNull(sessionId, "sessionId");
+        Objects.requireNonNull(principal, "principal");
+        Objects.requireNonNull(expiresAt, "expiresAt");
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= clock.millis()) {
+            revoke(sessionId);
+            return;
+        }
+        put(sessionId, principal, expiresAtMillis);
+    }
+
+    @Override
+    public Optional<Principal> find(String sessionId) {
+        return findSession(sessionId).map(StoredSession::principal);
+    }
+
+    @Override
+    public Optional<StoredSession> findSession(String sessionId) {
+        byte[] encoded;
+        long expiresAtMillis;
+        lock.readLock().lock();
+        try {
+            ensureOpen();
+            Entry entry = index.get(sessionId);
+            if (entry == null || entry.expiresAtMillis <= clock.millis()) return Optional.empty();
+            encoded = new byte[entry.principalLength];
+            buffer.get(entry.principalOffset, encoded);
+            expiresAtMillis = entry.expiresAtMillis;
+        } finally {
+            lock.readLock().unlock();
+        }
+        Instant expiresAt = expiresAtMillis == NO_EXPIRY ? null : Instant.ofEpochMilli(expiresAtMillis);
+        return Optional.of(new StoredSession(codec.decode(encoded), expiresAt));
+    }
+
+    @Override
+    public boolean touch(String sessionId, Instant expiresAt) {
+        Objects.requireNonNull(sessionId, "sessionId");
+        Objects.requireNonNull(expiresAt, "expiresAt");
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            Entry entry = index.get(sessionId);
+            if (entry == null || entry.expiresAtMillis <= clock.millis()) return false;
+            long expiresAtMillis = Math.max(entry.expiresAtMillis, expiresAt.toEpochMilli());
+            if (expiresAtMillis == entry.expiresAtMillis) return true;
+            append(TOUCH, idBytes(sessionId), expiresAtMillis, null);
+            // Compaction may have moved the record while appending; re-read it before updating the expiry.
+            Entry current = index.get(sessionId);
+            if (current == null) return false;
+            index.put(sessionId, current.withExpiry(expiresAtMillis));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void revoke(String sessionId) {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            if (!index.containsKey(sessionId)) return;
+            append(REVOKE, idBytes(sessionId), 0L, null);
+            Entry removed = index.remove(sessionId);
+            if (removed != null) liveBytes -= removed.recordLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Number of indexed sessions, including expired ones that have not been purged yet. */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Bytes of the log currently in use, live records and garbage alike. */
+    public long logBytes() {
+        lock.readLock().lock();
+        try {
+            return writePosition;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drop expired sessions from the index. Their records become garbage for the next compaction.
+     * @return number of sessions removed
+     */
+    public int purgeExpired() {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            return purgeExpiredLocked(clock.millis());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Rewrite the log so that it only contains live sessions. */
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            compactLocked(0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Periodically purge expired sessions and compact the log once enough of it is garbage.
+     * Cancel the returned future to stop.
+     */
+    public ScheduledFuture<?> scheduleCompaction(ScheduledExecutorService scheduler, Duration period) {
+        Objects.requireNonNull(scheduler, "scheduler");
+        long periodMillis = Objects.requireNonNull(period, "period").toMillis();
+        return scheduler.scheduleWithFixedDelay(this::compactIfWorthwhile, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** Flush the mapping to disk and release the file. Further calls on this store fail. */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            if (closed) return;
+            closed = true;
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to close session log " + path, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(String sessionId, Principal principal, long expiresAtMillis) {
+        byte[] id = idBytes(sessionId);
+        byte[] encoded = codec.encode(principal);
+        lock.writeLock().lock();
+        try {
+            ensureOpen();
+            int offset = append(PUT, id, expiresAtMillis, encoded);
+            int recordLength = RECORD_PREFIX_BYTES + BODY_FIXED_BYTES + id.length + encoded.length;
+            Entry entry = new Entry(offset, recordLength, offset + recordLength - encoded.length, encoded.length, expiresAtMillis);
+            Entry previous = index.put(sessionId, entry);
+            if (previous != null) liveBytes -= previous.recordLength;
+            liveBytes += recordLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactIfWorthwhile() {
+        lock.writeLock().lock();
+        try {
+            if (closed) return;
+            purgeExpiredLocked(clock.millis());
+            if (isMostlyGarbage()) compactLocked(0);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int purgeExpiredLocked(long now) {
+        int removed = 0;
+        for (Iterator<Entry> entries = index.values().iterator(); entries.hasNext(); ) {
+            Entry entry = entries.next();
+            if (entry.expiresAtMillis <= now) {
+                entries.remove();
+                liveBytes -= entry.recordLength;
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private boolean isMostlyGarbage() {
+        long used = writePosition - HEADER_BYTES;
+        return used > 0 && used - liveBytes >= compactionRatio * used;
+    }
+
+    /** Append one record and return its offset. Must hold the write lock. */
+    private int append(byte type, byte[] id, long expiresAtMillis, byte[] principal) {
+        int principalLength = principal == null ? 0 : principal.length;
+        int bodyLength = BODY_FIXED_BYTES + id.length + principalLength;
+        int recordLength = RECORD_PREFIX_BYTES + bodyLength;
+        ensureCapacity((long) recordLength + END_MARKER_BYTES);
+
+        int offset = writePosition;
+        ByteBuffer body = buffer.slice(offset + RECORD_PREFIX_BYTES, bodyLength);
+        body.put(type).putLong(expiresAtMillis).putShort((short) id.length).put(id);
+        if (principal != null) body.put(principal);
+        body.flip();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        // The length goes in last, so a record is only visible to recovery once it is complete.
+        buffer.putInt(offset + recordLength, 0);
+        buffer.putInt(offset + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(offset, bodyLength);
+        writePosition = offset + recordLength;
+        if (syncOnWrite) buffer.force(offset, recordLength);
+        return offset;
+    }
+
+    private void ensureCapacity(long required) {
+        if (writePosition + required <= buffer.capacity()) return;
+        if (isMostlyGarbage()) {
+            compactLocked(required);
+            if (writePosition + required <= buffer.capacity()) return;
+        }
+        long needed = writePosition + required;
+        if (needed > MAX_CAPACITY) throw new IllegalStateException("session log cannot grow beyond " + MAX_CAPACITY + " bytes");
+        long capacity = Math.min(Math.max(2L * buffer.capacity(), needed), MAX_CAPACITY);
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to grow session log " + path, e);
+        }
+    }
+
+    /**
+     * Copy live records into a new file, flush it, then atomically move it over the log. A process crash at any
+     * point leaves either the old or the new log in place, both of them complete. The rename itself only reaches
+     * the disk once the directory is flushed, which happens before returning when {@code syncOnWrite} is set;
+     * without it an operating-system crash may bring back the pre-compaction log. Must hold the write lock.
+     */
+    private void compactLocked(long reserve) {
+        long now = clock.millis();
+        purgeExpiredLocked(now);
+        long needed = HEADER_BYTES + liveBytes + reserve + END_MARKER_BYTES;
+        if (needed > MAX_CAPACITY) throw new IllegalStateException("session log cannot grow beyond " + MAX_CAPACITY + " bytes");
+        long capacity = Math.min(Math.max(initialSize, needed + needed / 2), MAX_CAPACITY);
+
+        Map<String, Entry> compacted = new HashMap<>(Math.max(16, index.size() * 4 / 3 + 1));
+        MappedByteBuffer target;
+        int position = HEADER_BYTES;
+        try {
+            try (FileChannel out = FileChannel.open(compactionPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                target = out.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                target.putInt(0, MAGIC);
+                target.putInt(Integer.BYTES, VERSION);
+                CRC32 crc = new CRC32();
+                for (Map.Entry<String, Entry> live : index.entrySet()) {
+                    Entry entry = live.getValue();
+                    int bodyLength = entry.recordLength - RECORD_PREFIX_BYTES;
+                    // Touches are folded in: the copy is a PUT carrying the latest expiry.
+                    ByteBuffer body = target.slice(position + RECORD_PREFIX_BYTES, bodyLength);
+                    body.put(PUT).putLong(entry.expiresAtMillis)
+                            .put(buffer.slice(entry.offset + RECORD_PREFIX_BYTES + 1 + 8, bodyLength - 1 - 8));
+                    body.flip();
+                    crc.reset();
+                    crc.update(body);
+                    target.putInt(position + Integer.BYTES, (int) crc.getValue());
+                    target.putInt(position, bodyLength);
+                    compacted.put(live.getKey(), entry.movedTo(position));
+                    position += entry.recordLength;
+                }
+                target.putInt(position, 0);
+                target.force();
+            }
+            Files.move(compactionPath, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            try {
+                Files.deleteIfExists(compactionPath);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw new UncheckedIOException("failed to compact session log " + path, e);
+        }
+
+        // The old mapping is released once it is garbage collected; nothing reads it after this point.
+        FileChannel previous = channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            previous.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to reopen compacted session log " + path, e);
+        }
+        index = compacted;
+        writePosition = position;
+        // Appends after this point would be lost with the new file if the old directory entry came back.
+        if (syncOnWrite) syncDirectory();
+    }
+
+    /** Flush the directory entry of the log, which is what makes a rename durable. */
+    private void syncDirectory() {
+        // Windows cannot open a directory as a channel; NTFS journals the rename instead.
+        if (WINDOWS) return;
+        Path directory = path.toAbsolutePath().getParent();
+        try (FileChannel entries = FileChannel.open(directory, StandardOpenOption.READ)) {
+            entries.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to sync session log directory " + directory, e);
+        }
+    }
+
+    private void open() throws IOException {
+        Files.deleteIfExists(compactionPath);
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size > MAX_CAPACITY) throw new IllegalStateException("session log is too large: " + path);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, initialSize));
+        if (size < HEADER_BYTES || buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(Integer.BYTES, VERSION);
+            buffer.putInt(HEADER_BYTES, 0);
+            writePosition = HEADER_BYTES;
+            return;
+        }
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalStateException("not a session log: " + path);
+        }
+        recover();
+    }
+
+    /** Rebuild the index from record headers, stopping at the first incomplete or corrupt record. */
+    private void recover() {
+        long now = clock.millis();
+        int capacity = buffer.capacity();
+        int position = HEADER_BYTES;
+        CRC32 crc = new CRC32();
+        while (position <= capacity - RECORD_PREFIX_BYTES) {
+            int bodyLength = buffer.getInt(position);
+            if (bodyLength < BODY_FIXED_BYTES || bodyLength > capacity - position - RECORD_PREFIX_BYTES) break;
+            int bodyOffset = position + RECORD_PREFIX_BYTES;
+            crc.reset();
+            crc.update(buffer.slice(bodyOffset, bodyLength));
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) break;
+
+            byte type = buffer.get(bodyOffset);
+            long expiresAtMillis = buffer.getLong(bodyOffset + 1);
+            int idLength = buffer.getShort(bodyOffset + 1 + 8) & 0xFFFF;
+            if (BODY_FIXED_BYTES + idLength > bodyLength) break;
+            byte[] id = new byte[idLength];
+            buffer.get(bodyOffset + BODY_FIXED_BYTES, id);
+            String sessionId = new String(id, StandardCharsets.UTF_8);
+            int recordLength = RECORD_PREFIX_BYTES + bodyLength;
+
+            if (type == PUT) {
+                Entry previous = index.remove(sessionId);
+                if (previous != null) liveBytes -= previous.recordLength;
+                if (expiresAtMillis > now) {
+                    int principalOffset = bodyOffset + BODY_FIXED_BYTES + idLength;
+                    index.put(sessionId, new Entry(position, recordLength, principalOffset, bodyLength - BODY_FIXED_BYTES - idLength, expiresAtMillis));
+                    liveBytes += recordLength;
+                }
+            } else if (type == TOUCH) {
+                Entry entry = index.get(sessionId);
+                if (entry != null) index.put(sessionId, entry.withExpiry(Math.max(entry.expiresAtMillis, expiresAtMillis)));
+            } else if (type == REVOKE) {
+                Entry previous = index.remove(sessionId);
+                if (previous != null) liveBytes -= previous.recordLength;
+            } else {
+                break;
+            }
+            position += recordLength;
+        }
+        writePosition = position;
+        // Anything past the last good record is a torn append; mark it as the end so it is overwritten.
+        if (position <= capacity - END_MARKER_BYTES) buffer.putInt(position, 0);
+    }
+
+    private void ensureOpen() {
+        if (closed) throw new IllegalStateException("session store is closed");
+    }
+
+    private static byte[] idBytes(String sessionId) {
+        byte[] id = sessionId.getBytes(StandardCharsets.UTF_8);
+        if (id.length > MAX_ID_BYTES) throw new IllegalArgumentException("sessionId is too long");
+        return id;
+    }
+
+    private static final class Entry {
+        private final int offset;
+        private final int recordLength;
+        private final int principalOffset;
+        private final int principalLength;
+        private final long expiresAtMillis;
+
+        private Entry(int offset, int recordLength, int principalOffset, int principalLength, long expiresAtMillis) {
+            this.offset = offset;
+            this.recordLength = recordLength;
+            this.principalOffset = principalOffset;
+            this.principalLength = principalLength;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private Entry withExpiry(long expiresAtMillis) {
+            return new Entry(offset, recordLength, principalOffset, principalLength, expiresAtMillis);
+        }
+
+        private Entry movedTo(int newOffset) {
+            return new Entry(newOffset, recordLength, newOffset + (principalOffset - offset), principalLength, expiresAtMillis);
+        }
+    }
+
+    public static final class Builder {
+
+        private final Path path;
+        private Clock clock = Clock.systemUTC();
+        private int initialSize = 4 * 1024 * 1024;
+        private boolean syncOnWrite;
+        private double compactionRatio = 0.5;
+
+        private Builder(Path path) {
+            this.path = Objects.requireNonNull(path, "path").toAbsolutePath();
+        }
+
+        /** Clock used to decide whether a session has expired. */
+        public Builder clock(Clock clock) {
+            this.clock = Objects.requireNonNull(clock, "clock");
+            return this;
+        }
+
+        /** Size in bytes of the initial mapping; the file doubles when it fills up. Defaults to 4 MiB. */
+        public Builder initialSize(int initialSize) {
+            if (initialSize < HEADER_BYTES + END_MARKER_BYTES) throw new IllegalArgumentException("initialSize is too small");
+            this.initialSize = initialSize;
+            return this;
+        }
+
+        /**
+         * Flush every append, and the log directory after each compaction, to disk so sessions also survive an
+         * operating-system crash. Defaults to {@code false}.
+         */
+        public Builder syncOnWrite(boolean syncOnWrite) {
+            this.syncOnWrite = syncOnWrite;
+            return this;
+        }
+
+        /** Share of garbage in the log, between 0 and 1, at which compaction pays off. Defaults to 0.5. */
+        public Builder compactionRatio(double compactionRatio) {
+            if (!(compactionRatio > 0 && compactionRatio <= 1)) throw new IllegalArgumentException("compactionRatio must be in (0, 1]");
+            this.compactionRatio = compactionRatio;
+            return this;
+        }
+
+        /** Open the log, creating it if necessary and recovering its index otherwise. */
+        public MappedSessionStore build() {
+            return new MappedSessionStore(this);
+        }
+    }
+}
@@ -0,0 +1,410 @@
+package com.auth.session;
+
+import com.auth.api.model.Principal;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link SessionStore} that keeps session data out of the object graph the GC has to trace.
+ * <p>
+ * Session ids must be the 32-character URL-safe Base64 form of 24 random bytes, as produced by
+ * {@link SecureRandomSessionIdGenerator}. Each id is decoded into three {@code long}s and stored in a
+ * lock-striped, open-addressing table made only of primitive arrays. Principals are serialized compactly
+ * into a direct (off-heap) buffer per stripe and are only materialized again on {@code find}.
+ * </p>
+ * <p>
+ * Expired and revoked entries leave garbage behind in the stripe buffer; a stripe compacts its buffer when it
+ * runs out of room. Expired entries are reclaimed by a clock hand that inspects a few slots on every write,
+ * and {@link #purgeExpired()} can be called to reclaim them eagerly.
+ * </p>
+ */
+public final class OffHeapSessionStore implements SessionStore {
+
+    private static final int DEFAULT_STRIPES = 64;
+    private static final int INITIAL_SLOTS = 256;
+    private static final int INITIAL_ARENA_BYTES = 16 * 1024;
+    private static final int MAX_ARENA_BYTES = Integer.MAX_VALUE - 8;
+    private static final int SWEEP_SLOTS_PER_WRITE = 8;
+    private static final int ID_LENGTH = 32;
+
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE = Long.MIN_VALUE;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final Stripe[] stripes;
+    private final int stripeMask;
+    private final Clock clock;
+    private final PrincipalCodec codec = new PrincipalCodec(true);
+
+    public OffHeapSessionStore() {
+        this(Clock.systemUTC());
+    }
+
+    public OffHeapSessionStore(Clock clock) {
+        this(clock, DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param clock clock used to decide whether a session has expired
+     * @param stripeCount number of independently locked stripes; must be a power of two
+     */
+    public OffHeapSessionStore(Clock clock, int stripeCount) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripeCount must be a power of two");
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    @Override
+    public void save(String sessionId, Principal principal) {
+        put(sessionId, principal, NO_EXPIRY);
+    }
+
+    @Override
+    public void save(String sessionId, Principal principal, Instant expiresAt) {
+        Objects.requireNonNull(expiresAt, "expiresAt");
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= clock.millis()) {
+            revoke(sessionId);
+            return;
+        }
+        put(sessionId, principal, expiresAtMillis);
+    }
+
+    @Override
+    public Optional<Principal> find(String sessionId) {
+        byte[] encoded = read(sessionId, null);
+        return encoded == null ? Optional.empty() : Optional.of(codec.decode(encoded));
+    }
+
+    @Override
+    public Optional<StoredSession> findSession(String sessionId) {
+        long[] expiresAt = new long[1];
+        byte[] encoded = read(sessionId, expiresAt);
+        if (encoded == null) return Optional.empty();
+        Instant expiry = expiresAt[0] == NO_EXPIRY ? null : Instant.ofEpochMilli(expiresAt[0]);
+        return Optional.of(new StoredSession(codec.decode(encoded), expiry));
+    }
+
+    @Override
+    public boolean touch(String sessionId, Instant expiresAt) {
+        Objects.requireNonNull(expiresAt, "expiresAt");
+        SessionKey key = SessionKey.parse(sessionId);
+        if (key == null) return false;
+        Stripe stripe = stripeFor(key);
+        long now = clock.millis();
+        stripe.lock.writeLock().lock();
+        try {
+            int slot = stripe.findSlot(key);
+            if (slot < 0) return false;
+            if (stripe.expiries[slot] <= now) {
+                stripe.removeAt(slot);
+                return false;
+            }
+            stripe.expiries[slot] = Math.max(stripe.expiries[slot], expiresAt.toEpochMilli());
+            return true;
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void revoke(String sessionId) {
+        SessionKey key = SessionKey.parse(sessionId);
+        if (key == null) return;
+        Stripe stripe = stripeFor(key);
+        stripe.lock.writeLock().lock();
+        try {
+            int slot = stripe.findSlot(key);
+            if (slot >= 0) stripe.removeAt(slot);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    /** Number of stored sessions, including expired ones that have not been reclaimed yet. */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    /** Bytes currently reserved in direct buffers for serialized principals. */
+    public long offHeapBytes() {
+        long bytes = 0;
+        for (Stripe stripe : stripes) {
+            bytes += stripe.arena.capacity();
+        }
+        return bytes;
+    }
+
+    /**
+     * Reclaim every expired session.
+     * @return number of sessions removed
+     */
+    public int purgeExpired() {
+        long now = clock.millis();
+        int removed = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.writeLock().lock();
+            try {
+                removed += stripe.sweep(now, stripe.expiries.length);
+            } finally {
+                stripe.lock.writeLock().unlock();
+            }
+        }
+        return removed;
+    }
+
+    private void put(String sessionId, Principal principal, long expiresAtMillis) {
+        Objects.requireNonNull(sessionId, "sessionId");
+        Objects.requireNonNull(principal, "principal");
+        SessionKey key = SessionKey.parse(sessionId);
+        if (key == null) {
+            throw new IllegalArgumentException("sessionId must be the URL-safe Base64 form of 24 bytes");
+        }
+        byte[] encoded = codec.encode(principal);
+        Stripe stripe = stripeFor(key);
+        stripe.lock.writeLock().lock();
+        try {
+            stripe.sweep(clock.millis(), SWEEP_SLOTS_PER_WRITE);
+            stripe.put(key, encoded, expiresAtMillis);
+        } finally {
+            stripe.lock.writeLock().unlock();
+        }
+    }
+
+    /** Copy the serialized principal out of the stripe buffer, or return null when absent or expired. */
+    private byte[] read(String sessionId, long[] expiresAtOut) {
+        SessionKey key = SessionKey.parse(sessionId);
+        if (key == null) return null;
+        Stripe stripe = stripeFor(key);
+        long now = clock.millis();
+        stripe.lock.readLock().lock();
+        try {
+            int slot = stripe.findSlot(key);
+            if (slot < 0 || stripe.expiries[slot] <= now) return null;
+            if (expiresAtOut != null) expiresAtOut[0] = stripe.expiries[slot];
+            byte[] encoded = new byte[stripe.lengths[slot]];
+            stripe.arena.get(stripe.offsets[slot], encoded);
+            return encoded;
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    private Stripe stripeFor(SessionKey key) {
+        return stripes[(int) (key.k1 >>> 40) & stripeMask];
+    }
+
+    /** 192-bit session id decoded from its 32-character URL-safe Base64 form without intermediate arrays. */
+    private static final class SessionKey {
+        private long k0;
+        private long k1;
+        private long k2;
+
+        static SessionKey parse(String sessionId) {
+            if (sessionId == null || sessionId.length() != ID_LENGTH) return null;
+            SessionKey key = new SessionKey();
+            for (int i = 0; i < ID_LENGTH; i++) {
+                int sextet = decodeBase64Url(sessionId.charAt(i));
+                if (sextet < 0) return null;
+                key.k0 = (key.k0 << 6) | (key.k1 >>> 58);
+                key.k1 = (key.k1 << 6) | (key.k2 >>> 58);
+                key.k2 = (key.k2 << 6) | sextet;
+            }
+            return key;
+        }
+
+        int hash() {
+            long h = k0 ^ k2;
+            return (int) (h ^ (h >>> 32));
+        }
+
+        private static int decodeBase64Url(char c) {
+            if (c >= 'A' && c <= 'Z') return c - 'A';
+            if (c >= 'a' && c <= 'z') return c - 'a' + 26;
+            if (c >= '0' && c <= '9') return c - '0' + 52;
+            if (c == '-') return 62;
+            if (c == '_') return 63;
+            return -1;
+        }
+    }
+
+    /**
+     * One lock-protected open-addressing table. Slot {@code i} keeps its key in {@code keys[3i..3i+2]},
+     * its expiry (or {@link #EMPTY}/{@link #TOMBSTONE}) in {@code expiries[i]}, and the location of its
+     * serialized principal in {@code offsets[i]}/{@code lengths[i]}.
+     */
+    private static final class Stripe {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private long[] keys = new long[INITIAL_SLOTS * 3];
+        private long[] expiries = new long[INITIAL_SLOTS];
+        private int[] offsets = new int[INITIAL_SLOTS];
+        private int[] lengths = new int[INITIAL_SLOTS];
+        private ByteBuffer arena = ByteBuffer.allocateDirect(INITIAL_ARENA_BYTES);
+        private int arenaUsed;
+        private int arenaGarbage;
+        private volatile int size;
+        private int tombstones;
+        private int sweepCursor;
+
+        int findSlot(SessionKey key) {
+            int mask = expiries.length - 1;
+            int slot = key.hash() & mask;
+            while (true) {
+                long state = expiries[slot];
+                if (state == EMPTY) return -1;
+                if (state != TOMBSTONE && matches(slot, key)) return slot;
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        void put(SessionKey key, byte[] encoded, long expiresAtMillis) {
+            int slot = findSlot(key);
+            if (slot >= 0) {
+                int offset = allocate(encoded.length);
+                arenaGarbage += lengths[slot];
+                write(slot, offset, encoded, expiresAtMillis);
+                return;
+            }
+
+            ensureCapacityForInsert();
+            int offset = allocate(encoded.length);
+            slot = insertionSlot(key);
+            if (expiries[slot] == TOMBSTONE) tombstones--;
+            keys[slot * 3] = key.k0;
+            keys[slot * 3 + 1] = key.k1;
+            keys[slot * 3 + 2] = key.k2;
+            write(slot, offset, encoded, expiresAtMillis);
+            size++;
+        }
+
+        void removeAt(int slot) {
+            expiries[slot] = TOMBSTONE;
+            arenaGarbage += lengths[slot];
+            lengths[slot] = 0;
+            size--;
+            tombstones++;
+        }
+
+        /** Inspect up to {@code budget} slots starting at the clock hand and remove expired entries. */
+        int sweep(long now, int budget) {
+            int mask = expiries.length - 1;
+            int removed = 0;
+            for (int i = 0; i < budget; i++) {
+                int slot = sweepCursor;
+                sweepCursor = (sweepCursor + 1) & mask;
+                long state = expiries[slot];
+                if (state != EMPTY && state != TOMBSTONE && state <= now) {
+                    removeAt(slot);
+                    removed++;
+                }
+            }
+            return removed;
+        }
+
+        private void write(int slot, int offset, byte[] encoded, long expiresAtMillis) {
+            arena.put(offset, encoded);
+            offsets[slot] = offset;
+            lengths[slot] = encoded.length;
+            expiries[slot] = expiresAtMillis;
+        }
+
+        private boolean matches(int slot, SessionKey key) {
+            int base = slot * 3;
+            return keys[base] == key.k0 && keys[base + 1] == key.k1 && keys[base + 2] == key.k2;
+        }
+
+        private int insertionSlot(SessionKey key) {
+            int mask = expiries.length - 1;
+            int slot = key.hash() & mask;
+            while (expiries[slot] != EMPTY && expiries[slot] != TOMBSTONE) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /** Keep occupied slots (live + tombstones) at or below 3/4 so probing always finds an empty slot. */
+        private void ensureCapacityForInsert() {
+            int slots = expiries.length;
+            if ((size + tombstones + 1) * 4L <= slots * 3L) return;
+            int newSlots = (size + 1) * 2L > slots ? slots * 2 : slots;
+            rehash(newSlots);
+        }
+
+        private void rehash(int newSlots) {
+            long[] oldKeys = keys;
+            long[] oldExpiries = expiries;
+            int[] oldOffsets = offsets;
+            int[] oldLengths = lengths;
+
+            keys = new long[newSlots * 3];
+            expiries = new long[newSlots];
+            offsets = new int[newSlots];
+            lengths = new int[newSlots];
+            tombstones = 0;
+            sweepCursor = 0;
+
+            int mask = newSlots - 1;
+            for (int old = 0; old < oldExpiries.length; old++) {
+                long state = oldExpiries[old];
+                if (state == EMPTY || state == TOMBSTONE) continue;
+                long k0 = oldKeys[old * 3];
+                long k2 = oldKeys[old * 3 + 2];
+                long h = k0 ^ k2;
+                int slot = (int) (h ^ (h >>> 32)) & mask;
+                while (expiries[slot] != EMPTY) {
+                    slot = (slot + 1) & mask;
+                }
+                System.arraycopy(oldKeys, old * 3, keys, slot * 3, 3);
+                expiries[slot] = state;
+                offsets[slot] = oldOffsets[old];
+                lengths[slot] = oldLengths[old];
+            }
+        }
+
+        /** Reserve {@code length} bytes in the arena, compacting (and growing if needed) when it is full. */
+        private int allocate(int length) {
+            if (arenaUsed + length > arena.capacity()) {
+                long needed = (long) (arenaUsed - arenaGarbage) + length;
+                if (needed > MAX_ARENA_BYTES) throw new IllegalStateException("session stripe is full");
+                long capacity = arena.capacity();
+                while (capacity < needed * 2 && capacity < MAX_ARENA_BYTES) {
+                    capacity = Math.min(capacity * 2, MAX_ARENA_BYTES);
+                }
+                compactInto((int) capacity);
+            }
+            int offset = arenaUsed;
+            arenaUsed += length;
+            return offset;
+        }
+
+        private void compactInto(int capacity) {
+            ByteBuffer target = ByteBuffer.allocateDirect(capacity);
+            int position = 0;
+            for (int slot = 0; slot < expiries.length; slot++) {
+                long state = expiries[slot];
+                if (state == EMPTY || state == TOMBSTONE) continue;
+                int length = lengths[slot];
+                target.put(position, arena, offsets[slot], length);
+                offsets[slot] = position;
+                position += length;
+            }
+            arena = target;
+            arenaUsed = position;
+            arenaGarbage = 0;
+        }
+    }
+}
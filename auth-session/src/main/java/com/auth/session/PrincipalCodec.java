@@ -0,0 +1,201 @@
+package com.auth.session;
+
+import com.auth.api.model.Principal;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary form of a {@link Principal} used by stores that keep principals outside the Java heap.
+ * <p>
+ * Strings, numbers, booleans and nested lists/maps of those are written with a one-byte tag. Any other
+ * {@link Serializable} attribute value falls back to Java serialization, unless the codec is created
+ * with {@code allowSerialized = false} (e.g. for data that lives on disk), in which case encoding fails.
+ * </p>
+ */
+final class PrincipalCodec {
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_INT = 2;
+    private static final byte TAG_LONG = 3;
+    private static final byte TAG_DOUBLE = 4;
+    private static final byte TAG_TRUE = 5;
+    private static final byte TAG_FALSE = 6;
+    private static final byte TAG_LIST = 7;
+    private static final byte TAG_MAP = 8;
+    private static final byte TAG_SERIALIZED = 9;
+
+    private final boolean allowSerialized;
+
+    PrincipalCodec(boolean allowSerialized) {
+        this.allowSerialized = allowSerialized;
+    }
+
+    byte[] encode(Principal principal) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        DataOutputStream out = new DataOutputStream(bytes);
+        try {
+            writeString(out, principal.getUserId());
+            List<String> authorities = principal.getAuthorities();
+            out.writeInt(authorities.size());
+            for (String authority : authorities) {
+                writeString(out, authority);
+            }
+            Map<String, Object> attributes = principal.getAttributes();
+            out.writeInt(attributes.size());
+            for (Map.Entry<String, Object> attribute : attributes.entrySet()) {
+                writeString(out, attribute.getKey());
+                writeValue(out, attribute.getValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Principal decode(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        String userId = readString(in);
+
+        String[] authorities = new String[in.getInt()];
+        for (int i = 0; i < authorities.length; i++) {
+            authorities[i] = readString(in);
+        }
+
+        Map.Entry<String, Object>[] attributes = new Map.Entry[in.getInt()];
+        for (int i = 0; i < attributes.length; i++) {
+            attributes[i] = Map.entry(readString(in), readValue(in));
+        }
+        return new Principal(userId, List.of(authorities), Map.ofEntries(attributes));
+    }
+
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(TAG_STRING);
+            writeString(out, string);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            out.writeByte(TAG_INT);
+            out.writeInt(((Number) value).intValue());
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double || value instanceof Float) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(((Number) value).doubleValue());
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map && hasStringKeys(map)) {
+            out.writeByte(TAG_MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, (String) entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else if (allowSerialized && value instanceof Serializable) {
+            out.writeByte(TAG_SERIALIZED);
+            ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+            try (ObjectOutputStream objects = new ObjectOutputStream(serialized)) {
+                objects.writeObject(value);
+            }
+            out.writeInt(serialized.size());
+            serialized.writeTo(out);
+        } else {
+            throw new IllegalArgumentException("unsupported principal attribute type: " + value.getClass().getName());
+        }
+    }
+
+    private Object readValue(ByteBuffer in) {
+        byte tag = in.get();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_STRING:
+                return readString(in);
+            case TAG_INT:
+                return in.getInt();
+            case TAG_LONG:
+                return in.getLong();
+            case TAG_DOUBLE:
+                return in.getDouble();
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_LIST: {
+                int size = in.getInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return Collections.unmodifiableList(list);
+            }
+            case TAG_MAP: {
+                int size = in.getInt();
+                Map<String, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readString(in), readValue(in));
+                }
+                return Collections.unmodifiableMap(map);
+            }
+            case TAG_SERIALIZED:
+                if (allowSerialized) return readSerialized(in);
+                throw new IllegalStateException("serialized attribute values are not allowed");
+            default:
+                throw new IllegalStateException("unknown attribute tag: " + tag);
+        }
+    }
+
+    private static Object readSerialized(ByteBuffer in) {
+        byte[] serialized = new byte[in.getInt()];
+        in.get(serialized);
+        try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return objects.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean hasStringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) return false;
+        }
+        return true;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+}
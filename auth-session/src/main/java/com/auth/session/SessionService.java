@@ -1,36 +1,79 @@
 package com.auth.session;
 
 import com.auth.api.model.Principal;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
-/** Helper service that issues and revokes session identifiers. */
+/**
+ * Helper service that issues and revokes session identifiers.
+ * <p>
+ * With sliding expiration enabled, {@link #resolve(String)} extends a session back to the full TTL, but only
+ * once its remaining lifetime drops below the touch threshold, so most reads stay read-only at the store.
+ * Concurrent touches for the same session id are coalesced into a single store write.
+ * </p>
+ */
 public final class SessionService {
 
     private final SessionStore sessionStore;
     private final SessionIdGenerator idGenerator;
     private final Duration sessionTtl;
+    private final Clock clock;
+    private final long touchThresholdMillis;
+    private final Set<String> touchesInFlight = ConcurrentHashMap.newKeySet();
 
     public SessionService(SessionStore sessionStore, SessionIdGenerator idGenerator, Duration sessionTtl) {
+        this(sessionStore, idGenerator, sessionTtl, Clock.systemUTC());
+    }
+
+    /**
+     * @param sessionTtl lifetime of each issued session (defaults to one hour when null)
+     * @param clock clock used to compute session expiry
+     */
+    public SessionService(SessionStore sessionStore, SessionIdGenerator idGenerator, Duration sessionTtl, Clock clock) {
+        this(sessionStore, idGenerator, sessionTtl, clock, null);
+    }
+
+    /**
+     * @param sessionTtl lifetime of each issued session, and the lifetime a touch extends it back to
+     * @param clock clock used to compute session expiry
+     * @param touchThreshold enables sliding expiration: a resolved session whose remaining lifetime is
+     *                       below this value is touched. {@code null} disables sliding expiration.
+     */
+    public SessionService(
+        SessionStore sessionStore,
+        SessionIdGenerator idGenerator,
+        Duration sessionTtl,
+        Clock clock,
+        Duration touchThreshold
+    ) {
         this.sessionStore = Objects.requireNonNull(sessionStore, "sessionStore");
         this.idGenerator = Objects.requireNonNull(idGenerator, "idGenerator");
         this.sessionTtl = sessionTtl != null ? sessionTtl : Duration.ofHours(1);
+        this.clock = clock != null ? clock : Clock.systemUTC();
+        this.touchThresholdMillis = touchThreshold != null ? touchThreshold.toMillis() : -1L;
     }
 
-    /** Issue a new session backed by the provided principal. */
+    /** Issue a new session backed by the provided principal that expires after the session TTL. */
     public String create(Principal principal) {
         Objects.requireNonNull(principal, "principal");
         String sessionId = idGenerator.generate();
-        sessionStore.save(sessionId, principal);
+        sessionStore.save(sessionId, principal, clock.instant().plus(sessionTtl));
         return sessionId;
     }
 
-    /** Resolve the principal associated with the session. */
+    /** Resolve the principal associated with the session, sliding its expiry when enabled. */
     public Optional<Principal> resolve(String sessionId) {
         if (sessionId == null ) return Optional.empty();
 		if (sessionId.isBlank()) return Optional.empty();
-        return sessionStore.find(sessionId);
+        if (!isSlidingExpiration()) return sessionStore.find(sessionId);
+
+        Optional<StoredSession> session = sessionStore.findSession(sessionId);
+        session.ifPresent(found -> touchIfDue(sessionId, found));
+        return session.map(StoredSession::principal);
     }
 
     /** Revoke the session identifier. */
@@ -43,4 +86,21 @@ public final class SessionService {
     public Duration getSessionTtl() {
         return sessionTtl;
     }
+
+    public boolean isSlidingExpiration() {
+        return touchThresholdMillis >= 0;
+    }
+
+    private void touchIfDue(String sessionId, StoredSession session) {
+        if (session.expiresAt() == null) return;
+        long now = clock.millis();
+        if (session.expiresAt().toEpochMilli() - now >= touchThresholdMillis) return;
+        // Another caller is already extending this session; its write covers us as well.
+        if (!touchesInFlight.add(sessionId)) return;
+        try {
+            sessionStore.touch(sessionId, clock.instant().plus(sessionTtl));
+        } finally {
+            touchesInFlight.remove(sessionId);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package com.auth.session;
 
 import com.auth.api.model.Principal;
+import java.time.Instant;
 import java.util.Optional;
 
 /** Repository for session identifiers mapped to authenticated principals. */
@@ -9,9 +10,34 @@ public interface SessionStore {
     /** Store a mapping between a session ID and a principal. */
     void save(String sessionId, Principal principal);
 
+    /**
+     * Store a mapping that stops resolving once {@code expiresAt} has passed.
+     * Stores without expiry support fall back to {@link #save(String, Principal)}.
+     */
+    default void save(String sessionId, Principal principal, Instant expiresAt) {
+        save(sessionId, principal);
+    }
+
     /** Lookup a principal by session ID. */
     Optional<Principal> find(String sessionId);
 
+    /**
+     * Lookup a session together with its expiry.
+     * Stores without expiry support report a {@code null} expiry.
+     */
+    default Optional<StoredSession> findSession(String sessionId) {
+        return find(sessionId).map(principal -> new StoredSession(principal, null));
+    }
+
+    /**
+     * Move the expiry of an existing session without rewriting its principal.
+     * Stores without expiry support leave the session unchanged.
+     * @return {@code false} when the session no longer exists
+     */
+    default boolean touch(String sessionId, Instant expiresAt) {
+        return find(sessionId).isPresent();
+    }
+
     /** Invalidate the provided session ID. */
     void revoke(String sessionId);
 }
@@ -1,30 +1,198 @@
 package com.auth.session;
 
 import com.auth.api.model.Principal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-/** A basic in-memory {@link SessionStore} meant for early-session support. */
+/**
+ * A basic in-memory {@link SessionStore} meant for early-session support.
+ * <p>
+ * Sessions saved with an expiry are treated as absent once it has passed. Expired entries are reclaimed
+ * incrementally: every session id is also filed under a coarse expiry bucket, and the sweeper only visits
+ * buckets that are already due, so it never scans the whole map. Sweeping piggybacks on {@code save}
+ * with a bounded amount of work per call, and can additionally be scheduled in the background with
+ * {@link #scheduleExpirySweep(ScheduledExecutorService, Duration)}.
+ * </p>
+ */
 public final class SimpleSessionStore implements SessionStore {
 
-    private final Map<String, Principal> sessions = new ConcurrentHashMap<>();
+    private static final Duration DEFAULT_BUCKET_WIDTH = Duration.ofSeconds(1);
+    private static final int IN_BAND_SWEEP_BUDGET = 512;
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private final Map<String, Entry> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Set<String>> expiryBuckets = new ConcurrentSkipListMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final Clock clock;
+    private final long bucketWidthMillis;
+    private volatile long nextSweepAt;
+
+    public SimpleSessionStore() {
+        this(Clock.systemUTC());
+    }
+
+    public SimpleSessionStore(Clock clock) {
+        this(clock, DEFAULT_BUCKET_WIDTH);
+    }
+
+    /**
+     * @param clock clock used to decide whether a session has expired
+     * @param bucketWidth granularity of the expiry buckets; entries are reclaimed at most this late
+     */
+    public SimpleSessionStore(Clock clock, Duration bucketWidth) {
+        this.clock = Objects.requireNonNull(clock, "clock");
+        Objects.requireNonNull(bucketWidth, "bucketWidth");
+        if (bucketWidth.toMillis() <= 0) throw new IllegalArgumentException("bucketWidth must be at least 1ms");
+        this.bucketWidthMillis = bucketWidth.toMillis();
+    }
 
     @Override
     public void save(String sessionId, Principal principal) {
         Objects.requireNonNull(sessionId, "sessionId");
         Objects.requireNonNull(principal, "principal");
-        sessions.put(sessionId, principal);
+        sessions.put(sessionId, new Entry(principal, NO_EXPIRY));
+    }
+
+    @Override
+    public void save(String sessionId, Principal principal, Instant expiresAt) {
+        Objects.requireNonNull(sessionId, "sessionId");
+        Objects.requireNonNull(principal, "principal");
+        Objects.requireNonNull(expiresAt, "expiresAt");
+        long now = clock.millis();
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        if (expiresAtMillis <= now) {
+            sessions.remove(sessionId);
+            return;
+        }
+        sessions.put(sessionId, new Entry(principal, expiresAtMillis));
+        expiryBuckets.computeIfAbsent(bucketOf(expiresAtMillis), key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        sweepInBand(now);
     }
 
     @Override
     public Optional<Principal> find(String sessionId) {
-        return Optional.ofNullable(sessions.get(sessionId));
+        Entry entry = sessions.get(sessionId);
+        if (entry == null) return Optional.empty();
+        if (entry.expiresAtMillis <= clock.millis()) {
+            sessions.remove(sessionId, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.principal);
+    }
+
+    @Override
+    public Optional<StoredSession> findSession(String sessionId) {
+        Entry entry = sessions.get(sessionId);
+        if (entry == null) return Optional.empty();
+        if (entry.expiresAtMillis <= clock.millis()) {
+            sessions.remove(sessionId, entry);
+            return Optional.empty();
+        }
+        Instant expiresAt = entry.expiresAtMillis == NO_EXPIRY ? null : Instant.ofEpochMilli(entry.expiresAtMillis);
+        return Optional.of(new StoredSession(entry.principal, expiresAt));
+    }
+
+    @Override
+    public boolean touch(String sessionId, Instant expiresAt) {
+        Objects.requireNonNull(sessionId, "sessionId");
+        Objects.requireNonNull(expiresAt, "expiresAt");
+        long now = clock.millis();
+        long expiresAtMillis = expiresAt.toEpochMilli();
+        Entry touched = sessions.computeIfPresent(sessionId, (id, entry) -> {
+            if (entry.expiresAtMillis <= now) return null;
+            return new Entry(entry.principal, Math.max(entry.expiresAtMillis, expiresAtMillis));
+        });
+        if (touched == null) return false;
+        expiryBuckets.computeIfAbsent(bucketOf(touched.expiresAtMillis), key -> ConcurrentHashMap.newKeySet()).add(sessionId);
+        return true;
     }
 
     @Override
     public void revoke(String sessionId) {
         sessions.remove(sessionId);
     }
+
+    /** Number of stored sessions, including expired ones that have not been reclaimed yet. */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Reclaim every expired session whose bucket is due.
+     * @return number of sessions removed
+     */
+    public int purgeExpired() {
+        return sweep(clock.millis(), Integer.MAX_VALUE);
+    }
+
+    /** Run {@link #purgeExpired()} periodically on the given scheduler. Cancel the returned future to stop. */
+    public ScheduledFuture<?> scheduleExpirySweep(ScheduledExecutorService scheduler, Duration period) {
+        Objects.requireNonNull(scheduler, "scheduler");
+        long periodMillis = Objects.requireNonNull(period, "period").toMillis();
+        return scheduler.scheduleWithFixedDelay(this::purgeExpired, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void sweepInBand(long now) {
+        if (now < nextSweepAt) return;
+        if (!sweeping.compareAndSet(false, true)) return;
+        try {
+            sweep(now, IN_BAND_SWEEP_BUDGET);
+            // While due buckets remain, keep sweeping a bounded slice on every save.
+            if (!hasDueBucket(now)) nextSweepAt = now + bucketWidthMillis;
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private int sweep(long now, int budget) {
+        int removed = 0;
+        int visited = 0;
+        while (visited < budget) {
+            Map.Entry<Long, Set<String>> bucket = expiryBuckets.firstEntry();
+            if (bucket == null || bucket.getKey() * bucketWidthMillis > now) break;
+
+            Iterator<String> ids = bucket.getValue().iterator();
+            while (ids.hasNext() && visited < budget) {
+                String sessionId = ids.next();
+                ids.remove();
+                visited++;
+                Entry entry = sessions.get(sessionId);
+                if (entry != null && entry.expiresAtMillis <= now && sessions.remove(sessionId, entry)) removed++;
+            }
+            if (bucket.getValue().isEmpty()) expiryBuckets.remove(bucket.getKey(), bucket.getValue());
+        }
+        return removed;
+    }
+
+    private boolean hasDueBucket(long now) {
+        Map.Entry<Long, Set<String>> first = expiryBuckets.firstEntry();
+        return first != null && first.getKey() * bucketWidthMillis <= now;
+    }
+
+    /** Bucket whose due time is the first bucket boundary at or after the expiry. */
+    private long bucketOf(long expiresAtMillis) {
+        return (expiresAtMillis + bucketWidthMillis - 1) / bucketWidthMillis;
+    }
+
+    private static final class Entry {
+        private final Principal principal;
+        private final long expiresAtMillis;
+
+        private Entry(Principal principal, long expiresAtMillis) {
+            this.principal = principal;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
 }
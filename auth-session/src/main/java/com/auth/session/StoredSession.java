@@ -0,0 +1,11 @@
+package com.auth.session;
+
+import com.auth.api.model.Principal;
+import java.time.Instant;
+
+/**
+ * A principal together with the instant its session stops resolving.
+ * @param expiresAt expiry of the session, or {@code null} when the store does not track expiry
+ */
+public record StoredSession(Principal principal, Instant expiresAt) {
+}
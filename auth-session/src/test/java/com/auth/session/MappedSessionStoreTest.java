@@ -0,0 +1,183 @@
+package com.auth.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.auth.api.model.Principal;
+
+class MappedSessionStoreTest {
+
+	@TempDir
+	Path directory;
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-03-15T00:00:00Z"));
+
+	@Test
+	@DisplayName("다시 열면 저장, 폐기, 만료 연장 결과가 그대로 복구된다")
+	void reopenRecoversSessions() {
+		Path log = directory.resolve("sessions.log");
+		try (MappedSessionStore store = open(log)) {
+			store.save("session-1", new Principal("user-1", List.of("ADMIN"), Map.of("dept", "IT", "tags", List.of("a"))));
+			store.save("session-2", new Principal("user-2"), clock.instant().plusSeconds(60));
+			store.save("session-3", new Principal("user-3"), clock.instant().plusSeconds(60));
+			store.revoke("session-3");
+			store.touch("session-2", clock.instant().plusSeconds(600));
+		}
+
+		try (MappedSessionStore store = open(log)) {
+			Principal principal = store.find("session-1").orElseThrow();
+			assertThat(principal.getAuthorities()).containsExactly("ADMIN");
+			assertThat(principal.getAttributes()).isEqualTo(Map.of("dept", "IT", "tags", List.of("a")));
+			assertThat(store.findSession("session-2")).map(StoredSession::expiresAt).contains(clock.instant().plusSeconds(600));
+			assertThat(store.find("session-3")).isEmpty();
+			assertThat(store.size()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	@DisplayName("마지막 레코드가 깨져 있으면 그 앞까지만 복구하고 이어서 기록한다")
+	void recoveryTruncatesTornTail() throws IOException {
+		Path log = directory.resolve("sessions.log");
+		long tornAt;
+		try (MappedSessionStore store = open(log)) {
+			store.save("session-1", new Principal("user-1"));
+			store.save("session-2", new Principal("user-2"));
+			tornAt = store.logBytes() - 3;
+		}
+		try (FileChannel channel = FileChannel.open(log, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), tornAt);
+		}
+
+		try (MappedSessionStore store = open(log)) {
+			assertThat(store.find("session-1")).isPresent();
+			assertThat(store.find("session-2")).isEmpty();
+			store.save("session-3", new Principal("user-3"));
+		}
+		try (MappedSessionStore store = open(log)) {
+			assertThat(store.find("session-3")).isPresent();
+			assertThat(store.size()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	@DisplayName("압축하면 폐기/만료된 레코드가 사라지고 남은 세션은 유지된다")
+	void compactionDropsGarbage() {
+		Path log = directory.resolve("sessions.log");
+		try (MappedSessionStore store = open(log)) {
+			for (int i = 0; i < 1_000; i++) {
+				store.save("session-" + i, new Principal("user-" + i), clock.instant().plusSeconds(i % 2 == 0 ? 10 : 600));
+			}
+			for (int i = 1; i < 1_000; i += 4) {
+				store.revoke("session-" + i);
+			}
+			clock.advance(Duration.ofSeconds(30));
+			long before = store.logBytes();
+
+			store.compact();
+
+			assertThat(store.logBytes()).isLessThan(before / 2);
+			assertThat(store.size()).isEqualTo(250);
+			assertThat(store.find("session-3")).map(Principal::getUserId).contains("user-3");
+		}
+		try (MappedSessionStore store = open(log)) {
+			assertThat(store.size()).isEqualTo(250);
+		}
+	}
+
+	@Test
+	@DisplayName("syncOnWrite면 압축 후 디렉터리까지 기록하고 이어서 저장한 세션도 복구된다")
+	void compactionWithSyncOnWriteKeepsLaterAppends() {
+		Path log = directory.resolve("sessions.log");
+		try (MappedSessionStore store = MappedSessionStore.builder(log).clock(clock).initialSize(4096).syncOnWrite(true).build()) {
+			store.save("session-1", new Principal("user-1"));
+			store.save("session-2", new Principal("user-2"));
+			store.revoke("session-2");
+
+			store.compact();
+			store.save("session-3", new Principal("user-3"));
+			store.revoke("session-1");
+		}
+
+		try (MappedSessionStore store = open(log)) {
+			assertThat(store.find("session-1")).isEmpty();
+			assertThat(store.find("session-3")).isPresent();
+			assertThat(store.size()).isEqualTo(1);
+		}
+	}
+
+	@Test
+	@DisplayName("저장과 폐기를 반복해도 가비지가 쌓이면 로그를 늘리지 않고 압축한다")
+	void compactsInsteadOfGrowing() {
+		Path log = directory.resolve("sessions.log");
+		try (MappedSessionStore store = open(log)) {
+			for (int i = 0; i < 10_000; i++) {
+				store.save("session-" + i, new Principal("user-" + i));
+				store.revoke("session-" + i);
+			}
+			store.save("session-last", new Principal("user-last"));
+
+			assertThat(store.logBytes()).isLessThan(4096);
+			assertThat(store.find("session-last")).isPresent();
+		}
+	}
+
+	@Test
+	@DisplayName("디스크에 기록할 수 없는 속성 타입은 거부한다")
+	void rejectsAttributesThatNeedJavaSerialization() {
+		try (MappedSessionStore store = open(directory.resolve("sessions.log"))) {
+			Principal principal = new Principal("user-1", List.of(), Map.of("since", new Date()));
+
+			assertThatThrownBy(() -> store.save("session-1", principal))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	private MappedSessionStore open(Path log) {
+		return MappedSessionStore.builder(log).clock(clock).initialSize(4096).build();
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.auth.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth.api.model.Principal;
+
+class OffHeapSessionStoreTest {
+
+	private static final Instant NOW = Instant.parse("2026-03-15T00:00:00Z");
+
+	private final SessionIdGenerator generator = new SecureRandomSessionIdGenerator();
+	private final OffHeapSessionStore store = new OffHeapSessionStore(Clock.fixed(NOW, ZoneOffset.UTC), 4);
+
+	@Test
+	@DisplayName("저장한 Principal을 권한과 속성까지 그대로 복원한다")
+	void findMaterializesStoredPrincipal() {
+		String sessionId = generator.generate();
+		Principal principal = new Principal(
+			"user-1",
+			List.of("ADMIN", "USER"),
+			Map.of("dept", "IT", "level", 3, "tags", List.of("a", "b"), "flags", Map.of("beta", true))
+		);
+
+		store.save(sessionId, principal);
+
+		Principal found = store.find(sessionId).orElseThrow();
+		assertThat(found.getUserId()).isEqualTo("user-1");
+		assertThat(found.getAuthorities()).containsExactly("ADMIN", "USER");
+		assertThat(found.getAttributes()).isEqualTo(principal.getAttributes());
+	}
+
+	@Test
+	@DisplayName("폐기되거나 만료된 세션은 조회되지 않는다")
+	void revokedAndExpiredSessionsAreAbsent() {
+		String revoked = generator.generate();
+		String expired = generator.generate();
+		store.save(revoked, new Principal("user-1"), NOW.plusSeconds(60));
+		store.save(expired, new Principal("user-2"), NOW.minusSeconds(1));
+
+		store.revoke(revoked);
+
+		assertThat(store.find(revoked)).isEmpty();
+		assertThat(store.find(expired)).isEmpty();
+		assertThat(store.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("많은 세션을 저장/폐기해도 테이블 확장과 버퍼 압축 후 값이 유지된다")
+	void survivesRehashAndCompaction() {
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 5_000; i++) {
+			String sessionId = generator.generate();
+			ids.add(sessionId);
+			store.save(sessionId, new Principal("user-" + i, List.of("USER")));
+		}
+		for (int i = 0; i < ids.size(); i += 2) {
+			store.revoke(ids.get(i));
+		}
+		for (int i = 0; i < 5_000; i++) {
+			store.save(generator.generate(), new Principal("extra-" + i));
+		}
+
+		for (int i = 1; i < ids.size(); i += 2) {
+			assertThat(store.find(ids.get(i))).map(Principal::getUserId).contains("user-" + i);
+		}
+		assertThat(store.size()).isEqualTo(7_500);
+	}
+
+	@Test
+	@DisplayName("touch는 만료 시각을 늘린다")
+	void touchExtendsExpiry() {
+		String sessionId = generator.generate();
+		store.save(sessionId, new Principal("user-1"), NOW.plusSeconds(60));
+
+		assertThat(store.touch(sessionId, NOW.plusSeconds(600))).isTrue();
+		assertThat(store.findSession(sessionId)).map(StoredSession::expiresAt).contains(NOW.plusSeconds(600));
+	}
+
+	@Test
+	@DisplayName("24바이트 URL-safe Base64 형식이 아닌 세션 ID는 저장할 수 없다")
+	void rejectsNonBinarySessionIds() {
+		assertThatThrownBy(() -> store.save("session-42", new Principal("user-1")))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThat(store.find("session-42")).isEmpty();
+	}
+}
@@ -2,7 +2,13 @@ package com.auth.session;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +41,114 @@ class SessionServiceTest {
 		assertThat(service.resolve(sessionId)).isEmpty();
 	}
 
+	@Test
+	@DisplayName("세션 TTL이 지나면 더 이상 조회되지 않는다")
+	void sessionExpiresAfterTtl() {
+		Instant issuedAt = Instant.parse("2026-03-15T00:00:00Z");
+		SimpleSessionStore expiringStore = new SimpleSessionStore(Clock.fixed(issuedAt.plus(Duration.ofMinutes(31)), ZoneOffset.UTC));
+		SessionService expiringService = new SessionService(
+			expiringStore, generator, Duration.ofMinutes(30), Clock.fixed(issuedAt, ZoneOffset.UTC));
+
+		String sessionId = expiringService.create(principal("user-1"));
+
+		assertThat(expiringService.resolve(sessionId)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("슬라이딩 만료는 남은 수명이 임계값보다 작을 때만 세션을 연장한다")
+	void slidingExpirationTouchesOnlyBelowThreshold() {
+		Instant issuedAt = Instant.parse("2026-03-15T00:00:00Z");
+		CountingSessionStore countingStore = new CountingSessionStore(new SimpleSessionStore(Clock.fixed(issuedAt, ZoneOffset.UTC)));
+		String sessionId = new SessionService(countingStore, generator, Duration.ofMinutes(30), Clock.fixed(issuedAt, ZoneOffset.UTC))
+			.create(principal("user-1"));
+
+		SessionService early = new SessionService(
+			countingStore, generator, Duration.ofMinutes(30), Clock.fixed(issuedAt.plus(Duration.ofMinutes(5)), ZoneOffset.UTC), Duration.ofMinutes(10));
+		assertThat(early.resolve(sessionId)).isPresent();
+		assertThat(countingStore.touches.get()).isZero();
+
+		SessionService late = new SessionService(
+			countingStore, generator, Duration.ofMinutes(30), Clock.fixed(issuedAt.plus(Duration.ofMinutes(25)), ZoneOffset.UTC), Duration.ofMinutes(10));
+		assertThat(late.resolve(sessionId)).isPresent();
+		assertThat(countingStore.touches.get()).isEqualTo(1);
+		assertThat(countingStore.findSession(sessionId))
+			.map(StoredSession::expiresAt)
+			.contains(issuedAt.plus(Duration.ofMinutes(55)));
+	}
+
+	@Test
+	@DisplayName("같은 세션에 대한 동시 연장 요청은 한 번의 쓰기로 합쳐진다")
+	void concurrentTouchesAreCoalesced() throws Exception {
+		Instant issuedAt = Instant.parse("2026-03-15T00:00:00Z");
+		CountDownLatch touchStarted = new CountDownLatch(1);
+		CountDownLatch releaseTouch = new CountDownLatch(1);
+		CountingSessionStore blockingStore = new CountingSessionStore(new SimpleSessionStore(Clock.fixed(issuedAt, ZoneOffset.UTC))) {
+			@Override
+			public boolean touch(String sessionId, Instant expiresAt) {
+				touchStarted.countDown();
+				try {
+					releaseTouch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return super.touch(sessionId, expiresAt);
+			}
+		};
+		blockingStore.save("session-42", principal("user-1"), issuedAt.plus(Duration.ofMinutes(1)));
+		SessionService sliding = new SessionService(
+			blockingStore, generator, Duration.ofMinutes(30), Clock.fixed(issuedAt, ZoneOffset.UTC), Duration.ofMinutes(10));
+
+		Thread first = new Thread(() -> sliding.resolve("session-42"));
+		first.start();
+		touchStarted.await();
+
+		assertThat(sliding.resolve("session-42")).isPresent();
+		releaseTouch.countDown();
+		first.join();
+
+		assertThat(blockingStore.touches.get()).isEqualTo(1);
+	}
+
+	private static class CountingSessionStore implements SessionStore {
+		private final SessionStore delegate;
+		private final AtomicInteger touches = new AtomicInteger();
+
+		CountingSessionStore(SessionStore delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void save(String sessionId, Principal principal) {
+			delegate.save(sessionId, principal);
+		}
+
+		@Override
+		public void save(String sessionId, Principal principal, Instant expiresAt) {
+			delegate.save(sessionId, principal, expiresAt);
+		}
+
+		@Override
+		public Optional<Principal> find(String sessionId) {
+			return delegate.find(sessionId);
+		}
+
+		@Override
+		public Optional<StoredSession> findSession(String sessionId) {
+			return delegate.findSession(sessionId);
+		}
+
+		@Override
+		public boolean touch(String sessionId, Instant expiresAt) {
+			touches.incrementAndGet();
+			return delegate.touch(sessionId, expiresAt);
+		}
+
+		@Override
+		public void revoke(String sessionId) {
+			delegate.revoke(sessionId);
+		}
+	}
+
 	private static Principal principal(String userId) {
 		return new Principal(userId);
 	}
@@ -0,0 +1,100 @@
+package com.auth.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.auth.api.model.Principal;
+
+class SimpleSessionStoreTest {
+
+	private final MutableClock clock = new MutableClock(Instant.parse("2026-03-15T00:00:00Z"));
+	private final SimpleSessionStore store = new SimpleSessionStore(clock);
+
+	@Test
+	@DisplayName("만료 시각이 지난 세션은 조회되지 않는다")
+	void findTreatsExpiredSessionAsAbsent() {
+		store.save("session-1", principal("user-1"), clock.instant().plusSeconds(30));
+
+		assertThat(store.find("session-1")).isPresent();
+
+		clock.advance(Duration.ofSeconds(30));
+		assertThat(store.find("session-1")).isEmpty();
+	}
+
+	@Test
+	@DisplayName("purgeExpired는 만료된 세션만 정리한다")
+	void purgeExpiredRemovesOnlyDueSessions() {
+		store.save("short", principal("user-1"), clock.instant().plusSeconds(10));
+		store.save("long", principal("user-2"), clock.instant().plusSeconds(100));
+
+		clock.advance(Duration.ofSeconds(11));
+
+		assertThat(store.purgeExpired()).isEqualTo(1);
+		assertThat(store.size()).isEqualTo(1);
+		assertThat(store.find("long")).isPresent();
+	}
+
+	@Test
+	@DisplayName("저장 시 밀린 만료 세션을 점진적으로 정리한다")
+	void saveSweepsDueBucketsIncrementally() {
+		for (int i = 0; i < 100; i++) {
+			store.save("session-" + i, principal("user-" + i), clock.instant().plusSeconds(5));
+		}
+		clock.advance(Duration.ofSeconds(6));
+
+		store.save("fresh", principal("user-fresh"), clock.instant().plusSeconds(60));
+
+		assertThat(store.size()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 세션을 더 긴 만료로 다시 저장하면 이전 만료 시각에 정리되지 않는다")
+	void resaveExtendsExpiry() {
+		store.save("session-1", principal("user-1"), clock.instant().plusSeconds(10));
+		store.save("session-1", principal("user-1"), clock.instant().plusSeconds(100));
+
+		clock.advance(Duration.ofSeconds(11));
+		store.purgeExpired();
+
+		assertThat(store.find("session-1")).isPresent();
+	}
+
+	private static Principal principal(String userId) {
+		return new Principal(userId);
+	}
+
+	private static final class MutableClock extends Clock {
+		private Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void advance(Duration duration) {
+			now = now.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}